@@ -206,6 +206,16 @@ public final class Constants {
 	 */
 	public static final String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the default test execution mode for
+	 * invocations of test templates: {@value}
+	 *
+	 * @since 6.2
+	 * @see Execution#DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME;
+
 	/**
 	 * Internal prefix for all configuration parameters concerning parallel test
 	 * execution.
@@ -217,19 +227,69 @@ public final class Constants {
 	 * Property name used to determine the desired parallel executor service
 	 * type: {@value}
 	 *
-	 * <p>Value must be {@code FORK_JOIN_POOL} or {@code WORKER_THREAD_POOL},
-	 * ignoring case.
+	 * <p>Value must be {@code FORK_JOIN_POOL}, {@code WORKER_THREAD_POOL}, or
+	 * {@code VIRTUAL_THREADS}, ignoring case.
 	 *
 	 */
 	public static final String PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ "executor-service";
 
+	/**
+	 * Property name used to determine the work queue of the
+	 * {@code WORKER_THREAD_POOL} parallel executor service: {@value}
+	 *
+	 * <p>Value must be {@code shared} (default) or {@code per-worker}, ignoring
+	 * case. With {@code per-worker}, each worker thread maintains its own deque
+	 * of forked tasks and only steals from other workers when it runs out of
+	 * work, which reduces contention on machines with many cores.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_CONFIG_WORK_QUEUE_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX + "work-queue";
+
+	/**
+	 * Property name used to specify the path of a test duration history file
+	 * used by the {@code WORKER_THREAD_POOL} parallel executor service to start
+	 * long-running test classes and methods first: {@value}
+	 *
+	 * <p>The history file is typically written during a previous run by the
+	 * {@code TestDurationHistoryListener} which is enabled by setting the
+	 * {@code junit.platform.listeners.duration.history.file} configuration
+	 * parameter.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_CONFIG_DURATION_HISTORY_FILE_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ "duration-history-file";
+
+	/**
+	 * Property name used to limit the number of invocations of a single test
+	 * or class template, such as a {@code @ParameterizedTest} method or a
+	 * {@code @ParameterizedClass}, that are scheduled for concurrent execution
+	 * at the same time: {@value}
+	 *
+	 * <p>Once the limit is reached, further invocations are only created after
+	 * the oldest scheduled invocation has finished. This bounds the number of
+	 * pending invocations of templates that produce a large number of
+	 * invocations, for example, by reading them from a file.
+	 *
+	 * <p>Value must be a positive integer; defaults to no limit.
+	 *
+	 * @since 6.2
+	 * @see #DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ "invocations.max-concurrent";
+
 	/**
 	 * Property name used to select the parallel execution configuration
 	 * strategy: {@value}
 	 *
-	 * <p>Potential values: {@code dynamic} (default), {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 *
 	 */
 	public static final String PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX + "strategy";
@@ -279,6 +339,45 @@ public final class Constants {
 	 */
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX + "dynamic.factor";
 
+	/**
+	 * Property name used to set the minimum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ "adaptive.min-parallelism";
+
+	/**
+	 * Property name used to set the maximum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be an integer greater than or equal to
+	 * {@value #PARALLEL_CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME}; defaults
+	 * to {@code 256}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ "adaptive.max-parallelism";
+
+	/**
+	 * Property name used to set the interval in milliseconds at which the
+	 * {@code adaptive} configuration strategy samples the state of the worker
+	 * threads: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 500}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ "adaptive.sampling-interval";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@code custom} parallel execution configuration strategy to be used:
@@ -394,6 +493,16 @@ public final class Constants {
 	 */
 	public static final String DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME = Timeout.DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to select the executor service for timeouts using
+	 * the separate thread mode: {@value}
+	 *
+	 * @since 6.2
+	 * @see Timeout#SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String TIMEOUT_SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME = Timeout.SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default factory for temporary directories
 	 * created via the {@link TempDir @TempDir} annotation: {@value}
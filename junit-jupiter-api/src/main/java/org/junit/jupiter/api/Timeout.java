@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -336,6 +337,29 @@ public @interface Timeout {
 	@API(status = MAINTAINED, since = "5.13.3")
 	String DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME = "junit.jupiter.execution.timeout.thread.mode.default";
 
+	/**
+	 * Property name used to select the executor service that runs testable and
+	 * lifecycle methods using {@link ThreadMode#SEPARATE_THREAD}: {@value}.
+	 *
+	 * <h4>Supported values (case insensitive):</h4>
+	 * <ul>
+	 * <li>{@code THREAD_PER_INVOCATION}: executes each method in a new thread;
+	 * a virtual thread if supported by the Java runtime and a daemon platform
+	 * thread otherwise
+	 * <li>{@code THREAD_POOL}: reuses the threads of a pool of daemon threads;
+	 * values of thread-local variables set by one method are visible to
+	 * subsequent methods executed by the same thread
+	 * <li>{@code VIRTUAL_THREADS}: executes each method in a new virtual
+	 * thread; requires Java 21 or later
+	 * </ul>
+	 *
+	 * <p>If not specified, the default is {@code THREAD_PER_INVOCATION}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	String SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME = "junit.jupiter.execution.timeout.separate-thread.executor-service";
+
 	/**
 	 * The duration of this timeout.
 	 *
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.parallel;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -40,10 +41,16 @@ import org.junit.jupiter.api.TestInstance;
  *     <dd>Default execution mode for all classes and tests</dd>
  *     <dt>{@value #DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME}</dt>
  *     <dd>Default execution mode for top-level classes</dd>
+ *     <dt>{@value #DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME}</dt>
+ *     <dd>Default execution mode for invocations of test templates</dd>
  * </dl>
  *
  * <p>{@value #DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME} overrides
  * {@value #DEFAULT_EXECUTION_MODE_PROPERTY_NAME} for top-level classes.
+ * Similarly, {@value #DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME}
+ * overrides {@value #DEFAULT_EXECUTION_MODE_PROPERTY_NAME} for invocations of
+ * {@code @TestTemplate}, {@code @ParameterizedTest}, and {@code @RepeatedTest}
+ * methods.
  *
  * <p>The default execution mode is not applied to classes that use the
  * {@link TestInstance.Lifecycle#PER_CLASS PER_CLASS} lifecycle or a
@@ -98,6 +105,26 @@ public @interface Execution {
 	@API(status = MAINTAINED, since = "5.13.3")
 	String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.classes.default";
 
+	/**
+	 * Property name used to set the default test execution mode for
+	 * invocations of test templates such as {@code @ParameterizedTest} and
+	 * {@code @RepeatedTest} methods: {@value}
+	 *
+	 * <p>This setting is only effective if parallel execution is enabled.
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <p>Supported values include names of enum constants defined in
+	 * {@link ExecutionMode}, ignoring case.
+	 *
+	 * <p>If not specified, it will be resolved into the same value as
+	 * {@link #DEFAULT_EXECUTION_MODE_PROPERTY_NAME}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	String DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.invocations.default";
+
 	/**
 	 * The required/preferred execution mode.
 	 *
@@ -15,7 +15,11 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.commons.util.ExceptionUtils.throwAsUncheckedException;
 
 import java.io.Serial;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.time.Duration;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -24,7 +28,6 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
@@ -32,6 +35,7 @@ import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.ThrowingSupplier;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
  * Internal utilities for executing code with a preemptive timeout.
@@ -48,6 +52,10 @@ public class PreemptiveTimeoutUtils {
 	 * <p>See the {@linkplain Assertions Preemptive Timeouts} section of the
 	 * class-level Javadoc for further details.
 	 *
+	 * <p>The {@code supplier} is executed in a new thread that is not reused
+	 * for subsequent invocations: a virtual thread if supported by the Java
+	 * runtime and a daemon platform thread otherwise.
+	 *
 	 * <p>If the assertion passes then the {@code supplier}'s result is returned.
 	 *
 	 * <p>In the case the assertion does not pass, the supplied
@@ -61,30 +69,48 @@ public class PreemptiveTimeoutUtils {
 			ThrowingSupplier<T> supplier, @Nullable Supplier<@Nullable String> messageSupplier,
 			TimeoutFailureFactory<E> failureFactory) throws E {
 
-		AtomicReference<Thread> threadReference = new AtomicReference<>();
-		ExecutorService executorService = Executors.newSingleThreadExecutor(new TimeoutThreadFactory());
-
+		ExecutorService executorService = Executors.newSingleThreadExecutor(TimeoutThreadFactory.INSTANCE);
 		try {
-			Future<T> future = submitTask(supplier, threadReference, executorService);
-			return resolveFutureAndHandleException(future, timeout, messageSupplier, threadReference::get,
-				failureFactory);
+			return executeWithPreemptiveTimeout(timeout, supplier, messageSupplier, failureFactory, executorService);
 		}
 		finally {
 			executorService.shutdownNow();
 		}
 	}
 
-	private static <T extends @Nullable Object> Future<T> submitTask(ThrowingSupplier<T> supplier,
-			AtomicReference<Thread> threadReference, ExecutorService executorService) {
-		return executorService.submit(() -> {
-			try {
-				threadReference.set(Thread.currentThread());
-				return supplier.get();
-			}
-			catch (Throwable throwable) {
-				throw throwAsUncheckedException(throwable);
-			}
-		});
+	/**
+	 * <em>Assert</em> that execution of the supplied {@code supplier} using
+	 * the supplied {@code executorService} completes before the given
+	 * {@code timeout} is exceeded.
+	 *
+	 * <p>The {@code supplier} is executed using the context class loader of
+	 * the calling thread. If the {@code supplier} is still running when this
+	 * method returns, the thread executing it is interrupted. Before the task
+	 * completes, its interrupted status is cleared and the thread's original
+	 * context class loader is restored so that the thread can be reused for
+	 * other tasks. Other thread-local state set by the {@code supplier} is
+	 * <em>not</em> cleared. The supplied {@code executorService} is not shut
+	 * down.
+	 *
+	 * @since 6.2
+	 * @see #executeWithPreemptiveTimeout(Duration, ThrowingSupplier, Supplier, TimeoutFailureFactory)
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	public static <T extends @Nullable Object, E extends Throwable> T executeWithPreemptiveTimeout(Duration timeout,
+			ThrowingSupplier<T> supplier, @Nullable Supplier<@Nullable String> messageSupplier,
+			TimeoutFailureFactory<E> failureFactory, ExecutorService executorService) throws E {
+
+		PreemptibleTask<T> task = new PreemptibleTask<>(supplier, Thread.currentThread().getContextClassLoader());
+		Future<T> future = executorService.submit(task);
+
+		try {
+			return resolveFutureAndHandleException(future, timeout, messageSupplier, task::getThread,
+				failureFactory);
+		}
+		finally {
+			future.cancel(false);
+			task.interrupt();
+		}
 	}
 
 	private static <T extends @Nullable Object, E extends Throwable> T resolveFutureAndHandleException(Future<T> future,
@@ -143,19 +169,120 @@ public class PreemptiveTimeoutUtils {
 
 	}
 
+	/**
+	 * Task that executes a supplier using the context class loader of the
+	 * thread that created it.
+	 *
+	 * <p>The executing thread is only interrupted via {@link #interrupt()}
+	 * while the supplier is being executed, and its interrupted status is
+	 * cleared afterward. Thus, interrupting an execution that exceeded its
+	 * timeout does not affect subsequent tasks executed by the same thread.
+	 *
+	 * @since 6.2
+	 */
+	private static class PreemptibleTask<T extends @Nullable Object> implements Callable<T> {
+
+		private final ThrowingSupplier<T> supplier;
+		private final @Nullable ClassLoader contextClassLoader;
+
+		private volatile @Nullable Thread thread;
+
+		// guarded by this
+		private boolean running;
+		private boolean interrupted;
+
+		PreemptibleTask(ThrowingSupplier<T> supplier, @Nullable ClassLoader contextClassLoader) {
+			this.supplier = supplier;
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public T call() {
+			Thread currentThread = Thread.currentThread();
+			ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+			synchronized (this) {
+				this.thread = currentThread;
+				this.running = true;
+				if (this.interrupted) {
+					currentThread.interrupt();
+				}
+			}
+			currentThread.setContextClassLoader(this.contextClassLoader);
+			try {
+				return this.supplier.get();
+			}
+			catch (Throwable throwable) {
+				throw throwAsUncheckedException(throwable);
+			}
+			finally {
+				currentThread.setContextClassLoader(originalClassLoader);
+				synchronized (this) {
+					this.running = false;
+				}
+				// the supplier might not have reacted to being interrupted
+				Thread.interrupted();
+			}
+		}
+
+		@Nullable
+		Thread getThread() {
+			return this.thread;
+		}
+
+		synchronized void interrupt() {
+			this.interrupted = true;
+			Thread thread = this.thread;
+			if (this.running && thread != null) {
+				thread.interrupt();
+			}
+		}
+
+	}
+
 	/**
 	 * The thread factory used for preemptive timeout.
 	 *
 	 * <p>The factory creates threads with meaningful names, helpful for debugging
-	 * purposes.
+	 * purposes. Virtual threads are created if supported by the Java runtime.
+	 * They are created via reflection since the minimum Java version supported
+	 * by this module does not provide the required API.
 	 */
 	private static class TimeoutThreadFactory implements ThreadFactory {
 
-		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+		private static final String THREAD_NAME_PREFIX = "junit-timeout-thread-";
+
+		static final TimeoutThreadFactory INSTANCE = new TimeoutThreadFactory();
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+		private final @Nullable ThreadFactory virtualThreadFactory = createVirtualThreadFactory();
 
 		@Override
 		public Thread newThread(Runnable r) {
-			return new Thread(r, "junit-timeout-thread-" + threadNumber.getAndIncrement());
+			if (this.virtualThreadFactory != null) {
+				return this.virtualThreadFactory.newThread(r);
+			}
+			Thread thread = new Thread(r, THREAD_NAME_PREFIX + this.threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+		private static @Nullable ThreadFactory createVirtualThreadFactory() {
+			try {
+				var lookup = MethodHandles.publicLookup();
+				var builderType = Class.forName("java.lang.Thread$Builder");
+				var ofVirtualType = Class.forName("java.lang.Thread$Builder$OfVirtual");
+				MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+					MethodType.methodType(ofVirtualType));
+				MethodHandle name = lookup.findVirtual(ofVirtualType, "name",
+					MethodType.methodType(ofVirtualType, String.class, long.class));
+				MethodHandle factory = lookup.findVirtual(builderType, "factory",
+					MethodType.methodType(ThreadFactory.class));
+				return (ThreadFactory) factory.invoke(name.invoke(ofVirtual.invoke(), THREAD_NAME_PREFIX, 1L));
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				return null;
+			}
 		}
 
 	}
@@ -1,5 +1,6 @@
 plugins {
 	id("junitbuild.java-library-conventions")
+	id("junitbuild.jmh-conventions")
 	`java-test-fixtures`
 }
 
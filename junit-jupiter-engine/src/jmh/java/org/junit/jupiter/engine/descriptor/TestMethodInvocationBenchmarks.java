@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.engine.config.DefaultJupiterConfiguration;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.jupiter.engine.execution.InterceptingExecutableInvoker;
+import org.junit.jupiter.engine.execution.LauncherStoreFacade;
+import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.OutputDirectoryCreator;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
+import org.junit.platform.engine.support.store.Namespace;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of invoking an empty test method via the
+ * {@link InterceptingExecutableInvoker} with the default extensions registered,
+ * with and without a default timeout.
+ *
+ * <p>Discovery and the remaining steps of executing a test are not included.
+ * This class resides in this package in order to create the engine's
+ * {@link ExtensionContext} directly.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class TestMethodInvocationBenchmarks {
+
+	@Param({ "none", "5m" })
+	public String defaultTimeout;
+
+	private final InterceptingExecutableInvoker invoker = new InterceptingExecutableInvoker();
+	private final EmptyTestCase testInstance = new EmptyTestCase();
+
+	private NamespacedHierarchicalStore<Namespace> requestLevelStore;
+	private MutableExtensionRegistry extensionRegistry;
+	private JupiterEngineExtensionContext extensionContext;
+	private Method testMethod;
+
+	@Setup
+	public void setUp() throws Exception {
+		Map<String, String> parameters = "none".equals(defaultTimeout) //
+				? Map.of() //
+				: Map.of(Timeout.DEFAULT_TIMEOUT_PROPERTY_NAME, defaultTimeout);
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(
+			new MapConfigurationParameters(parameters), new UnsupportedOutputDirectoryCreator(),
+			DiscoveryIssueReporter.consuming(issue -> {
+			}));
+		requestLevelStore = new NamespacedHierarchicalStore<>(new NamespacedHierarchicalStore<>(null));
+		extensionRegistry = MutableExtensionRegistry.createRegistryWithDefaultExtensions(configuration);
+		extensionContext = new JupiterEngineExtensionContext(EngineExecutionListener.NOOP,
+			new JupiterEngineDescriptor(UniqueId.forEngine(JupiterEngineDescriptor.ENGINE_ID), configuration),
+			configuration, extensionRegistry, new LauncherStoreFacade(requestLevelStore));
+		testMethod = EmptyTestCase.class.getDeclaredMethod("test");
+	}
+
+	@TearDown
+	public void tearDown() {
+		extensionContext.close();
+		requestLevelStore.close();
+	}
+
+	@Benchmark
+	public void invokeEmptyTestMethod() {
+		invoker.invokeVoid(testMethod, testInstance, extensionContext, extensionRegistry,
+			InvocationInterceptor::interceptTestMethod);
+	}
+
+	public static class EmptyTestCase {
+
+		void test() {
+		}
+
+	}
+
+	private record MapConfigurationParameters(Map<String, String> parameters) implements ConfigurationParameters {
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.ofNullable(parameters.get(key));
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return get(key).map(Boolean::parseBoolean);
+		}
+
+		@Override
+		public Set<String> keySet() {
+			return parameters.keySet();
+		}
+	}
+
+	private static class UnsupportedOutputDirectoryCreator implements OutputDirectoryCreator {
+
+		@Override
+		public Path getRootDirectory() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Path createOutputDirectory(TestDescriptor testDescriptor) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares scheduling and cancelling a timeout that does not expire, as done
+ * for each test using {@code ThreadMode.SAME_THREAD}, using the
+ * {@link HashedWheelTimer} and a {@link ScheduledThreadPoolExecutor} with a
+ * single thread, as used previously.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(4)
+public class TimeoutTimerBenchmarks {
+
+	private static final Runnable NOOP = () -> {
+	};
+
+	private HashedWheelTimer timer;
+
+	private ScheduledThreadPoolExecutor executor;
+
+	@Setup
+	public void setUp() {
+		timer = new HashedWheelTimer("timer", Duration.ofMillis(10), 512);
+		executor = new ScheduledThreadPoolExecutor(1);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		timer.close();
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	public boolean hashedWheelTimer() {
+		return timer.schedule(NOOP, 5, TimeUnit.MINUTES).cancel();
+	}
+
+	@Benchmark
+	public boolean scheduledExecutor() {
+		return executor.schedule(NOOP, 5, TimeUnit.MINUTES).cancel(false);
+	}
+
+}
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Constants.CLOSING_STORED_AUTO_CLOSEABLE_ENAB
 import static org.junit.jupiter.api.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_DISPLAY_NAME_GENERATOR_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_EXECUTION_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEMP_DIR_CLEANUP_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEMP_DIR_DELETION_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEMP_DIR_FACTORY_PROPERTY_NAME;
@@ -24,6 +25,7 @@ import static org.junit.jupiter.api.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PR
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 
 import java.util.Optional;
@@ -115,6 +117,18 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.getDefaultClassesExecutionMode());
 	}
 
+	@Override
+	public ExecutionMode getDefaultInvocationsExecutionMode() {
+		return (ExecutionMode) cache.computeIfAbsent(DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME,
+			__ -> delegate.getDefaultInvocationsExecutionMode());
+	}
+
+	@Override
+	public int getMaxConcurrentInvocations() {
+		return (int) cache.computeIfAbsent(PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME,
+			__ -> delegate.getMaxConcurrentInvocations());
+	}
+
 	@Override
 	public TestInstance.Lifecycle getDefaultTestInstanceLifecycle() {
 		return (TestInstance.Lifecycle) cache.computeIfAbsent(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROP
 import static org.junit.jupiter.api.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_DISPLAY_NAME_GENERATOR_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_EXECUTION_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEMP_DIR_CLEANUP_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEMP_DIR_DELETION_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEMP_DIR_FACTORY_PROPERTY_NAME;
@@ -29,6 +30,7 @@ import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_EXCLUDE_P
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_INCLUDE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.io.CleanupMode.ALWAYS;
 import static org.junit.jupiter.engine.config.FilteringConfigurationParameterConverter.exclude;
@@ -54,6 +56,7 @@ import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDirDeletionStrategy;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -198,6 +201,34 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 			DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME, getDefaultExecutionMode());
 	}
 
+	@Override
+	public ExecutionMode getDefaultInvocationsExecutionMode() {
+		return executionModeConverter.getOrDefault(configurationParameters,
+			DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME, getDefaultExecutionMode());
+	}
+
+	@Override
+	public int getMaxConcurrentInvocations() {
+		return configurationParameters.get(PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME) //
+				.map(value -> parseMaxConcurrentInvocations(value.strip())) //
+				.orElse(Integer.MAX_VALUE);
+	}
+
+	private static int parseMaxConcurrentInvocations(String value) {
+		try {
+			int maxConcurrentInvocations = Integer.parseInt(value);
+			if (maxConcurrentInvocations > 0) {
+				return maxConcurrentInvocations;
+			}
+		}
+		catch (NumberFormatException ignored) {
+			// fall through
+		}
+		throw new JUnitException(("Invalid maximum number of concurrent invocations '%s' set via the '%s' "
+				+ "configuration parameter; value must be a positive integer.").formatted(value,
+					PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME));
+	}
+
 	@Override
 	public Lifecycle getDefaultTestInstanceLifecycle() {
 		return lifecycleConverter.getOrDefault(configurationParameters, DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
@@ -57,6 +57,10 @@ public interface JupiterConfiguration {
 
 	ExecutionMode getDefaultClassesExecutionMode();
 
+	ExecutionMode getDefaultInvocationsExecutionMode();
+
+	int getMaxConcurrentInvocations();
+
 	TestInstance.Lifecycle getDefaultTestInstanceLifecycle();
 
 	Predicate<ExecutionCondition> getExecutionConditionFilter();
@@ -30,7 +30,7 @@ class CallbackSupport {
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		for (T callback : registry.getExtensions(type)) {
+		for (T callback : registry.getUnmodifiableExtensions(type)) {
 			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
 			if (throwableCollector.isNotEmpty()) {
 				break;
@@ -45,7 +45,7 @@ class CallbackSupport {
 		ExtensionContext extensionContext = context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		forEachInReverseOrder(registry.getExtensions(type), //
+		forEachInReverseOrder(registry.getUnmodifiableExtensions(type), //
 			callback -> throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext)));
 	}
 
@@ -294,7 +294,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 	}
 
 	private @Nullable TestInstanceFactory resolveTestInstanceFactory(ExtensionRegistry registry) {
-		List<TestInstanceFactory> factories = registry.getExtensions(TestInstanceFactory.class);
+		List<TestInstanceFactory> factories = registry.getUnmodifiableExtensions(TestInstanceFactory.class);
 
 		if (factories.size() == 1) {
 			return factories.get(0);
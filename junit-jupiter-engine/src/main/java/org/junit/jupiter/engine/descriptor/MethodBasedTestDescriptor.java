@@ -72,6 +72,22 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor
 		this.methodInfo = new MethodInfo(testClass, testMethod);
 	}
 
+	/**
+	 * Create a descriptor for the method of the supplied prototype that shares
+	 * its source and method-level metadata, such as tags, instead of computing
+	 * them again.
+	 *
+	 * <p>Intended for descriptors that are registered for each invocation of
+	 * the same method.
+	 *
+	 * @since 6.2
+	 */
+	MethodBasedTestDescriptor(UniqueId uniqueId, String displayName, MethodBasedTestDescriptor prototype,
+			JupiterConfiguration configuration) {
+		super(uniqueId, displayName, prototype.getSource().orElse(null), configuration);
+		this.methodInfo = prototype.methodInfo;
+	}
+
 	public final Method getTestMethod() {
 		return this.methodInfo.testMethod;
 	}
@@ -166,7 +182,7 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor
 	protected void invokeTestWatchers(JupiterEngineExecutionContext context, boolean reverseOrder,
 			Consumer<TestWatcher> callback) {
 
-		List<TestWatcher> watchers = context.getExtensionRegistry().getExtensions(TestWatcher.class);
+		List<TestWatcher> watchers = context.getExtensionRegistry().getUnmodifiableExtensions(TestWatcher.class);
 
 		Consumer<TestWatcher> action = watcher -> {
 			try {
@@ -10,8 +10,15 @@
 
 package org.junit.jupiter.engine.descriptor;
 
+import static java.util.Objects.requireNonNullElse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -42,13 +49,15 @@ abstract class TemplateExecutor<P extends Extension, C> {
 		ExtensionContext extensionContext = context.getExtensionContext();
 		List<P> providers = validateProviders(extensionContext, context.getExtensionRegistry());
 		AtomicInteger invocationIndex = new AtomicInteger();
+		InvocationScheduler scheduler = new InvocationScheduler(dynamicTestExecutor,
+			context.getConfiguration().getMaxConcurrentInvocations());
 		for (P provider : providers) {
-			executeForProvider(provider, invocationIndex, dynamicTestExecutor, extensionContext);
+			executeForProvider(provider, invocationIndex, scheduler, extensionContext);
 		}
 	}
 
-	private void executeForProvider(P provider, AtomicInteger invocationIndex,
-			Node.DynamicTestExecutor dynamicTestExecutor, ExtensionContext extensionContext) {
+	private void executeForProvider(P provider, AtomicInteger invocationIndex, InvocationScheduler scheduler,
+			ExtensionContext extensionContext) {
 
 		int initialValue = invocationIndex.get();
 
@@ -56,7 +65,7 @@ abstract class TemplateExecutor<P extends Extension, C> {
 		try {
 			stream.forEach(invocationContext -> createInvocationTestDescriptor(invocationContext,
 				invocationIndex.incrementAndGet()) //
-						.ifPresent(testDescriptor -> execute(dynamicTestExecutor, testDescriptor)));
+						.ifPresent(testDescriptor -> execute(scheduler, testDescriptor)));
 		}
 		catch (Throwable t) {
 			try {
@@ -91,9 +100,9 @@ abstract class TemplateExecutor<P extends Extension, C> {
 		return Optional.empty();
 	}
 
-	private void execute(Node.DynamicTestExecutor dynamicTestExecutor, TestDescriptor testDescriptor) {
+	private void execute(InvocationScheduler scheduler, TestDescriptor testDescriptor) {
 		testDescriptor.setParent(parent);
-		dynamicTestExecutor.execute(testDescriptor);
+		scheduler.schedule(testDescriptor);
 	}
 
 	abstract boolean supports(P provider, ExtensionContext extensionContext);
@@ -110,4 +119,53 @@ abstract class TemplateExecutor<P extends Extension, C> {
 
 	abstract TestDescriptor createInvocationTestDescriptor(UniqueId uniqueId, C invocationContext, int index);
 
+	/**
+	 * Schedules invocations for execution while limiting the number of
+	 * invocations that have been scheduled but not finished yet.
+	 *
+	 * <p>Invocations that are executed in the same thread have finished by
+	 * the time they have been scheduled. Thus, the limit only takes effect for
+	 * invocations that are executed concurrently.
+	 *
+	 * @since 6.2
+	 */
+	private static final class InvocationScheduler {
+
+		private final Node.DynamicTestExecutor dynamicTestExecutor;
+		private final int maxConcurrentInvocations;
+		private final Deque<Future<?>> pendingInvocations = new ArrayDeque<>();
+
+		InvocationScheduler(Node.DynamicTestExecutor dynamicTestExecutor, int maxConcurrentInvocations) {
+			this.dynamicTestExecutor = dynamicTestExecutor;
+			this.maxConcurrentInvocations = maxConcurrentInvocations;
+		}
+
+		void schedule(TestDescriptor testDescriptor) {
+			if (this.maxConcurrentInvocations == Integer.MAX_VALUE) {
+				this.dynamicTestExecutor.execute(testDescriptor);
+				return;
+			}
+			this.pendingInvocations.removeIf(Future::isDone);
+			while (this.pendingInvocations.size() >= this.maxConcurrentInvocations) {
+				awaitFinished(this.pendingInvocations.remove());
+			}
+			this.pendingInvocations.add(this.dynamicTestExecutor.submit(testDescriptor));
+		}
+
+		private static void awaitFinished(Future<?> invocation) {
+			try {
+				invocation.get();
+			}
+			catch (CancellationException ignore) {
+				// invocations may have been cancelled
+			}
+			catch (InterruptedException e) {
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+			catch (ExecutionException e) {
+				throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+			}
+		}
+	}
+
 }
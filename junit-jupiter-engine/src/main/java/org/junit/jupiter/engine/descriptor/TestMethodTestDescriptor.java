@@ -92,6 +92,15 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 		this.interceptorCall = interceptorCall;
 	}
 
+	/**
+	 * @since 6.2
+	 */
+	TestMethodTestDescriptor(UniqueId uniqueId, String displayName, MethodBasedTestDescriptor prototype,
+			JupiterConfiguration configuration, VoidMethodInterceptorCall interceptorCall) {
+		super(uniqueId, displayName, prototype, configuration);
+		this.interceptorCall = interceptorCall;
+	}
+
 	// --- JupiterTestDescriptor -----------------------------------------------
 
 	@Override
@@ -14,7 +14,6 @@ import static java.util.Collections.emptySet;
 import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
-import java.lang.reflect.Method;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.UnaryOperator;
@@ -48,10 +47,14 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 
 	private final int index;
 
-	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method templateMethod,
+	/**
+	 * Create a descriptor for an invocation of the method of the supplied
+	 * {@code prototype} which is typically the descriptor of the
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} method.
+	 */
+	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, MethodBasedTestDescriptor prototype,
 			TestTemplateInvocationContext invocationContext, int index, JupiterConfiguration configuration) {
-		super(uniqueId, invocationContext.getDisplayName(index), testClass, templateMethod, configuration,
-			interceptorCall);
+		super(uniqueId, invocationContext.getDisplayName(index), prototype, configuration, interceptorCall);
 		this.invocationContext = invocationContext;
 		this.index = index;
 	}
@@ -60,8 +63,13 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 
 	@Override
 	protected TestTemplateInvocationTestDescriptor withUniqueId(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		return new TestTemplateInvocationTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), getTestClass(),
-			getTestMethod(), requiredInvocationContext(), this.index, this.configuration);
+		return new TestTemplateInvocationTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), this,
+			requiredInvocationContext(), this.index, this.configuration);
+	}
+
+	@Override
+	ExecutionMode getDefaultExecutionMode() {
+		return toExecutionMode(configuration.getDefaultInvocationsExecutionMode());
 	}
 
 	// --- TestDescriptor ------------------------------------------------------
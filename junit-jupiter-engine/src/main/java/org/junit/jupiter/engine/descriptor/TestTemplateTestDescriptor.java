@@ -160,7 +160,7 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 		@Override
 		TestDescriptor createInvocationTestDescriptor(UniqueId uniqueId,
 				TestTemplateInvocationContext invocationContext, int index) {
-			return new TestTemplateInvocationTestDescriptor(uniqueId, getTestClass(), getTestMethod(),
+			return new TestTemplateInvocationTestDescriptor(uniqueId, TestTemplateTestDescriptor.this,
 				invocationContext, index, TestTemplateTestDescriptor.this.configuration);
 		}
 	}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.lang.reflect.Executable;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * {@code ConditionalInvocationInterceptor} is an {@link InvocationInterceptor}
+ * that can tell in advance whether it would do more than proceed with an
+ * invocation of a method or constructor.
+ *
+ * <p>If none of the registered interceptors needs to intercept an invocation,
+ * {@link InterceptingExecutableInvoker} invokes the executable directly
+ * instead of building the interceptor chain.
+ *
+ * @since 6.2
+ * @see InterceptingExecutableInvoker
+ */
+@API(status = INTERNAL, since = "6.2")
+public interface ConditionalInvocationInterceptor extends InvocationInterceptor {
+
+	/**
+	 * Determine whether this interceptor needs to intercept the invocation
+	 * described by the supplied contexts.
+	 *
+	 * <p>Implementations must only return {@code false} if all of their
+	 * {@code intercept*()} methods would merely proceed with the invocation.
+	 *
+	 * @param invocationContext the context of the invocation; never {@code null}
+	 * @param extensionContext the current extension context; never {@code null}
+	 * @return {@code true} if the invocation needs to be intercepted
+	 */
+	boolean isInterceptionRequired(ReflectiveInvocationContext<? extends Executable> invocationContext,
+			ExtensionContext extensionContext);
+
+}
@@ -16,6 +16,7 @@ import static org.junit.jupiter.engine.execution.ParameterResolutionUtils.resolv
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
+import java.util.List;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -66,7 +67,14 @@ public class InterceptingExecutableInvoker {
 
 	public void invokeVoid(Method method, @Nullable Object target, ExtensionContext extensionContext,
 			ExtensionRegistry extensionRegistry, VoidMethodInterceptorCall interceptorCall) {
-		this.<@Nullable Void> invoke(method, target, extensionContext, extensionRegistry,
+		@Nullable
+		Object[] arguments = resolveParameters(method, target, extensionContext, extensionRegistry);
+		MethodInvocation<@Nullable Void> invocation = new MethodInvocation<>(method, target, arguments);
+		if (!isInterceptionRequired(invocation, extensionContext, extensionRegistry)) {
+			InvocationInterceptorChain.proceed(invocation);
+			return;
+		}
+		this.<Method, @Nullable Void> intercept(invocation, invocation, extensionContext, extensionRegistry,
 			ReflectiveInterceptorCall.ofVoidMethod(interceptorCall));
 	}
 
@@ -95,6 +103,15 @@ public class InterceptingExecutableInvoker {
 	private <E extends Executable, T extends @Nullable Object> T invoke(Invocation<T> originalInvocation,
 			ReflectiveInvocationContext<E> invocationContext, ExtensionContext extensionContext,
 			ExtensionRegistry extensionRegistry, ReflectiveInterceptorCall<E, T> call) {
+		if (!isInterceptionRequired(invocationContext, extensionContext, extensionRegistry)) {
+			return InvocationInterceptorChain.proceed(originalInvocation);
+		}
+		return intercept(originalInvocation, invocationContext, extensionContext, extensionRegistry, call);
+	}
+
+	private <E extends Executable, T extends @Nullable Object> T intercept(Invocation<T> originalInvocation,
+			ReflectiveInvocationContext<E> invocationContext, ExtensionContext extensionContext,
+			ExtensionRegistry extensionRegistry, ReflectiveInterceptorCall<E, T> call) {
 		return interceptorChain.invoke(originalInvocation, extensionRegistry, (interceptor,
 				wrappedInvocation) -> call.apply(interceptor, wrappedInvocation, invocationContext, extensionContext));
 	}
@@ -102,11 +119,50 @@ public class InterceptingExecutableInvoker {
 	private <E extends Executable, T> T invoke(Invocation<T> originalInvocation,
 			ReflectiveInvocationContext<E> invocationContext, ExtensionContextSupplier extensionContext,
 			ExtensionRegistry extensionRegistry, ReflectiveInterceptorCall<E, T> call) {
+		if (!isInterceptionRequired(invocationContext, extensionContext, extensionRegistry)) {
+			return InvocationInterceptorChain.proceed(originalInvocation);
+		}
 		return interceptorChain.invoke(originalInvocation, extensionRegistry,
 			(interceptor, wrappedInvocation) -> call.apply(interceptor, wrappedInvocation, invocationContext,
 				extensionContext.get(interceptor)));
 	}
 
+	/**
+	 * Determine whether any of the registered interceptors needs to intercept
+	 * the invocation so that the interceptor chain can be skipped otherwise.
+	 *
+	 * @see ConditionalInvocationInterceptor
+	 */
+	private static boolean isInterceptionRequired(ReflectiveInvocationContext<?> invocationContext,
+			ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
+
+		List<InvocationInterceptor> interceptors = getInterceptors(extensionRegistry);
+		for (int i = 0; i < interceptors.size(); i++) {
+			if (!(interceptors.get(i) instanceof ConditionalInvocationInterceptor interceptor)
+					|| interceptor.isInterceptionRequired(invocationContext, extensionContext)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isInterceptionRequired(ReflectiveInvocationContext<?> invocationContext,
+			ExtensionContextSupplier extensionContext, ExtensionRegistry extensionRegistry) {
+
+		List<InvocationInterceptor> interceptors = getInterceptors(extensionRegistry);
+		for (int i = 0; i < interceptors.size(); i++) {
+			if (!(interceptors.get(i) instanceof ConditionalInvocationInterceptor interceptor)
+					|| interceptor.isInterceptionRequired(invocationContext, extensionContext.get(interceptor))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<InvocationInterceptor> getInterceptors(ExtensionRegistry extensionRegistry) {
+		return extensionRegistry.getUnmodifiableExtensions(InvocationInterceptor.class);
+	}
+
 	public interface ReflectiveInterceptorCall<E extends Executable, T extends @Nullable Object> {
 
 		T apply(InvocationInterceptor interceptor, Invocation<T> invocation,
@@ -32,7 +32,8 @@ public class InvocationInterceptorChain {
 
 	public <T extends @Nullable Object> T invoke(Invocation<T> invocation, ExtensionRegistry extensionRegistry,
 			InterceptorCall<T> call) {
-		List<InvocationInterceptor> interceptors = extensionRegistry.getExtensions(InvocationInterceptor.class);
+		List<InvocationInterceptor> interceptors = extensionRegistry.getUnmodifiableExtensions(
+			InvocationInterceptor.class);
 		if (interceptors.isEmpty()) {
 			return proceed(invocation);
 		}
@@ -61,7 +62,7 @@ public class InvocationInterceptorChain {
 		return result;
 	}
 
-	private <T> T proceed(Invocation<T> invocation) {
+	static <T extends @Nullable Object> T proceed(Invocation<T> invocation) {
 		try {
 			return invocation.proceed();
 		}
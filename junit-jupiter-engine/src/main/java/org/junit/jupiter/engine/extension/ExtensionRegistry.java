@@ -36,6 +36,7 @@ public interface ExtensionRegistry {
 	 *
 	 * @param extensionType the type of {@link Extension} to stream
 	 * @see #getExtensions(Class)
+	 * @see #getUnmodifiableExtensions(Class)
 	 */
 	<E extends Extension> Stream<E> stream(Class<E> extensionType);
 
@@ -50,4 +51,19 @@ public interface ExtensionRegistry {
 		return stream(extensionType).collect(toCollection(ArrayList::new));
 	}
 
+	/**
+	 * Get an unmodifiable list of all {@code Extensions} of the specified type
+	 * that are present in this registry or one of its ancestors.
+	 *
+	 * <p>In contrast to {@link #getExtensions(Class)}, implementations may
+	 * return the same list for repeated invocations.
+	 *
+	 * @param extensionType the type of {@link Extension} to get
+	 * @since 6.2
+	 * @see #getExtensions(Class)
+	 */
+	default <E extends Extension> List<E> getUnmodifiableExtensions(Class<E> extensionType) {
+		return stream(extensionType).toList();
+	}
+
 }
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * Timer that executes tasks after a delay on a single worker thread.
+ *
+ * <p>Scheduled tasks are kept in one of a fixed number of buckets based on
+ * their deadline, the so-called hashed wheel. Scheduling and cancelling a task
+ * only lock the bucket it belongs to and complete in constant time. The worker
+ * thread advances the wheel once per tick and executes the tasks of the
+ * current bucket whose deadline has been reached. Thus, tasks are executed up
+ * to one tick later than requested. While no tasks are scheduled, the worker
+ * thread is parked until the next task is scheduled.
+ *
+ * @since 6.2
+ * @see SameThreadTimeoutInvocation
+ */
+class HashedWheelTimer implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final long startTime;
+	private final Thread worker;
+
+	/**
+	 * The last tick processed by the worker thread; only written while
+	 * holding the lock of the corresponding bucket or, when skipping ticks
+	 * after being idle, before processing all buckets.
+	 */
+	private volatile long processedTick;
+
+	private final AtomicInteger pendingTasks = new AtomicInteger();
+
+	private volatile boolean closed;
+
+	@SuppressWarnings("ThreadPriorityCheck")
+	HashedWheelTimer(String threadName, Duration tickDuration, int wheelSize) {
+		Preconditions.condition(!tickDuration.isNegative() && !tickDuration.isZero(),
+			"tickDuration must be positive");
+		Preconditions.condition(wheelSize > 0 && Integer.bitCount(wheelSize) == 1,
+			"wheelSize must be a power of two");
+		this.tickNanos = tickDuration.toNanos();
+		this.wheel = new Bucket[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = wheelSize - 1;
+		this.startTime = System.nanoTime();
+		this.worker = new Thread(this::run, threadName);
+		this.worker.setDaemon(true);
+		this.worker.setPriority(Thread.MAX_PRIORITY);
+		this.worker.start();
+	}
+
+	/**
+	 * Schedule the supplied task to be executed once the supplied delay has
+	 * elapsed.
+	 */
+	ScheduledTask schedule(Runnable task, long delay, TimeUnit unit) {
+		Preconditions.condition(!this.closed, "timer has been closed");
+		ScheduledTask scheduledTask = new ScheduledTask(task);
+		if (this.pendingTasks.getAndIncrement() == 0) {
+			LockSupport.unpark(this.worker);
+		}
+		long tick = toDeadlineTick(unit.toNanos(delay));
+		while (true) {
+			Bucket bucket = this.wheel[(int) (tick & this.mask)];
+			synchronized (bucket) {
+				if (tick > this.processedTick) {
+					bucket.add(scheduledTask, tick);
+					break;
+				}
+			}
+			// the worker thread has already passed the deadline
+			tick = this.processedTick + 1;
+		}
+		return scheduledTask;
+	}
+
+	private long toDeadlineTick(long delayNanos) {
+		long deadlineNanos = System.nanoTime() - this.startTime + Math.max(0, delayNanos);
+		if (deadlineNanos < 0) {
+			// overflow
+			return Long.MAX_VALUE;
+		}
+		long tick = deadlineNanos / this.tickNanos;
+		return deadlineNanos % this.tickNanos == 0 ? tick : tick + 1;
+	}
+
+	@Override
+	public void close() throws Exception {
+		this.closed = true;
+		LockSupport.unpark(this.worker);
+		this.worker.join(TimeUnit.SECONDS.toMillis(5));
+		if (this.worker.isAlive()) {
+			throw new JUnitException("Timer thread could not be stopped in an orderly manner");
+		}
+	}
+
+	private void run() {
+		long tick = 0;
+		while (!this.closed) {
+			if (this.pendingTasks.get() == 0) {
+				tick = awaitPendingTasks(tick);
+				continue;
+			}
+			tick++;
+			awaitTick(tick);
+			if (this.closed) {
+				break;
+			}
+			ScheduledTask expired;
+			Bucket bucket = this.wheel[(int) (tick & this.mask)];
+			synchronized (bucket) {
+				expired = bucket.removeExpired(tick);
+				this.processedTick = tick;
+			}
+			executeAll(expired);
+		}
+	}
+
+	/**
+	 * Park the worker thread until a task is scheduled and return the last
+	 * processed tick.
+	 *
+	 * <p>If more ticks than the wheel has buckets have elapsed while being
+	 * idle, the elapsed ticks are skipped by processing each bucket once
+	 * instead of processing each elapsed tick.
+	 */
+	private long awaitPendingTasks(long tick) {
+		while (this.pendingTasks.get() == 0 && !this.closed) {
+			LockSupport.park(this);
+		}
+		// the previous tick has fully elapsed, so tasks scheduled from now on
+		// have a later deadline
+		long elapsedTick = (System.nanoTime() - this.startTime) / this.tickNanos - 1;
+		if (this.closed || elapsedTick - tick < this.wheel.length) {
+			return tick;
+		}
+		// tasks scheduled concurrently with a deadline up to the elapsed tick
+		// are moved to the next tick instead of an already processed bucket
+		this.processedTick = elapsedTick;
+		for (Bucket bucket : this.wheel) {
+			ScheduledTask expired;
+			synchronized (bucket) {
+				expired = bucket.removeExpired(elapsedTick);
+			}
+			executeAll(expired);
+		}
+		return elapsedTick;
+	}
+
+	private void executeAll(@Nullable ScheduledTask expired) {
+		while (expired != null) {
+			ScheduledTask next = expired.next;
+			expired.next = null;
+			expired.execute();
+			expired = next;
+		}
+	}
+
+	private void awaitTick(long tick) {
+		long deadline = this.startTime + tick * this.tickNanos;
+		while (!this.closed) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return;
+			}
+			LockSupport.parkNanos(this, remaining);
+		}
+	}
+
+	/**
+	 * Doubly-linked list of the scheduled tasks whose deadline maps to the
+	 * same slot of the wheel; guarded by its own monitor.
+	 */
+	private final class Bucket {
+
+		private @Nullable ScheduledTask head;
+		private @Nullable ScheduledTask tail;
+
+		void add(ScheduledTask scheduledTask, long deadlineTick) {
+			scheduledTask.bucket = this;
+			scheduledTask.deadlineTick = deadlineTick;
+			scheduledTask.prev = this.tail;
+			if (this.tail == null) {
+				this.head = scheduledTask;
+			}
+			else {
+				this.tail.next = scheduledTask;
+			}
+			this.tail = scheduledTask;
+		}
+
+		void remove(ScheduledTask scheduledTask) {
+			ScheduledTask prev = scheduledTask.prev;
+			ScheduledTask next = scheduledTask.next;
+			if (prev == null) {
+				this.head = next;
+			}
+			else {
+				prev.next = next;
+			}
+			if (next == null) {
+				this.tail = prev;
+			}
+			else {
+				next.prev = prev;
+			}
+			scheduledTask.prev = null;
+			scheduledTask.next = null;
+			HashedWheelTimer.this.pendingTasks.decrementAndGet();
+		}
+
+		/**
+		 * Remove all tasks whose deadline has been reached, mark them as
+		 * running, and return them linked via their {@code next} field.
+		 */
+		@Nullable
+		ScheduledTask removeExpired(long tick) {
+			ScheduledTask expiredHead = null;
+			ScheduledTask expiredTail = null;
+			ScheduledTask current = this.head;
+			while (current != null) {
+				ScheduledTask next = current.next;
+				if (current.deadlineTick <= tick) {
+					remove(current);
+					current.state = ScheduledTask.RUNNING;
+					if (expiredTail == null) {
+						expiredHead = current;
+					}
+					else {
+						expiredTail.next = current;
+					}
+					expiredTail = current;
+				}
+				current = next;
+			}
+			return expiredHead;
+		}
+	}
+
+	/**
+	 * Handle for a task scheduled via {@link #schedule(Runnable, long, TimeUnit)}.
+	 */
+	static final class ScheduledTask {
+
+		private static final int PENDING = 0;
+		private static final int CANCELLED = 1;
+		private static final int RUNNING = 2;
+		private static final int DONE = 3;
+
+		private final Runnable task;
+
+		// guarded by the monitor of the bucket
+		private @Nullable Bucket bucket;
+		private long deadlineTick;
+		private @Nullable ScheduledTask prev;
+		private @Nullable ScheduledTask next;
+
+		private volatile int state = PENDING;
+
+		private ScheduledTask(Runnable task) {
+			this.task = task;
+		}
+
+		/**
+		 * Cancel the execution of the task.
+		 *
+		 * <p>If the task is already being executed, this method waits for it
+		 * to complete.
+		 *
+		 * @return {@code true} if the task was cancelled before it was
+		 * executed; {@code false} otherwise
+		 */
+		boolean cancel() {
+			Bucket bucket = Preconditions.notNull(this.bucket, "task must have been scheduled");
+			synchronized (bucket) {
+				if (this.state == PENDING) {
+					bucket.remove(this);
+					this.state = CANCELLED;
+					return true;
+				}
+			}
+			awaitCompletion();
+			return false;
+		}
+
+		private void execute() {
+			try {
+				this.task.run();
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				logger.warn(t, () -> "Failed to execute timer task " + this.task);
+			}
+			finally {
+				synchronized (this) {
+					this.state = DONE;
+					notifyAll();
+				}
+			}
+		}
+
+		private void awaitCompletion() {
+			boolean interrupted = false;
+			synchronized (this) {
+				while (this.state == RUNNING) {
+					try {
+						wait();
+					}
+					catch (InterruptedException e) {
+						// the task may interrupt the waiting thread
+						interrupted = true;
+					}
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+}
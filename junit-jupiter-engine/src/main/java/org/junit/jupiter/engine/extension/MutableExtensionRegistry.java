@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -152,6 +153,12 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	private final List<Entry> registeredExtensions;
 	private final Map<Class<?>, LateInitExtensions> lateInitExtensions;
 
+	/**
+	 * Extensions of each requested type in registration order; invalidated
+	 * whenever an extension is registered or initialized.
+	 */
+	private final Map<Class<?>, List<? extends Extension>> extensionsByType = new ConcurrentHashMap<>();
+
 	private MutableExtensionRegistry() {
 		this(emptySet(), emptyList());
 	}
@@ -178,10 +185,34 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 	@Override
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		return this.registeredExtensions.stream() //
-				.map(p -> p.getExtension().orElse(null)) //
-				.filter(extensionType::isInstance) //
-				.map(extensionType::cast);
+		return getUnmodifiableExtensions(extensionType).stream();
+	}
+
+	@Override
+	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
+		return new ArrayList<>(getUnmodifiableExtensions(extensionType));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E extends Extension> List<E> getUnmodifiableExtensions(Class<E> extensionType) {
+		List<? extends Extension> extensions = this.extensionsByType.get(extensionType);
+		if (extensions == null) {
+			extensions = findExtensions(extensionType);
+			this.extensionsByType.put(extensionType, extensions);
+		}
+		return (List<E>) extensions;
+	}
+
+	private <E extends Extension> List<E> findExtensions(Class<E> extensionType) {
+		List<E> extensions = new ArrayList<>();
+		for (Entry entry : this.registeredExtensions) {
+			Extension extension = entry.getExtension().orElse(null);
+			if (extensionType.isInstance(extension)) {
+				extensions.add(extensionType.cast(extension));
+			}
+		}
+		return List.copyOf(extensions);
 	}
 
 	@Override
@@ -223,6 +254,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitEntry entry = getLateInitExtensions(testClass) //
 				.add(new LateInitEntry(testClass, initializer));
 		this.registeredExtensions.add(entry);
+		this.extensionsByType.clear();
 	}
 
 	@Override
@@ -233,6 +265,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		LateInitExtensions extensions = lateInitExtensions.remove(testClass);
 		if (extensions != null) {
 			extensions.initialize(testInstance);
+			this.extensionsByType.clear();
 		}
 	}
 
@@ -264,6 +297,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 		this.registeredExtensions.add(Entry.of(extension));
 		this.registeredExtensionTypes.add(extension.getClass());
+		this.extensionsByType.clear();
 	}
 
 	private String buildSourceInfo(@Nullable Object source) {
@@ -12,12 +12,11 @@ package org.junit.jupiter.engine.extension;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeoutException;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.engine.extension.HashedWheelTimer.ScheduledTask;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
@@ -26,11 +25,11 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 class SameThreadTimeoutInvocation<T extends @Nullable Object> implements Invocation<T> {
 
 	private final TimeoutInvocationParameters<T> parameters;
-	private final ScheduledExecutorService executor;
+	private final HashedWheelTimer timer;
 
-	SameThreadTimeoutInvocation(TimeoutInvocationParameters<T> parameters, ScheduledExecutorService executor) {
+	SameThreadTimeoutInvocation(TimeoutInvocationParameters<T> parameters, HashedWheelTimer timer) {
 		this.parameters = parameters;
-		this.executor = executor;
+		this.timer = timer;
 	}
 
 	@SuppressWarnings("NullAway")
@@ -38,7 +37,7 @@ class SameThreadTimeoutInvocation<T extends @Nullable Object> implements Invocat
 	public T proceed() throws Throwable {
 		InterruptTask interruptTask = new InterruptTask(Thread.currentThread(), parameters.preInterruptCallback());
 		var timeout = parameters.timeout();
-		ScheduledFuture<?> future = executor.schedule(interruptTask, timeout.value(), timeout.unit());
+		ScheduledTask scheduledTask = timer.schedule(interruptTask, timeout.value(), timeout.unit());
 		Throwable failure = null;
 		T result = null;
 		try {
@@ -49,10 +48,8 @@ class SameThreadTimeoutInvocation<T extends @Nullable Object> implements Invocat
 			failure = t;
 		}
 		finally {
-			boolean cancelled = future.cancel(false);
-			if (!cancelled) {
-				future.get();
-			}
+			// waits for the interrupt task to complete if it is already running
+			scheduledTask.cancel();
 			if (interruptTask.executed) {
 				Thread.interrupted();
 				failure = newTimeoutException(failure);
@@ -12,10 +12,12 @@ package org.junit.jupiter.engine.extension;
 
 import static org.junit.jupiter.api.timeout.PreemptiveTimeoutUtils.executeWithPreemptiveTimeout;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.api.timeout.PreemptiveTimeoutUtils.TimeoutFailureFactory;
 
 /**
  * @since 5.9
@@ -23,9 +25,12 @@ import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 class SeparateThreadTimeoutInvocation<T extends @Nullable Object> implements Invocation<T> {
 
 	private final TimeoutInvocationParameters<T> parameters;
+	private final @Nullable ExecutorService executorService;
 
-	SeparateThreadTimeoutInvocation(TimeoutInvocationParameters<T> parameters) {
+	SeparateThreadTimeoutInvocation(TimeoutInvocationParameters<T> parameters,
+			@Nullable ExecutorService executorService) {
 		this.parameters = parameters;
+		this.executorService = executorService;
 	}
 
 	@Override
@@ -34,8 +39,14 @@ class SeparateThreadTimeoutInvocation<T extends @Nullable Object> implements Inv
 		var timeout = parameters.timeout();
 		var delegate = parameters.invocation();
 		var descriptionSupplier = parameters.descriptionSupplier();
+		TimeoutFailureFactory<TimeoutException> failureFactory = //
+			(__, ___, cause, testThread) -> newTimeoutException(cause, testThread);
+		if (executorService == null) {
+			return executeWithPreemptiveTimeout(timeout.toDuration(), delegate::proceed, descriptionSupplier,
+				failureFactory);
+		}
 		return executeWithPreemptiveTimeout(timeout.toDuration(), delegate::proceed, descriptionSupplier,
-			(__, ___, cause, testThread) -> newTimeoutException(cause, testThread));
+			failureFactory, executorService);
 	}
 
 	private TimeoutException newTimeoutException(@Nullable Throwable cause, @Nullable Thread testThread) {
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Timeout.DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY
 import static org.junit.jupiter.api.Timeout.DEFAULT_TEST_TEMPLATE_METHOD_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Timeout.DEFAULT_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Timeout.DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Timeout.TIMEOUT_MODE_PROPERTY_NAME;
 
 import java.util.Map;
@@ -29,9 +30,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Timeout.ThreadMode;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.config.EnumConfigurationParameterConverter;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.SeparateThreadExecutorServiceType;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.RuntimeUtils;
@@ -48,6 +51,8 @@ class TimeoutConfiguration {
 	private final AtomicReference<Optional<ThreadMode>> threadMode = new AtomicReference<>();
 	private final ExtensionContext extensionContext;
 	private final boolean timeoutDisabled;
+	private volatile @Nullable Boolean defaultTimeoutConfigured;
+	private volatile @Nullable SeparateThreadExecutorServiceType separateThreadExecutorServiceType;
 
 	TimeoutConfiguration(ExtensionContext extensionContext) {
 		this.extensionContext = extensionContext;
@@ -61,6 +66,27 @@ class TimeoutConfiguration {
 		return timeoutDisabled;
 	}
 
+	/**
+	 * {@return whether a default timeout is configured for any kind of
+	 * testable or lifecycle method}
+	 *
+	 * @since 6.2
+	 */
+	boolean isDefaultTimeoutConfigured() {
+		Boolean configured = this.defaultTimeoutConfigured;
+		if (configured == null) {
+			configured = getDefaultTestMethodTimeout().isPresent() //
+					|| getDefaultTestTemplateMethodTimeout().isPresent() //
+					|| getDefaultTestFactoryMethodTimeout().isPresent() //
+					|| getDefaultBeforeAllMethodTimeout().isPresent() //
+					|| getDefaultBeforeEachMethodTimeout().isPresent() //
+					|| getDefaultAfterEachMethodTimeout().isPresent() //
+					|| getDefaultAfterAllMethodTimeout().isPresent();
+			this.defaultTimeoutConfigured = configured;
+		}
+		return configured;
+	}
+
 	Optional<TimeoutDuration> getDefaultTestMethodTimeout() {
 		return parseOrDefault(DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY_NAME, this::getDefaultTestableMethodTimeout);
 	}
@@ -138,6 +164,24 @@ class TimeoutConfiguration {
 				.get(extensionContext, DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME);
 	}
 
+	/**
+	 * {@return the type of executor service used for timeouts using
+	 * {@link ThreadMode#SEPARATE_THREAD}}
+	 *
+	 * @since 6.2
+	 */
+	SeparateThreadExecutorServiceType getSeparateThreadExecutorServiceType() {
+		SeparateThreadExecutorServiceType type = this.separateThreadExecutorServiceType;
+		if (type == null) {
+			type = new EnumConfigurationParameterConverter<>(SeparateThreadExecutorServiceType.class,
+				"separate thread executor service") //
+						.get(extensionContext, SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME) //
+						.orElse(SeparateThreadExecutorServiceType.THREAD_PER_INVOCATION);
+			this.separateThreadExecutorServiceType = type;
+		}
+		return type;
+	}
+
 	private enum TimeoutMode {
 
 		ENABLED {
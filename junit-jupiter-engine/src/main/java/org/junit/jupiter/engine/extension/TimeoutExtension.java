@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.Timeout.ThreadMode.SAME_THREAD;
 import static org.junit.jupiter.api.extension.PreInterruptCallback.THREAD_DUMP_ENABLED_PROPERTY_NAME;
 
 import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.function.Function;
@@ -24,8 +25,8 @@ import org.junit.jupiter.api.Timeout.ThreadMode;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
-import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.engine.execution.ConditionalInvocationInterceptor;
 import org.junit.platform.commons.support.AnnotationSupport;
 import org.junit.platform.commons.util.ClassUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
@@ -33,7 +34,7 @@ import org.junit.platform.commons.util.ReflectionUtils;
 /**
  * @since 5.5
  */
-class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, InvocationInterceptor {
+class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, ConditionalInvocationInterceptor {
 
 	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(Timeout.class);
 	private static final String TESTABLE_METHOD_TIMEOUT_KEY = "testable_method_timeout_from_annotation";
@@ -63,6 +64,27 @@ class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, Invocat
 				timeoutThreadMode));
 	}
 
+	/**
+	 * Only methods need to be intercepted and only if timeouts are enabled and
+	 * a default timeout is configured or {@link Timeout @Timeout} is present on
+	 * the method or one of its enclosing elements.
+	 */
+	@Override
+	public boolean isInterceptionRequired(ReflectiveInvocationContext<? extends Executable> invocationContext,
+			ExtensionContext extensionContext) {
+
+		if (!(invocationContext.getExecutable() instanceof Method method)) {
+			return false;
+		}
+		TimeoutConfiguration timeoutConfiguration = getGlobalTimeoutConfiguration(extensionContext);
+		if (timeoutConfiguration.isTimeoutDisabled()) {
+			return false;
+		}
+		return timeoutConfiguration.isDefaultTimeoutConfigured() //
+				|| extensionContext.getStore(NAMESPACE).get(TESTABLE_METHOD_TIMEOUT_KEY) != null //
+				|| AnnotationSupport.isAnnotated(method, Timeout.class);
+	}
+
 	@Override
 	public void interceptBeforeAllMethod(Invocation<@Nullable Void> invocation,
 			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
@@ -184,8 +206,9 @@ class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, Invocat
 		}
 
 		var threadMode = resolveTimeoutThreadMode(extensionContext, timeoutConfiguration);
-		return new TimeoutInvocationFactory(extensionContext.getRoot().getStore(NAMESPACE)) //
-				.create(threadMode, createParameters(invocation, invocationContext, extensionContext, timeout));
+		return new TimeoutInvocationFactory(extensionContext.getRoot().getStore(NAMESPACE),
+			timeoutConfiguration.getSeparateThreadExecutorServiceType()) //
+					.create(threadMode, createParameters(invocation, invocationContext, extensionContext, timeout));
 	}
 
 	private <T extends @Nullable Object> TimeoutInvocationParameters<T> createParameters(Invocation<T> invocation,
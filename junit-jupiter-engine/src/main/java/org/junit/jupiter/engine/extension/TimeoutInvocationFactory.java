@@ -10,9 +10,17 @@
 
 package org.junit.jupiter.engine.extension;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Timeout.ThreadMode;
@@ -28,61 +36,175 @@ import org.junit.platform.commons.util.Preconditions;
 class TimeoutInvocationFactory {
 
 	private final Store store;
+	private final SeparateThreadExecutorServiceType separateThreadExecutorServiceType;
 
 	TimeoutInvocationFactory(Store store) {
+		this(store, SeparateThreadExecutorServiceType.THREAD_PER_INVOCATION);
+	}
+
+	TimeoutInvocationFactory(Store store, SeparateThreadExecutorServiceType separateThreadExecutorServiceType) {
 		this.store = Preconditions.notNull(store, "store must not be null");
+		this.separateThreadExecutorServiceType = Preconditions.notNull(separateThreadExecutorServiceType,
+			"separate thread executor service type must not be null");
 	}
 
 	<T extends @Nullable Object> Invocation<T> create(ThreadMode threadMode,
 			TimeoutInvocationParameters<T> parameters) {
 		Preconditions.notNull(parameters, "timeout invocation parameters must not be null");
 		return switch (Preconditions.notNull(threadMode, "thread mode must not be null")) {
-			case SAME_THREAD -> new SameThreadTimeoutInvocation<>(parameters,
-				getThreadExecutorForSameThreadInvocation());
-			case SEPARATE_THREAD -> new SeparateThreadTimeoutInvocation<>(parameters);
+			case SAME_THREAD -> new SameThreadTimeoutInvocation<>(parameters, getTimerForSameThreadInvocation());
+			case SEPARATE_THREAD -> new SeparateThreadTimeoutInvocation<>(parameters,
+				getExecutorServiceForSeparateThreadInvocation());
 			case INFERRED -> throw new PreconditionViolationException("thread mode must not be INFERRED");
 		};
 	}
 
 	@SuppressWarnings("resource")
-	private ScheduledExecutorService getThreadExecutorForSameThreadInvocation() {
-		return store.computeIfAbsent(SingleThreadExecutorResource.class).get();
+	private HashedWheelTimer getTimerForSameThreadInvocation() {
+		return store.computeIfAbsent(TimerResource.class).get();
+	}
+
+	@SuppressWarnings("resource")
+	private @Nullable ExecutorService getExecutorServiceForSeparateThreadInvocation() {
+		return switch (separateThreadExecutorServiceType) {
+			case THREAD_PER_INVOCATION -> null;
+			case THREAD_POOL -> store.computeIfAbsent(ThreadPoolExecutorResource.class).get();
+			case VIRTUAL_THREADS -> store.computeIfAbsent(VirtualThreadExecutorResource.class).get();
+		};
+	}
+
+	/**
+	 * Type of executor service used for timeouts using
+	 * {@link ThreadMode#SEPARATE_THREAD}.
+	 *
+	 * <p>{@link #THREAD_PER_INVOCATION} executes each invocation in a new
+	 * thread created by {@link org.junit.jupiter.api.timeout.PreemptiveTimeoutUtils}.
+	 *
+	 * @since 6.2
+	 * @see org.junit.jupiter.api.Timeout#SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME
+	 */
+	enum SeparateThreadExecutorServiceType {
+		THREAD_PER_INVOCATION, THREAD_POOL, VIRTUAL_THREADS
 	}
 
 	@SuppressWarnings({ "deprecation", "try" })
-	abstract static class ExecutorResource implements Store.CloseableResource, AutoCloseable {
+	static class TimerResource implements Store.CloseableResource, AutoCloseable {
 
-		private final ScheduledExecutorService executor;
+		private static final Duration TICK_DURATION = Duration.ofMillis(10);
+		private static final int WHEEL_SIZE = 512;
 
-		ExecutorResource(ScheduledExecutorService executor) {
-			this.executor = executor;
+		private final HashedWheelTimer timer;
+
+		@SuppressWarnings("unused")
+		TimerResource() {
+			this.timer = new HashedWheelTimer("junit-jupiter-timeout-watcher", TICK_DURATION, WHEEL_SIZE);
 		}
 
-		ScheduledExecutorService get() {
-			return executor;
+		HashedWheelTimer get() {
+			return timer;
 		}
 
 		@Override
 		public void close() throws Exception {
-			executor.shutdown();
-			boolean terminated = executor.awaitTermination(5, TimeUnit.SECONDS);
-			if (!terminated) {
-				executor.shutdownNow();
-				throw new JUnitException("Scheduled executor could not be stopped in an orderly manner");
-			}
+			timer.close();
+		}
+	}
+
+	/**
+	 * Executor service that is shut down without waiting for its tasks to
+	 * complete since, once the store is closed, only invocations that did not
+	 * react to being interrupted after their timeout was exceeded may still be
+	 * running.
+	 *
+	 * @since 6.2
+	 */
+	@SuppressWarnings({ "deprecation", "try" })
+	abstract static class ExecutorServiceResource implements Store.CloseableResource, AutoCloseable {
+
+		private final ExecutorService executorService;
+
+		ExecutorServiceResource(ExecutorService executorService) {
+			this.executorService = executorService;
+		}
+
+		ExecutorService get() {
+			return executorService;
+		}
+
+		@Override
+		public void close() {
+			executorService.shutdownNow();
 		}
 	}
 
+	/**
+	 * Pool of daemon threads that are reused for subsequent invocations and
+	 * terminated after having been idle for one minute.
+	 *
+	 * <p>The number of threads is not bounded so that invocations which do
+	 * not react to being interrupted cannot starve subsequent ones. Threads
+	 * neither inherit values of inheritable thread-local variables nor the
+	 * context class loader from the thread that happens to create them.
+	 * However, values of thread-local variables set by an invocation are
+	 * visible to subsequent invocations executed by the same thread.
+	 *
+	 * @since 6.2
+	 */
 	@SuppressWarnings("try")
-	static class SingleThreadExecutorResource extends ExecutorResource {
-
-		@SuppressWarnings({ "unused", "ThreadPriorityCheck" })
-		SingleThreadExecutorResource() {
-			super(Executors.newSingleThreadScheduledExecutor(runnable -> {
-				Thread thread = new Thread(runnable, "junit-jupiter-timeout-watcher");
-				thread.setPriority(Thread.MAX_PRIORITY);
-				return thread;
-			}));
+	static class ThreadPoolExecutorResource extends ExecutorServiceResource {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@SuppressWarnings("unused")
+		ThreadPoolExecutorResource() {
+			super(new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, TimeUnit.MINUTES, new SynchronousQueue<>(),
+				runnable -> {
+					Thread thread = new Thread(null, runnable,
+						"junit-jupiter-timeout-worker-" + threadNumber.getAndIncrement(), 0, false);
+					thread.setContextClassLoader(ThreadPoolExecutorResource.class.getClassLoader());
+					thread.setDaemon(true);
+					return thread;
+				}));
+		}
+	}
+
+	/**
+	 * Executes each invocation in a new virtual thread.
+	 *
+	 * <p>Virtual threads are created via reflection since the minimum Java
+	 * version supported by this module does not provide the required API.
+	 *
+	 * @since 6.2
+	 */
+	@SuppressWarnings("try")
+	static class VirtualThreadExecutorResource extends ExecutorServiceResource {
+
+		@SuppressWarnings("unused")
+		VirtualThreadExecutorResource() {
+			super(createExecutorService());
+		}
+
+		private static ExecutorService createExecutorService() {
+			try {
+				var lookup = MethodHandles.publicLookup();
+				var builderType = Class.forName("java.lang.Thread$Builder");
+				var ofVirtualType = Class.forName("java.lang.Thread$Builder$OfVirtual");
+				MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+					MethodType.methodType(ofVirtualType));
+				MethodHandle name = lookup.findVirtual(ofVirtualType, "name",
+					MethodType.methodType(ofVirtualType, String.class, long.class));
+				MethodHandle factory = lookup.findVirtual(builderType, "factory",
+					MethodType.methodType(ThreadFactory.class));
+				MethodHandle newThreadPerTaskExecutor = lookup.findStatic(Executors.class,
+					"newThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+				var builder = name.invoke(ofVirtual.invoke(), "junit-jupiter-timeout-virtual-", 1L);
+				var threadFactory = (ThreadFactory) factory.invoke(builder);
+				return (ExecutorService) newThreadPerTaskExecutor.invoke(threadFactory);
+			}
+			catch (Throwable t) {
+				throw new JUnitException(
+					"Virtual threads are not supported by the current Java runtime; Java 21 or later is required", t);
+			}
 		}
 	}
 
@@ -14,6 +14,8 @@ import static org.junit.jupiter.params.provider.CsvReaderConfiguration.fromCsvFi
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -21,12 +23,14 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import de.siegmar.fastcsv.reader.CsvReader;
 import de.siegmar.fastcsv.reader.CsvRecord;
 
+import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.support.ParameterDeclarations;
 import org.junit.platform.commons.JUnitException;
@@ -56,15 +60,23 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 
 		var configuration = fromCsvFileSource(csvFileSource);
 
+		// On Windows, a memory-mapped file remains locked until the mapping has
+		// been garbage collected which would prevent it from being modified or deleted
+		boolean memoryMapped = !OS.WINDOWS.isCurrentOs()
+				&& context.getConfigurationParameter(CsvFileSource.MEMORY_MAPPED_FILES_PROPERTY_NAME,
+					Boolean::parseBoolean).orElse(false);
+		Function<String, Source> fileSource = memoryMapped //
+				? inputStreamProvider::memoryMappedFile //
+				: inputStreamProvider::file;
 		Stream<Source> resources = Arrays.stream(csvFileSource.resources()).map(inputStreamProvider::classpathResource);
-		Stream<Source> files = Arrays.stream(csvFileSource.files()).map(inputStreamProvider::file);
+		Stream<Source> files = Arrays.stream(csvFileSource.files()).map(fileSource);
 		List<Source> sources = Stream.concat(resources, files).toList();
 
 		// @formatter:off
 		return Preconditions.notEmpty(sources, "Resources or files must not be empty")
 				.stream()
-				.map(source -> source.open(context))
-				.map(inputStream -> CsvReaderFactory.createReaderFor(configuration, inputStream, charset))
+				.map(source -> source.open(context, charset))
+				.map(reader -> CsvReaderFactory.createReaderFor(configuration, reader))
 				.flatMap(reader -> toStream(reader, csvFileSource));
 		// @formatter:on
 	}
@@ -136,7 +148,7 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 	@FunctionalInterface
 	interface Source {
 
-		InputStream open(ExtensionContext context);
+		Reader open(ExtensionContext context, Charset charset);
 
 	}
 
@@ -147,11 +159,26 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 		InputStream openFile(String path);
 
 		default Source classpathResource(String path) {
-			return context -> openClasspathResource(context.getRequiredTestClass(), path);
+			return (context, charset) -> new InputStreamReader(
+				openClasspathResource(context.getRequiredTestClass(), path), charset);
 		}
 
 		default Source file(String path) {
-			return __ -> openFile(path);
+			return (__, charset) -> new InputStreamReader(openFile(path), charset);
+		}
+
+		default Source memoryMappedFile(String path) {
+			return (__, charset) -> openMemoryMappedFile(path, charset);
+		}
+
+		private static Reader openMemoryMappedFile(String path, Charset charset) {
+			Preconditions.notBlank(path, () -> "File [" + path + "] must not be null or blank");
+			try {
+				return MemoryMappedFileReader.open(Path.of(path), charset);
+			}
+			catch (IOException e) {
+				throw new JUnitException("File [" + path + "] could not be read", e);
+			}
 		}
 
 	}
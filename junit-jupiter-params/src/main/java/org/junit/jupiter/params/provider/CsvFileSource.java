@@ -88,6 +88,29 @@ import org.junit.jupiter.params.ParameterizedInvocationConstants;
 @SuppressWarnings("exports")
 public @interface CsvFileSource {
 
+	/**
+	 * Property name used to enable reading {@link #files} via memory-mapped
+	 * I/O: {@value}
+	 *
+	 * <p>When enabled, local CSV files are decoded directly from memory-mapped
+	 * regions of the file instead of being read via an input stream.
+	 * Classpath {@link #resources} are not affected by this setting.
+	 *
+	 * <p>Closing a memory-mapped file does not release its mapping; it is
+	 * only released once it has been garbage collected. Since Windows does not
+	 * allow a file to be modified or deleted while it is mapped, this setting
+	 * is ignored on Windows and files are always read via an input stream.
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <p>Supported values are {@code true} and {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	String MEMORY_MAPPED_FILES_PROPERTY_NAME = "junit.jupiter.params.csv.files.memory-mapped.enabled";
+
 	/**
 	 * The CSV classpath resources to use as the sources of arguments; must not
 	 * be empty unless {@link #files} is non-empty.
@@ -10,11 +10,8 @@
 
 package org.junit.jupiter.params.provider;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
-import java.nio.charset.Charset;
 import java.util.Set;
 import java.util.UUID;
 
@@ -42,12 +39,7 @@ class CsvReaderFactory {
 		return createReaderFor(configuration, new StringReader(data));
 	}
 
-	static CsvReader<? extends CsvRecord> createReaderFor(CsvReaderConfiguration configuration, InputStream inputStream,
-			Charset charset) {
-		return createReaderFor(configuration, new InputStreamReader(inputStream, charset));
-	}
-
-	private static CsvReader<? extends CsvRecord> createReaderFor(CsvReaderConfiguration configuration, Reader reader) {
+	static CsvReader<? extends CsvRecord> createReaderFor(CsvReaderConfiguration configuration, Reader reader) {
 		var builder = CsvReader.builder() //
 				.skipEmptyLines(SKIP_EMPTY_LINES) //
 				.trimWhitespacesAroundQuotes(TRIM_WHITESPACES_AROUND_QUOTES) //
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * {@link Reader} that decodes the characters of a file directly from
+ * memory-mapped regions of the file.
+ *
+ * <p>The file is mapped in consecutive windows of a fixed size so that files
+ * larger than 2 GB can be read and only a bounded region is mapped at any
+ * time. Characters are decoded into a fixed-size buffer; thus, the amount of
+ * heap memory used is independent of the size of the file.
+ *
+ * <p>Malformed input and unmappable characters are replaced in the same way
+ * as by {@link java.io.InputStreamReader}.
+ *
+ * @since 6.2
+ */
+class MemoryMappedFileReader extends Reader {
+
+	static final long DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private static final int MIN_WINDOW_SIZE = 16;
+	private static final int BUFFER_SIZE = 8192;
+
+	private final FileChannel channel;
+	private final long size;
+	private final long windowSize;
+	private final CharsetDecoder decoder;
+	private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE).limit(0);
+
+	private @Nullable MappedByteBuffer window;
+	private long windowStart;
+	private boolean flushing;
+	private boolean endOfInput;
+	private boolean closed;
+
+	static MemoryMappedFileReader open(Path file, Charset charset) throws IOException {
+		return open(file, charset, DEFAULT_WINDOW_SIZE);
+	}
+
+	// package-private for testing
+	static MemoryMappedFileReader open(Path file, Charset charset, long windowSize) throws IOException {
+		Preconditions.condition(windowSize >= MIN_WINDOW_SIZE,
+			() -> "windowSize must be greater than or equal to " + MIN_WINDOW_SIZE);
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			return new MemoryMappedFileReader(channel, channel.size(), windowSize, charset);
+		}
+		catch (IOException | RuntimeException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	private MemoryMappedFileReader(FileChannel channel, long size, long windowSize, Charset charset) {
+		this.channel = channel;
+		this.size = size;
+		this.windowSize = windowSize;
+		this.decoder = charset.newDecoder() //
+				.onMalformedInput(CodingErrorAction.REPLACE) //
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, cbuf.length);
+		synchronized (this.lock) {
+			ensureOpen();
+			if (len == 0) {
+				return 0;
+			}
+			if (!this.chars.hasRemaining() && !fill()) {
+				return -1;
+			}
+			int count = Math.min(len, this.chars.remaining());
+			this.chars.get(cbuf, off, count);
+			return count;
+		}
+	}
+
+	private boolean fill() throws IOException {
+		this.chars.clear();
+		while (this.chars.position() == 0 && !this.endOfInput) {
+			if (this.flushing) {
+				flush();
+				continue;
+			}
+			MappedByteBuffer current = currentWindow();
+			boolean lastWindow = this.windowStart + current.limit() == this.size;
+			CoderResult result = this.decoder.decode(current, this.chars, lastWindow);
+			if (result.isUnderflow()) {
+				if (lastWindow) {
+					this.flushing = true;
+					flush();
+				}
+				else {
+					// Bytes of a character that spans the end of the window are
+					// left unconsumed and become the start of the next window.
+					this.windowStart += current.position();
+					this.window = null;
+				}
+			}
+		}
+		this.chars.flip();
+		return this.chars.hasRemaining();
+	}
+
+	/**
+	 * Flush the decoder into the buffer; if the buffer overflows, flushing
+	 * is continued by the next call to {@link #fill()}.
+	 */
+	private void flush() {
+		this.endOfInput = this.decoder.flush(this.chars).isUnderflow();
+	}
+
+	private MappedByteBuffer currentWindow() throws IOException {
+		MappedByteBuffer current = this.window;
+		if (current == null) {
+			long length = Math.min(this.windowSize, this.size - this.windowStart);
+			current = this.channel.map(READ_ONLY, this.windowStart, length);
+			this.window = current;
+		}
+		return current;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (this.closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (this.lock) {
+			if (!this.closed) {
+				this.closed = true;
+				this.window = null;
+				this.channel.close();
+			}
+		}
+	}
+
+}
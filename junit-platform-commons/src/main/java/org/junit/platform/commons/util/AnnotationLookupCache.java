@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Cache for the results of annotation lookups performed by
+ * {@link AnnotationUtils}.
+ *
+ * <p>Results are cached per element and annotation type in a map that is
+ * associated with the element's class or declaring class via a
+ * {@link ClassValue}. The map is strongly reachable for as long as that class
+ * is. Results are therefore only cached if the annotation type was loaded by
+ * the class's {@link ClassLoader} or one of its ancestors; otherwise, the
+ * cache would keep the annotation type and its class loader, for example, a
+ * child class loader, from being garbage collected. The number of cached
+ * results per class is limited to {@value #MAX_ENTRIES_PER_CLASS}; further
+ * lookups are performed without caching.
+ *
+ * <p>Only {@link Class Classes}, {@linkplain Member members} and
+ * {@link Parameter Parameters} are cached since other kinds of elements
+ * cannot be associated with a class.
+ *
+ * @since 6.2
+ */
+final class AnnotationLookupCache {
+
+	static final int MAX_ENTRIES_PER_CLASS = 512;
+
+	private static final ClassValue<Map<Key, Object>> resultsByClass = new ClassValue<>() {
+		@Override
+		protected Map<Key, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private AnnotationLookupCache() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the cached result of the lookup of the supplied kind or perform it
+	 * and cache its result.
+	 *
+	 * <p>The lookup must not return {@code null}.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T get(AnnotatedElement element, Class<? extends Annotation> annotationType, Lookup lookup,
+			Supplier<T> resultSupplier) {
+
+		Class<?> owner = getOwner(element);
+		if (owner == null || !isLoadedByAncestorOrSelf(annotationType, owner.getClassLoader())) {
+			return resultSupplier.get();
+		}
+		Map<Key, Object> results = resultsByClass.get(owner);
+		Key key = new Key(element, annotationType, lookup);
+		Object result = results.get(key);
+		if (result == null) {
+			// Recursive lookups may update the same map, so computeIfAbsent() cannot be used
+			result = resultSupplier.get();
+			if (results.size() < MAX_ENTRIES_PER_CLASS) {
+				Object previous = results.putIfAbsent(key, result);
+				if (previous != null) {
+					result = previous;
+				}
+			}
+		}
+		return (T) result;
+	}
+
+	// Visible for testing
+	static boolean isCached(AnnotatedElement element, Class<? extends Annotation> annotationType, Lookup lookup) {
+		Class<?> owner = getOwner(element);
+		return owner != null && resultsByClass.get(owner).containsKey(new Key(element, annotationType, lookup));
+	}
+
+	private static boolean isLoadedByAncestorOrSelf(Class<?> type, @Nullable ClassLoader classLoader) {
+		ClassLoader typeClassLoader = type.getClassLoader();
+		if (typeClassLoader == null) {
+			return true;
+		}
+		for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+			if (current == typeClassLoader) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static @Nullable Class<?> getOwner(AnnotatedElement element) {
+		if (element instanceof Class<?> clazz) {
+			return clazz;
+		}
+		if (element instanceof Member member) {
+			return member.getDeclaringClass();
+		}
+		if (element instanceof Parameter parameter) {
+			return parameter.getDeclaringExecutable().getDeclaringClass();
+		}
+		return null;
+	}
+
+	enum Lookup {
+
+		ANNOTATION,
+
+		REPEATABLE_ANNOTATIONS
+
+	}
+
+	private record Key(AnnotatedElement element, Class<? extends Annotation> annotationType, Lookup lookup) {
+	}
+
+}
@@ -137,8 +137,13 @@ public final class AnnotationUtils {
 	public static <A extends Annotation> Optional<A> findAnnotation(@Nullable AnnotatedElement element,
 			Class<A> annotationType) {
 		Preconditions.notNull(annotationType, "annotationType must not be null");
-		boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
-		return findAnnotation(element, annotationType, inherited, new HashSet<>());
+		if (element == null) {
+			return Optional.empty();
+		}
+		return AnnotationLookupCache.get(element, annotationType, AnnotationLookupCache.Lookup.ANNOTATION, () -> {
+			boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
+			return findAnnotation(element, annotationType, inherited, new HashSet<>());
+		});
 	}
 
 	private static <A extends Annotation> Optional<A> findAnnotation(@Nullable AnnotatedElement element,
@@ -289,12 +294,17 @@ public final class AnnotationUtils {
 			return Collections.emptyList();
 		}
 
-		// We use a LinkedHashSet because the search algorithm may discover
-		// duplicates, but we need to maintain the original order.
-		Set<A> found = new LinkedHashSet<>(16);
-		findRepeatableAnnotations(element, annotationType, containerType, inherited, found, new HashSet<>(16));
-		// unmodifiable since returned from public, non-internal method(s)
-		return List.copyOf(found);
+		return AnnotationLookupCache.get(element, annotationType, AnnotationLookupCache.Lookup.REPEATABLE_ANNOTATIONS,
+			() -> {
+				// We use a LinkedHashSet because the search algorithm may discover
+				// duplicates, but we need to maintain the original order.
+				Set<A> found = new LinkedHashSet<>(16);
+				findRepeatableAnnotations(element, annotationType, containerType, inherited, found,
+					new HashSet<>(16));
+				// unmodifiable since returned from public, non-internal method(s)
+				// and cached for subsequent lookups
+				return List.copyOf(found);
+			});
 	}
 
 	private static <A extends Annotation> void findRepeatableAnnotations(AnnotatedElement element,
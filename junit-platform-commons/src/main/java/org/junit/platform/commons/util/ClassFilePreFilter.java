@@ -0,0 +1,474 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Pre-filter for {@link DefaultClasspathScanner} that inspects class files
+ * <em>before</em> loading them in order to skip classes that cannot possibly
+ * contain tests.
+ *
+ * <p>The pre-filter is opt-in and enabled by setting the
+ * {@value #ENABLED_PROPERTY_NAME} JVM system property to {@code true}. A class
+ * is considered a <em>candidate</em> and subsequently loaded if at least one
+ * of the following holds:
+ *
+ * <ul>
+ * <li>Its constant pool references a <em>marker type</em> or an annotation
+ * that is directly or indirectly meta-annotated with a marker type.</li>
+ * <li>Its superclass or one of its interfaces is a marker type or a
+ * candidate.</li>
+ * <li>One of its member classes is a candidate.</li>
+ * </ul>
+ *
+ * <p>Marker types may be configured via the {@value #MARKER_TYPES_PROPERTY_NAME}
+ * JVM system property as a comma-separated list of fully qualified type names.
+ * By default, the types that identify tests of the engines maintained by the
+ * JUnit team are used: {@value #DEFAULT_MARKER_TYPES}.
+ *
+ * <p>Referenced types are resolved by reading their class files via the
+ * {@link ClassLoader} used for scanning without loading them. Classes from
+ * the JDK are never considered candidates. Class files that cannot be read are
+ * conservatively considered candidates.
+ *
+ * @since 6.2
+ */
+final class ClassFilePreFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassFilePreFilter.class);
+
+	/**
+	 * Name of the JVM system property used to enable the pre-filter: {@value}
+	 */
+	static final String ENABLED_PROPERTY_NAME = "junit.platform.discovery.classpath.prefilter.enabled";
+
+	/**
+	 * Name of the JVM system property used to configure the marker types:
+	 * {@value}
+	 */
+	static final String MARKER_TYPES_PROPERTY_NAME = "junit.platform.discovery.classpath.prefilter.markers";
+
+	static final String DEFAULT_MARKER_TYPES = "org.junit.platform.commons.annotation.Testable,"
+			+ "org.junit.jupiter.api.Nested,org.junit.Test,org.junit.runner.RunWith,junit.framework.Test";
+
+	private static final String CLASS_FILE_SUFFIX = ".class";
+
+	private static final Set<String> JDK_PACKAGE_PREFIXES = Set.of("java/", "javax/", "jdk/", "sun/", "com/sun/");
+
+	private static final String JAVA_LANG_OBJECT = "java/lang/Object";
+
+	/**
+	 * Create a {@code ClassFilePreFilter} as configured via JVM system
+	 * properties.
+	 *
+	 * @return the pre-filter; {@code null} if it is not enabled
+	 */
+	static @Nullable ClassFilePreFilter fromSystemProperties() {
+		if (!Boolean.getBoolean(ENABLED_PROPERTY_NAME)) {
+			return null;
+		}
+		return new ClassFilePreFilter(System.getProperty(MARKER_TYPES_PROPERTY_NAME, DEFAULT_MARKER_TYPES));
+	}
+
+	private final Set<String> markerTypes;
+
+	ClassFilePreFilter(String markerTypes) {
+		// @formatter:off
+		this.markerTypes = Arrays.stream(markerTypes.split(","))
+				.map(String::strip)
+				.filter(StringUtils::isNotBlank)
+				.map(typeName -> typeName.replace('.', '/'))
+				.collect(toUnmodifiableSet());
+		// @formatter:on
+	}
+
+	/**
+	 * Create a new {@link Session} that caches the results for referenced
+	 * types for the duration of a single scan.
+	 *
+	 * @param classLoader the {@code ClassLoader} used to resolve referenced
+	 * types; never {@code null}
+	 */
+	Session newSession(ClassLoader classLoader) {
+		return new Session(classLoader);
+	}
+
+	/**
+	 * Determines candidates within a single scan.
+	 *
+	 * <p>This class is thread-safe. Concurrent lookups of the same type may
+	 * result in its class file being read more than once.
+	 */
+	final class Session {
+
+		private final ClassLoader classLoader;
+		private final Map<String, Optional<ClassFileInfo>> classFileInfos = new ConcurrentHashMap<>();
+		private final Map<String, Boolean> candidates = new ConcurrentHashMap<>();
+		private final Map<String, Boolean> markers = new ConcurrentHashMap<>();
+
+		private Session(ClassLoader classLoader) {
+			this.classLoader = classLoader;
+		}
+
+		/**
+		 * Determine if the class stored in the supplied class file may
+		 * contain tests.
+		 *
+		 * @param classFile the class file; may be {@code null} if the class
+		 * file should be resolved via the {@code ClassLoader}
+		 * @param className the fully qualified name of the class; never
+		 * {@code null}
+		 */
+		boolean isCandidate(@Nullable Path classFile, String className) {
+			if (classFile != null && !classFile.getFileName().toString().endsWith(CLASS_FILE_SUFFIX)) {
+				return true;
+			}
+			String internalName = className.replace('.', '/');
+			Optional<ClassFileInfo> classFileInfo = classFile == null ? classFileInfo(internalName)
+					: read(internalName, () -> Files.newInputStream(classFile));
+			if (classFileInfo.isEmpty()) {
+				return true;
+			}
+			Set<String> visited = new HashSet<>();
+			return cacheIfNegative(isCandidate(classFileInfo.get(), visited), visited, this.candidates);
+		}
+
+		private boolean isCandidate(String internalName, Set<String> visited) {
+			if (isJdkType(internalName)) {
+				return false;
+			}
+			Boolean cached = this.candidates.get(internalName);
+			if (cached != null) {
+				return cached;
+			}
+			if (!visited.add(internalName)) {
+				return false;
+			}
+			boolean result = classFileInfo(internalName).map(info -> isCandidate(info, visited)).orElse(true);
+			if (result) {
+				this.candidates.put(internalName, true);
+			}
+			return result;
+		}
+
+		private boolean isCandidate(ClassFileInfo info, Set<String> visited) {
+			visited.add(info.name);
+			for (String referencedType : info.referencedTypes) {
+				if (!info.name.equals(referencedType) && isMarker(referencedType)) {
+					return true;
+				}
+			}
+			for (String supertype : info.supertypes) {
+				if (markerTypes.contains(supertype) || isCandidate(supertype, visited)) {
+					return true;
+				}
+			}
+			for (String memberClass : info.memberClasses) {
+				if (isCandidate(memberClass, visited)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private boolean isMarker(String internalName) {
+			Set<String> visited = new HashSet<>();
+			return cacheIfNegative(isMarker(internalName, visited), visited, this.markers);
+		}
+
+		private boolean isMarker(String internalName, Set<String> visited) {
+			if (markerTypes.contains(internalName)) {
+				return true;
+			}
+			if (isJdkType(internalName)) {
+				return false;
+			}
+			Boolean cached = this.markers.get(internalName);
+			if (cached != null) {
+				return cached;
+			}
+			if (!visited.add(internalName)) {
+				return false;
+			}
+			// @formatter:off
+			boolean result = classFileInfo(internalName)
+					.filter(info -> info.annotation)
+					.map(info -> info.referencedTypes.stream().anyMatch(type -> isMarker(type, visited)))
+					.orElse(false);
+			// @formatter:on
+			if (result) {
+				this.markers.put(internalName, true);
+			}
+			return result;
+		}
+
+		private Optional<ClassFileInfo> classFileInfo(String internalName) {
+			Optional<ClassFileInfo> cached = this.classFileInfos.get(internalName);
+			if (cached != null) {
+				return cached;
+			}
+			Optional<ClassFileInfo> result = read(internalName, () -> {
+				InputStream inputStream = this.classLoader.getResourceAsStream(internalName + CLASS_FILE_SUFFIX);
+				if (inputStream == null) {
+					throw new IOException("Class file not found");
+				}
+				return inputStream;
+			});
+			this.classFileInfos.put(internalName, result);
+			return result;
+		}
+
+		private Optional<ClassFileInfo> read(String internalName, InputStreamSupplier inputStreamSupplier) {
+			try (InputStream inputStream = inputStreamSupplier.get()) {
+				return Optional.of(ClassFileInfo.read(
+					new DataInputStream(new BufferedInputStream(inputStream, 8192))));
+			}
+			catch (Exception ex) {
+				logger.trace(ex, () -> "Failed to read class file for " + internalName.replace('/', '.'));
+				return Optional.empty();
+			}
+		}
+
+	}
+
+	private static boolean isJdkType(String internalName) {
+		if (JAVA_LANG_OBJECT.equals(internalName)) {
+			return true;
+		}
+		for (String prefix : JDK_PACKAGE_PREFIXES) {
+			if (internalName.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Results computed for types visited during a search that was cut
+	 * short due to a cycle are only known to be correct if the overall
+	 * result is negative. Positive results are cached as soon as they are
+	 * known.
+	 */
+	private static boolean cacheIfNegative(boolean result, Set<String> visited, Map<String, Boolean> cache) {
+		if (!result) {
+			visited.forEach(internalName -> cache.put(internalName, false));
+		}
+		return result;
+	}
+
+	@FunctionalInterface
+	private interface InputStreamSupplier {
+
+		InputStream get() throws IOException;
+
+	}
+
+	/**
+	 * The parts of a class file relevant for pre-filtering.
+	 *
+	 * <p>Referenced types are collected from all type descriptors in the
+	 * constant pool which, among others, include the types of all annotations
+	 * present on the class, its fields, and its methods.
+	 */
+	private static final class ClassFileInfo {
+
+		private static final int MAGIC = 0xCAFEBABE;
+		private static final int ACC_ANNOTATION = 0x2000;
+
+		private static final int CONSTANT_UTF8 = 1;
+		private static final int CONSTANT_INTEGER = 3;
+		private static final int CONSTANT_FLOAT = 4;
+		private static final int CONSTANT_LONG = 5;
+		private static final int CONSTANT_DOUBLE = 6;
+		private static final int CONSTANT_CLASS = 7;
+		private static final int CONSTANT_STRING = 8;
+		private static final int CONSTANT_FIELDREF = 9;
+		private static final int CONSTANT_METHODREF = 10;
+		private static final int CONSTANT_INTERFACE_METHODREF = 11;
+		private static final int CONSTANT_NAME_AND_TYPE = 12;
+		private static final int CONSTANT_METHOD_HANDLE = 15;
+		private static final int CONSTANT_METHOD_TYPE = 16;
+		private static final int CONSTANT_DYNAMIC = 17;
+		private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+		private static final int CONSTANT_MODULE = 19;
+		private static final int CONSTANT_PACKAGE = 20;
+
+		private static final String INNER_CLASSES_ATTRIBUTE = "InnerClasses";
+
+		final String name;
+		final boolean annotation;
+		final Set<String> referencedTypes;
+		final List<String> supertypes;
+		final List<String> memberClasses;
+
+		private ClassFileInfo(String name, boolean annotation, Set<String> referencedTypes, List<String> supertypes,
+				List<String> memberClasses) {
+			this.name = name;
+			this.annotation = annotation;
+			this.referencedTypes = referencedTypes;
+			this.supertypes = supertypes;
+			this.memberClasses = memberClasses;
+		}
+
+		static ClassFileInfo read(DataInputStream in) throws IOException {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not a class file");
+			}
+			in.skipBytes(4); // minor and major version
+
+			int constantPoolCount = in.readUnsignedShort();
+			@Nullable
+			String[] utf8Entries = new @Nullable String[constantPoolCount];
+			int[] classEntries = new int[constantPoolCount];
+			for (int i = 1; i < constantPoolCount; i++) {
+				int tag = in.readUnsignedByte();
+				switch (tag) {
+					case CONSTANT_UTF8 -> utf8Entries[i] = in.readUTF();
+					case CONSTANT_CLASS -> classEntries[i] = in.readUnsignedShort();
+					case CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE, CONSTANT_PACKAGE -> in.skipBytes(2);
+					case CONSTANT_METHOD_HANDLE -> in.skipBytes(3);
+					case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELDREF, CONSTANT_METHODREF,
+							CONSTANT_INTERFACE_METHODREF, CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC,
+							CONSTANT_INVOKE_DYNAMIC ->
+						in.skipBytes(4);
+					case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+						in.skipBytes(8);
+						i++; // occupies two entries
+					}
+					default -> throw new IOException("Unknown constant pool tag: " + tag);
+				}
+			}
+
+			int accessFlags = in.readUnsignedShort();
+			String name = className(in.readUnsignedShort(), utf8Entries, classEntries);
+			List<String> supertypes = new ArrayList<>();
+			int superClassIndex = in.readUnsignedShort();
+			if (superClassIndex != 0) {
+				supertypes.add(className(superClassIndex, utf8Entries, classEntries));
+			}
+			int interfacesCount = in.readUnsignedShort();
+			for (int i = 0; i < interfacesCount; i++) {
+				supertypes.add(className(in.readUnsignedShort(), utf8Entries, classEntries));
+			}
+			skipMembers(in); // fields
+			skipMembers(in); // methods
+
+			List<String> memberClasses = new ArrayList<>();
+			int attributesCount = in.readUnsignedShort();
+			for (int i = 0; i < attributesCount; i++) {
+				String attributeName = utf8Entries[in.readUnsignedShort()];
+				int length = in.readInt();
+				if (INNER_CLASSES_ATTRIBUTE.equals(attributeName)) {
+					readMemberClasses(in, name, utf8Entries, classEntries, memberClasses);
+				}
+				else {
+					in.skipNBytes(length);
+				}
+			}
+
+			Set<String> referencedTypes = new LinkedHashSet<>();
+			for (String utf8Entry : utf8Entries) {
+				if (utf8Entry != null) {
+					collectTypeDescriptors(utf8Entry, referencedTypes);
+				}
+			}
+			return new ClassFileInfo(name, (accessFlags & ACC_ANNOTATION) != 0, referencedTypes, supertypes,
+				memberClasses);
+		}
+
+		private static void skipMembers(DataInputStream in) throws IOException {
+			int count = in.readUnsignedShort();
+			for (int i = 0; i < count; i++) {
+				in.skipNBytes(6); // access flags, name index, and descriptor index
+				skipAttributes(in);
+			}
+		}
+
+		private static void skipAttributes(DataInputStream in) throws IOException {
+			int count = in.readUnsignedShort();
+			for (int i = 0; i < count; i++) {
+				in.skipNBytes(2); // name index
+				in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+			}
+		}
+
+		private static void readMemberClasses(DataInputStream in, String name, @Nullable String[] utf8Entries,
+				int[] classEntries, List<String> memberClasses) throws IOException {
+			int numberOfClasses = in.readUnsignedShort();
+			for (int i = 0; i < numberOfClasses; i++) {
+				int innerClassIndex = in.readUnsignedShort();
+				int outerClassIndex = in.readUnsignedShort();
+				in.skipNBytes(4); // inner name index and access flags
+				if (outerClassIndex != 0 && name.equals(className(outerClassIndex, utf8Entries, classEntries))) {
+					memberClasses.add(className(innerClassIndex, utf8Entries, classEntries));
+				}
+			}
+		}
+
+		private static String className(int classIndex, @Nullable String[] utf8Entries, int[] classEntries)
+				throws IOException {
+			String className = utf8Entries[classEntries[classIndex]];
+			if (className == null) {
+				throw new IOException("Invalid class reference: " + classIndex);
+			}
+			return className;
+		}
+
+		/**
+		 * Collect the internal names of all types referenced via
+		 * {@code L<internal name>;} in the supplied descriptor or signature.
+		 */
+		private static void collectTypeDescriptors(String value, Set<String> referencedTypes) {
+			int start = value.indexOf('L');
+			while (start >= 0) {
+				int end = start + 1;
+				while (end < value.length() && !isTypeDescriptorTerminator(value.charAt(end))) {
+					end++;
+				}
+				if (end < value.length() && end > start + 1 && isTypeDescriptorEnd(value.charAt(end))) {
+					referencedTypes.add(value.substring(start + 1, end));
+				}
+				start = value.indexOf('L', end);
+			}
+		}
+
+		private static boolean isTypeDescriptorTerminator(char c) {
+			return isTypeDescriptorEnd(c) || c == '.' || c == '(' || c == ')' || c == '[' || c == ' ';
+		}
+
+		private static boolean isTypeDescriptorEnd(char c) {
+			return c == ';' || c == '<';
+		}
+
+	}
+
+}
@@ -31,16 +31,41 @@ class ClasspathFileVisitor extends SimpleFileVisitor<Path> {
 
 	private static final Logger logger = LoggerFactory.getLogger(ClasspathFileVisitor.class);
 
+	private static final DirectoryConsumer NO_OP_DIRECTORY_CONSUMER = (basePath, directory, attributes) -> {
+	};
+
 	private final Path basePath;
 	private final BiConsumer<Path, Path> consumer;
 	private final Predicate<Path> filter;
+	private final DirectoryConsumer directoryConsumer;
+
+	private boolean failed;
 
 	ClasspathFileVisitor(Path basePath, Predicate<Path> filter, BiConsumer<Path, Path> consumer) {
+		this(basePath, filter, NO_OP_DIRECTORY_CONSUMER, consumer);
+	}
+
+	ClasspathFileVisitor(Path basePath, Predicate<Path> filter, DirectoryConsumer directoryConsumer,
+			BiConsumer<Path, Path> consumer) {
 		this.basePath = basePath;
 		this.filter = filter;
+		this.directoryConsumer = directoryConsumer;
 		this.consumer = consumer;
 	}
 
+	/**
+	 * {@return whether visiting any file or directory failed}
+	 */
+	boolean hasFailures() {
+		return this.failed;
+	}
+
+	@Override
+	public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+		directoryConsumer.accept(basePath, dir, attributes);
+		return CONTINUE;
+	}
+
 	@Override
 	public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
 		if (filter.test(file)) {
@@ -51,6 +76,7 @@ class ClasspathFileVisitor extends SimpleFileVisitor<Path> {
 
 	@Override
 	public FileVisitResult visitFileFailed(Path file, IOException ex) {
+		failed = true;
 		logger.warn(ex, () -> "I/O error visiting file: " + file);
 		return CONTINUE;
 	}
@@ -58,9 +84,17 @@ class ClasspathFileVisitor extends SimpleFileVisitor<Path> {
 	@Override
 	public FileVisitResult postVisitDirectory(Path dir, @Nullable IOException ex) {
 		if (ex != null) {
+			failed = true;
 			logger.warn(ex, () -> "I/O error visiting directory: " + dir);
 		}
 		return CONTINUE;
 	}
 
+	@FunctionalInterface
+	interface DirectoryConsumer {
+
+		void accept(Path basePath, Path directory, BasicFileAttributes attributes);
+
+	}
+
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Persistent index of the class files found in the classpath roots scanned
+ * by {@link DefaultClasspathScanner}.
+ *
+ * <p>The index is opt-in and enabled by setting the
+ * {@value #INDEX_DIRECTORY_PROPERTY_NAME} JVM system property to a writable
+ * directory. For every scanned root, one index file is stored in that
+ * directory. It contains the relative paths of all class files in the root
+ * along with a stamp that allows detecting whether the root has changed since
+ * the index file was written:
+ *
+ * <ul>
+ * <li>For archives, the stamp consists of the size and last-modified time of
+ * the archive.</li>
+ * <li>For directories, the stamp consists of the last-modified times of the
+ * root and all of its subdirectories. Since adding, removing, or renaming a
+ * file changes the last-modified time of its parent directory, checking the
+ * recorded directories suffices to detect a change to the set of class files
+ * without listing the contents of any directory.</li>
+ * </ul>
+ *
+ * <p>Roots that are neither local directories nor local archives are not
+ * indexed.
+ *
+ * @since 6.2
+ */
+final class ClasspathIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClasspathIndex.class);
+
+	/**
+	 * Name of the JVM system property used to enable the index by specifying
+	 * the directory in which index files are stored: {@value}
+	 */
+	static final String INDEX_DIRECTORY_PROPERTY_NAME = "junit.platform.discovery.classpath.index.dir";
+
+	private static final String FORMAT_VERSION = "junit-classpath-index-1";
+	private static final String INDEX_FILE_EXTENSION = ".idx";
+
+	private static final String URI_ENTRY = "U";
+	private static final String ARCHIVE_ENTRY = "A";
+	private static final String DIRECTORY_ENTRY = "D";
+	private static final String CLASS_FILE_ENTRY = "C";
+
+	private static final char ENTRY_SEPARATOR = ' ';
+	private static final char RELATIVE_PATH_SEPARATOR = '/';
+
+	private static final String JAR_URI_PREFIX = CloseablePath.JAR_URI_SCHEME + ':';
+	private static final String JAR_URI_SEPARATOR = "!/";
+	private static final String JAR_FILE_EXTENSION = ".jar";
+	private static final String FILE_URI_SCHEME = "file";
+
+	/**
+	 * Create a {@code ClasspathIndex} for the directory configured via the
+	 * {@value #INDEX_DIRECTORY_PROPERTY_NAME} JVM system property.
+	 *
+	 * @return the index; {@code null} if the property is not set
+	 */
+	static @Nullable ClasspathIndex fromSystemProperties() {
+		String indexDirectory = System.getProperty(INDEX_DIRECTORY_PROPERTY_NAME);
+		if (StringUtils.isBlank(indexDirectory)) {
+			return null;
+		}
+		return new ClasspathIndex(Path.of(indexDirectory.strip()));
+	}
+
+	private final Path indexDirectory;
+
+	ClasspathIndex(Path indexDirectory) {
+		this.indexDirectory = Preconditions.notNull(indexDirectory, "indexDirectory must not be null");
+	}
+
+	/**
+	 * Look up the class files recorded for the supplied root.
+	 *
+	 * @param baseUri the URI of the scanned root; never {@code null}
+	 * @return the {@code /}-separated paths of all class files relative to the
+	 * root; empty if the root has not been indexed yet or has changed since it
+	 * was indexed
+	 */
+	Optional<List<String>> lookup(URI baseUri) {
+		Path indexFile = indexFile(baseUri);
+		if (!Files.isRegularFile(indexFile)) {
+			return Optional.empty();
+		}
+		try {
+			return readIfUpToDate(baseUri, Files.readAllLines(indexFile, UTF_8));
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Ignoring unreadable classpath index file " + indexFile);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Create a new {@link Recorder} that collects the entries for the supplied
+	 * root while it is being scanned.
+	 *
+	 * @param baseUri the URI of the scanned root; never {@code null}
+	 * @return a new recorder; never {@code null}
+	 */
+	Recorder recorder(URI baseUri) {
+		return new Recorder(baseUri);
+	}
+
+	private Optional<List<String>> readIfUpToDate(URI baseUri, List<String> lines) throws IOException {
+		if (lines.size() < 2 || !FORMAT_VERSION.equals(lines.get(0))
+				|| !entry(URI_ENTRY, baseUri.toString()).equals(lines.get(1))) {
+			return Optional.empty();
+		}
+		Path archiveFile = archiveFile(baseUri);
+		Path baseDir = archiveFile == null ? localPath(baseUri) : null;
+		List<String> classFiles = new ArrayList<>();
+		for (String line : lines.subList(2, lines.size())) {
+			String[] parts = line.split(String.valueOf(ENTRY_SEPARATOR), 2);
+			String value = parts.length > 1 ? parts[1] : "";
+			switch (parts[0]) {
+				case ARCHIVE_ENTRY -> {
+					if (archiveFile == null || !archiveStamp(archiveFile).equals(value)) {
+						return Optional.empty();
+					}
+				}
+				case DIRECTORY_ENTRY -> {
+					if (baseDir == null || !isUnchangedDirectory(baseDir, value)) {
+						return Optional.empty();
+					}
+				}
+				case CLASS_FILE_ENTRY -> classFiles.add(value);
+				default -> {
+					return Optional.empty();
+				}
+			}
+		}
+		return Optional.of(classFiles);
+	}
+
+	private static boolean isUnchangedDirectory(Path baseDir, String entryValue) throws IOException {
+		int separatorIndex = entryValue.indexOf(ENTRY_SEPARATOR);
+		long lastModified = Long.parseLong(entryValue.substring(0, separatorIndex));
+		Path directory = baseDir.resolve(entryValue.substring(separatorIndex + 1));
+		return Files.isDirectory(directory) && Files.getLastModifiedTime(directory).toMillis() == lastModified;
+	}
+
+	private static String archiveStamp(Path archiveFile) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(archiveFile, BasicFileAttributes.class);
+		return String.valueOf(attributes.size()) + ENTRY_SEPARATOR + attributes.lastModifiedTime().toMillis();
+	}
+
+	private static @Nullable Path archiveFile(URI baseUri) {
+		String uriString = baseUri.toString();
+		if (uriString.startsWith(JAR_URI_PREFIX)) {
+			int jarUriSeparator = uriString.lastIndexOf(JAR_URI_SEPARATOR);
+			if (jarUriSeparator < 0) {
+				return null;
+			}
+			return localPath(URI.create(uriString.substring(JAR_URI_PREFIX.length(), jarUriSeparator)));
+		}
+		if (FILE_URI_SCHEME.equals(baseUri.getScheme()) && baseUri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+			return Path.of(baseUri);
+		}
+		return null;
+	}
+
+	private static @Nullable Path localPath(URI uri) {
+		return FILE_URI_SCHEME.equals(uri.getScheme()) ? Path.of(uri) : null;
+	}
+
+	private Path indexFile(URI baseUri) {
+		String fileName = UUID.nameUUIDFromBytes(baseUri.toString().getBytes(UTF_8)) + INDEX_FILE_EXTENSION;
+		return this.indexDirectory.resolve(fileName);
+	}
+
+	private static String entry(String type, String value) {
+		return type + ENTRY_SEPARATOR + value;
+	}
+
+	private static String relativePath(Path baseDir, Path path) {
+		String separator = baseDir.getFileSystem().getSeparator();
+		return baseDir.relativize(path).toString().replace(separator, String.valueOf(RELATIVE_PATH_SEPARATOR));
+	}
+
+	/**
+	 * Collects the entries for a single root while it is being scanned and
+	 * writes them to the index once the scan has completed.
+	 */
+	final class Recorder {
+
+		private final URI baseUri;
+		private final @Nullable Path archiveFile;
+		private final List<String> directoryEntries = new ArrayList<>();
+		private final List<String> classFileEntries = new ArrayList<>();
+
+		private Recorder(URI baseUri) {
+			this.baseUri = baseUri;
+			this.archiveFile = archiveFile(baseUri);
+		}
+
+		void recordDirectory(Path baseDir, Path directory, BasicFileAttributes attributes) {
+			if (this.archiveFile == null) {
+				String value = String.valueOf(attributes.lastModifiedTime().toMillis()) + ENTRY_SEPARATOR
+						+ relativePath(baseDir, directory);
+				this.directoryEntries.add(entry(DIRECTORY_ENTRY, value));
+			}
+		}
+
+		void recordClassFile(Path baseDir, Path classFile) {
+			this.classFileEntries.add(entry(CLASS_FILE_ENTRY, relativePath(baseDir, classFile)));
+		}
+
+		/**
+		 * Write the recorded entries to the index.
+		 *
+		 * <p>Failures are logged and otherwise ignored since the index is
+		 * merely an optimization.
+		 */
+		void store() {
+			if (this.archiveFile == null && localPath(this.baseUri) == null) {
+				return;
+			}
+			Path indexFile = indexFile(this.baseUri);
+			try {
+				List<String> lines = new ArrayList<>();
+				lines.add(FORMAT_VERSION);
+				lines.add(entry(URI_ENTRY, this.baseUri.toString()));
+				if (this.archiveFile != null) {
+					lines.add(entry(ARCHIVE_ENTRY, archiveStamp(this.archiveFile)));
+				}
+				lines.addAll(this.directoryEntries);
+				lines.addAll(this.classFileEntries);
+				Files.createDirectories(indexDirectory);
+				Path tempFile = Files.createTempFile(indexDirectory, indexFile.getFileName().toString(), ".tmp");
+				Files.write(tempFile, lines, UTF_8);
+				moveIntoPlace(tempFile, indexFile);
+			}
+			catch (Exception ex) {
+				logger.warn(ex, () -> "Failed to write classpath index file " + indexFile);
+			}
+		}
+
+		private void moveIntoPlace(Path tempFile, Path indexFile) throws IOException {
+			try {
+				Files.move(tempFile, indexFile, ATOMIC_MOVE, REPLACE_EXISTING);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, indexFile, REPLACE_EXISTING);
+			}
+		}
+	}
+
+}
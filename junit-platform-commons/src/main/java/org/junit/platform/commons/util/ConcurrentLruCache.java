@@ -0,0 +1,217 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A thread-safe cache with a maximum size that evicts the least recently used
+ * entries once the maximum size has been exceeded.
+ *
+ * <p>In contrast to {@link LruCache}, lookups do not need to acquire a global
+ * lock. Instead, each entry records a logical timestamp of its most recent
+ * access, and entries are evicted in batches by a single thread based on these
+ * timestamps. The logical clock only advances when entries are added so that
+ * lookups do not contend on it. Since accesses and evictions may happen
+ * concurrently, the order in which entries are evicted is only an
+ * approximation of the order in which they were least recently used, and the
+ * size of the cache may temporarily exceed its maximum size.
+ *
+ * <p>Neither keys nor values may be {@code null}.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of values maintained by this cache
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class ConcurrentLruCache<K, V> {
+
+	private final int maxSize;
+	private final int sizeAfterEviction;
+	private final Map<K, Entry<V>> entries;
+	private final AtomicLong clock = new AtomicLong();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Create a new cache that maintains approximately at most the supplied
+	 * number of entries.
+	 *
+	 * <p>Once the maximum size has been exceeded, the least recently used
+	 * entries are evicted until about seven eighths of the maximum size
+	 * remain so that evictions are amortized over subsequent additions.
+	 *
+	 * @param maxSize the maximum number of entries; must be greater than zero
+	 */
+	public ConcurrentLruCache(int maxSize) {
+		Preconditions.condition(maxSize > 0, "maxSize must be greater than zero");
+		this.maxSize = maxSize;
+		this.sizeAfterEviction = maxSize - maxSize / 8;
+		this.entries = new ConcurrentHashMap<>(maxSize + 1);
+	}
+
+	/**
+	 * Get the value associated with the supplied key, if any.
+	 *
+	 * @param key the key to look up; never {@code null}
+	 * @return the cached value or {@code null} if there is none
+	 */
+	public @Nullable V get(K key) {
+		Entry<V> entry = this.entries.get(key);
+		if (entry == null) {
+			this.missCount.increment();
+			return null;
+		}
+		this.hitCount.increment();
+		entry.touch(this.clock.get());
+		return entry.value;
+	}
+
+	/**
+	 * Associate the supplied value with the supplied key, replacing any value
+	 * previously associated with the key.
+	 *
+	 * @param key the key; never {@code null}
+	 * @param value the value; never {@code null}
+	 */
+	public void put(K key, V value) {
+		this.entries.put(key, new Entry<>(value, this.clock.incrementAndGet()));
+		evictIfNecessary();
+	}
+
+	/**
+	 * Get the value associated with the supplied key or compute and cache it
+	 * using the supplied function.
+	 *
+	 * <p>The function is invoked without holding any locks and therefore may be
+	 * invoked more than once if the same key is looked up concurrently; only
+	 * one of the computed values is cached and returned to all callers.
+	 *
+	 * @param key the key to look up; never {@code null}
+	 * @param mappingFunction the function to compute the value; never
+	 * {@code null} and must not return {@code null}
+	 * @return the cached or computed value; never {@code null}
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+		V computedValue = Preconditions.notNull(mappingFunction.apply(key),
+			"mappingFunction must not return null");
+		Entry<V> existing = this.entries.putIfAbsent(key, new Entry<>(computedValue, this.clock.incrementAndGet()));
+		if (existing != null) {
+			return existing.value;
+		}
+		evictIfNecessary();
+		return computedValue;
+	}
+
+	/**
+	 * {@return the current number of entries in this cache}
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * {@return the number of lookups that found a cached value}
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * {@return the number of lookups that did not find a cached value}
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * {@return the number of entries that have been evicted from this cache}
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	private void evictIfNecessary() {
+		if (this.entries.size() <= this.maxSize || !this.evictionLock.tryLock()) {
+			// another thread is already evicting entries
+			return;
+		}
+		try {
+			List<Map.Entry<K, Entry<V>>> candidates = new ArrayList<>(this.entries.entrySet());
+			int numberToEvict = candidates.size() - this.sizeAfterEviction;
+			if (numberToEvict <= 0) {
+				return;
+			}
+			candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+			for (int i = 0; i < numberToEvict; i++) {
+				Map.Entry<K, Entry<V>> candidate = candidates.get(i);
+				if (this.entries.remove(candidate.getKey(), candidate.getValue())) {
+					this.evictionCount.increment();
+				}
+			}
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringBuilder(this) //
+				.append("maxSize", this.maxSize) //
+				.append("size", size()) //
+				.append("hitCount", getHitCount()) //
+				.append("missCount", getMissCount()) //
+				.append("evictionCount", getEvictionCount()) //
+				.toString();
+	}
+
+	private static final class Entry<V> {
+
+		final V value;
+
+		volatile long lastAccess;
+
+		Entry(V value, long lastAccess) {
+			this.value = value;
+			this.lastAccess = lastAccess;
+		}
+
+		void touch(long now) {
+			// avoid contended writes if the entry has already been accessed recently
+			if (this.lastAccess != now) {
+				this.lastAccess = now;
+			}
+		}
+
+	}
+
+}
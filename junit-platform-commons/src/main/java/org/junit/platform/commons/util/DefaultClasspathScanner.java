@@ -10,6 +10,7 @@
 
 package org.junit.platform.commons.util;
 
+import static java.util.Objects.requireNonNullElse;
 import static java.util.stream.Collectors.joining;
 import static org.junit.platform.commons.util.SearchPathUtils.PACKAGE_SEPARATOR_CHAR;
 import static org.junit.platform.commons.util.SearchPathUtils.PACKAGE_SEPARATOR_STRING;
@@ -26,14 +27,23 @@ import java.util.Collection;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.io.Resource;
@@ -42,6 +52,7 @@ import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.support.scanning.ClassFilter;
 import org.junit.platform.commons.support.scanning.ClasspathScanner;
+import org.junit.platform.commons.util.ClasspathFileVisitor.DirectoryConsumer;
 
 /**
  * <h2>DISCLAIMER</h2>
@@ -65,15 +76,69 @@ class DefaultClasspathScanner implements ClasspathScanner {
 	 */
 	private static final String MALFORMED_CLASS_NAME_ERROR_MESSAGE = "Malformed class name";
 
+	/**
+	 * Name of the JVM system property used to configure the maximum number of
+	 * classpath roots that are scanned concurrently: {@value}
+	 *
+	 * <p>Defaults to {@code 1}, i.e. roots are scanned sequentially.
+	 */
+	static final String PARALLELISM_PROPERTY_NAME = "junit.platform.discovery.classpath.parallelism";
+
+	private static final AtomicInteger SCANNER_THREAD_NUMBER = new AtomicInteger(1);
+
 	private final Supplier<ClassLoader> classLoaderSupplier;
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> loadClass;
 
+	private final @Nullable ClasspathIndex classpathIndex;
+
+	private final @Nullable ClassFilePreFilter classFilePreFilter;
+
+	private final int parallelism;
+
 	DefaultClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
 			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass) {
 
+		this(classLoaderSupplier, loadClass, ClasspathIndex.fromSystemProperties(),
+			ClassFilePreFilter.fromSystemProperties(), parallelismFromSystemProperties());
+	}
+
+	DefaultClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass, @Nullable ClasspathIndex classpathIndex,
+			@Nullable ClassFilePreFilter classFilePreFilter) {
+
+		this(classLoaderSupplier, loadClass, classpathIndex, classFilePreFilter, 1);
+	}
+
+	DefaultClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Try<Class<?>>> loadClass, @Nullable ClasspathIndex classpathIndex,
+			@Nullable ClassFilePreFilter classFilePreFilter, int parallelism) {
+
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than 0");
 		this.classLoaderSupplier = classLoaderSupplier;
 		this.loadClass = loadClass;
+		this.classpathIndex = classpathIndex;
+		this.classFilePreFilter = classFilePreFilter;
+		this.parallelism = parallelism;
+	}
+
+	private static int parallelismFromSystemProperties() {
+		String value = System.getProperty(PARALLELISM_PROPERTY_NAME);
+		if (StringUtils.isBlank(value)) {
+			return 1;
+		}
+		try {
+			int parallelism = Integer.parseInt(value.strip());
+			if (parallelism > 0) {
+				return parallelism;
+			}
+		}
+		catch (NumberFormatException ignored) {
+			// fall through
+		}
+		logger.warn(() -> "Ignoring invalid value for JVM system property '%s': %s".formatted(
+			PARALLELISM_PROPERTY_NAME, value));
+		return 1;
 	}
 
 	@Override
@@ -93,7 +158,7 @@ class DefaultClasspathScanner implements ClasspathScanner {
 		Preconditions.notNull(root, "root must not be null");
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 
-		return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter);
+		return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter, newPreFilterSession());
 	}
 
 	@Override
@@ -120,23 +185,66 @@ class DefaultClasspathScanner implements ClasspathScanner {
 	 * Recursively scan for classes in all the supplied source directories.
 	 */
 	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
+		ClassFilePreFilter.@Nullable Session preFilterSession = newPreFilterSession();
 		// @formatter:off
-		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
+		return scanRoots(baseUris,
+					baseUri -> findClassesForUri(baseUri, basePackageName, classFilter, preFilterSession))
+				.stream()
 				.flatMap(Collection::stream)
 				.distinct()
 				.toList();
 		// @formatter:on
 	}
 
-	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
+	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter,
+			ClassFilePreFilter.@Nullable Session preFilterSession) {
 		List<Class<?>> classes = new ArrayList<>();
+		if (this.classpathIndex == null) {
+			// @formatter:off
+			walkFilesForUri(baseUri, SearchPathUtils::isClassOrSourceFile,
+					(baseDir, file) ->
+							processClassFileSafely(baseDir, basePackageName, classFilter, preFilterSession, file,
+								classes::add));
+			// @formatter:on
+		}
+		else {
+			findClassesForUriUsingIndex(this.classpathIndex, baseUri, basePackageName, classFilter, preFilterSession,
+				classes::add);
+		}
+		return classes;
+	}
+
+	private ClassFilePreFilter.@Nullable Session newPreFilterSession() {
+		return this.classFilePreFilter == null ? null : this.classFilePreFilter.newSession(getClassLoader());
+	}
+
+	/**
+	 * Use the class files recorded in the supplied index if the root has not
+	 * changed since it was indexed; otherwise, walk the root and record its
+	 * class files for subsequent scans.
+	 */
+	private void findClassesForUriUsingIndex(ClasspathIndex classpathIndex, URI baseUri, String basePackageName,
+			ClassFilter classFilter, ClassFilePreFilter.@Nullable Session preFilterSession,
+			Consumer<Class<?>> classConsumer) {
+
+		Optional<List<String>> indexedClassFiles = classpathIndex.lookup(baseUri);
+		if (indexedClassFiles.isPresent()) {
+			indexedClassFiles.get().forEach(classFile -> processIndexedClassFileSafely(baseUri, basePackageName,
+				classFilter, preFilterSession, classFile, classConsumer));
+			return;
+		}
+		ClasspathIndex.Recorder recorder = classpathIndex.recorder(baseUri);
 		// @formatter:off
-		walkFilesForUri(baseUri, SearchPathUtils::isClassOrSourceFile,
-				(baseDir, file) ->
-						processClassFileSafely(baseDir, basePackageName, classFilter, file, classes::add));
+		boolean complete = walkFilesForUri(baseUri, SearchPathUtils::isClassOrSourceFile, recorder::recordDirectory,
+				(baseDir, file) -> {
+					recorder.recordClassFile(baseDir, file);
+					processClassFileSafely(baseDir, basePackageName, classFilter, preFilterSession, file,
+						classConsumer);
+				});
 		// @formatter:on
-		return classes;
+		if (complete) {
+			recorder.store();
+		}
 	}
 
 	/**
@@ -145,14 +253,63 @@ class DefaultClasspathScanner implements ClasspathScanner {
 	private List<Resource> findResourcesForUris(List<URI> baseUris, String basePackageName,
 			ResourceFilter resourceFilter) {
 		// @formatter:off
-		return baseUris.stream()
-				.map(baseUri -> findResourcesForUri(baseUri, basePackageName, resourceFilter))
+		return scanRoots(baseUris, baseUri -> findResourcesForUri(baseUri, basePackageName, resourceFilter))
+				.stream()
 				.flatMap(Collection::stream)
 				.distinct()
 				.toList();
 		// @formatter:on
 	}
 
+	/**
+	 * Scan the supplied roots, concurrently if configured and there's more
+	 * than one root.
+	 *
+	 * <p>Each root is scanned by a single thread. The results are returned in
+	 * the order of the supplied roots so that they don't depend on the
+	 * configured parallelism.
+	 */
+	private <T> List<List<T>> scanRoots(List<URI> baseUris, Function<URI, List<T>> rootScanner) {
+		int numberOfThreads = Math.min(this.parallelism, baseUris.size());
+		if (numberOfThreads <= 1) {
+			return baseUris.stream().map(rootScanner).toList();
+		}
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads, runnable -> {
+			Thread thread = new Thread(runnable,
+				"junit-classpath-scanner-" + SCANNER_THREAD_NUMBER.getAndIncrement());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		});
+		try {
+			List<Future<List<T>>> futures = baseUris.stream() //
+					.map(baseUri -> executorService.submit(() -> rootScanner.apply(baseUri))) //
+					.toList();
+			List<List<T>> results = new ArrayList<>(futures.size());
+			for (Future<List<T>> future : futures) {
+				results.add(awaitResult(future));
+			}
+			return results;
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static <T> T awaitResult(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(ex.getCause(), ex));
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while scanning classpath roots", ex);
+		}
+	}
+
 	private List<Resource> findResourcesForUri(URI baseUri, String basePackageName, ResourceFilter resourceFilter) {
 		List<Resource> resources = new ArrayList<>();
 		// @formatter:off
@@ -164,11 +321,22 @@ class DefaultClasspathScanner implements ClasspathScanner {
 	}
 
 	private static void walkFilesForUri(URI baseUri, Predicate<Path> filter, BiConsumer<Path, Path> consumer) {
+		walkFilesForUri(baseUri, filter, (basePath, directory, attributes) -> {
+		}, consumer);
+	}
+
+	/**
+	 * @return {@code true} if all files were visited without errors
+	 */
+	private static boolean walkFilesForUri(URI baseUri, Predicate<Path> filter, DirectoryConsumer directoryConsumer,
+			BiConsumer<Path, Path> consumer) {
 		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
 			Path baseDir = closeablePath.getPath();
 			Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
 			try {
-				Files.walkFileTree(baseDir, new ClasspathFileVisitor(baseDir, filter, consumer));
+				ClasspathFileVisitor visitor = new ClasspathFileVisitor(baseDir, filter, directoryConsumer, consumer);
+				Files.walkFileTree(baseDir, visitor);
+				return !visitor.hasFailures();
 			}
 			catch (IOException ex) {
 				logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
@@ -180,28 +348,54 @@ class DefaultClasspathScanner implements ClasspathScanner {
 		catch (Exception ex) {
 			logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
 		}
+		return false;
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path file,
-			Consumer<Class<?>> classConsumer) {
+	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter,
+			ClassFilePreFilter.@Nullable Session preFilterSession, Path file, Consumer<Class<?>> classConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, file);
-			if (classFilter.match(fullyQualifiedClassName)) {
-				try {
-					// @formatter:off
-					loadClass.apply(fullyQualifiedClassName, getClassLoader())
-							.toOptional()
-							.filter(classFilter::match)
-							.ifPresent(classConsumer);
-					// @formatter:on
-				}
-				catch (InternalError internalError) {
-					handleInternalError(file, fullyQualifiedClassName, internalError);
-				}
-			}
+			processClass(fullyQualifiedClassName, file, classFilter, preFilterSession, classConsumer,
+				() -> file.toAbsolutePath().toString());
+		}
+		catch (Throwable throwable) {
+			handleThrowable(file.toAbsolutePath().toString(), throwable);
+		}
+	}
+
+	private void processIndexedClassFileSafely(URI baseUri, String basePackageName, ClassFilter classFilter,
+			ClassFilePreFilter.@Nullable Session preFilterSession, String classFile,
+			Consumer<Class<?>> classConsumer) {
+		Supplier<String> location = () -> baseUri + CLASSPATH_RESOURCE_PATH_SEPARATOR_STRING + classFile;
+		try {
+			String fullyQualifiedClassName = determineFullyQualifiedClassName(basePackageName, classFile);
+			processClass(fullyQualifiedClassName, null, classFilter, preFilterSession, classConsumer, location);
 		}
 		catch (Throwable throwable) {
-			handleThrowable(file, throwable);
+			handleThrowable(location.get(), throwable);
+		}
+	}
+
+	/**
+	 * @param classFile the class file, if available; otherwise, it is resolved
+	 * via the {@code ClassLoader} if a pre-filter is configured
+	 */
+	private void processClass(String fullyQualifiedClassName, @Nullable Path classFile, ClassFilter classFilter,
+			ClassFilePreFilter.@Nullable Session preFilterSession, Consumer<Class<?>> classConsumer,
+			Supplier<String> location) {
+		if (classFilter.match(fullyQualifiedClassName)
+				&& (preFilterSession == null || preFilterSession.isCandidate(classFile, fullyQualifiedClassName))) {
+			try {
+				// @formatter:off
+				loadClass.apply(fullyQualifiedClassName, getClassLoader())
+						.toOptional()
+						.filter(classFilter::match)
+						.ifPresent(classConsumer);
+				// @formatter:on
+			}
+			catch (InternalError internalError) {
+				handleInternalError(location.get(), fullyQualifiedClassName, internalError);
+			}
 		}
 	}
 
@@ -217,7 +411,7 @@ class DefaultClasspathScanner implements ClasspathScanner {
 			// @formatter:on
 		}
 		catch (Throwable throwable) {
-			handleThrowable(resourceFile, throwable);
+			handleThrowable(resourceFile.toAbsolutePath().toString(), throwable);
 		}
 	}
 
@@ -233,6 +427,16 @@ class DefaultClasspathScanner implements ClasspathScanner {
 		// @formatter:on
 	}
 
+	/**
+	 * Determine the fully qualified class name for a class file path that is
+	 * {@code /}-separated and relative to the scanned root.
+	 */
+	private String determineFullyQualifiedClassName(String basePackageName, String relativeClassFile) {
+		String relativeClassName = SearchPathUtils.determineFullyQualifiedClassName(Path.of(relativeClassFile));
+		return basePackageName.isEmpty() ? relativeClassName
+				: basePackageName + PACKAGE_SEPARATOR_STRING + relativeClassName;
+	}
+
 	/**
 	 * The fully qualified resource name is a {@code /}-separated path.
 	 *
@@ -263,36 +467,36 @@ class DefaultClasspathScanner implements ClasspathScanner {
 		return relativePath.toString().replace(pathSeparator, PACKAGE_SEPARATOR_STRING);
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(String classFileLocation, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
-			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
+			logMalformedClassName(classFileLocation, fullyQualifiedClassName, ex);
 		}
 		else {
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(classFileLocation, ex);
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(String classpathFileLocation, Throwable throwable) {
 		UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
-		logGenericFileProcessingException(classFile, throwable);
+		logGenericFileProcessingException(classpathFileLocation, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(String classFileLocation, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex,
 				() -> "The java.lang.Class loaded from path [%s] has a malformed class name [%s].".formatted(
-					classFile.toAbsolutePath(), fullyQualifiedClassName));
+					classFileLocation, fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
 			ex.addSuppressed(t);
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(classFileLocation, ex);
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classpathFile, Throwable throwable) {
+	private void logGenericFileProcessingException(String classpathFileLocation, Throwable throwable) {
 		logger.debug(throwable,
-			() -> "Failed to load [%s] during classpath scanning.".formatted(classpathFile.toAbsolutePath()));
+			() -> "Failed to load [%s] during classpath scanning.".formatted(classpathFileLocation));
 	}
 
 	private ClassLoader getClassLoader() {
@@ -21,7 +21,8 @@ import org.apiguardian.api.API;
 /**
  * A simple LRU cache with a maximum size.
  *
- * <p>This class is not thread-safe.
+ * <p>This class is not thread-safe. Use {@link ConcurrentLruCache} for caches
+ * that are accessed concurrently.
  *
  * @param <K> the type of keys maintained by this cache
  * @param <V> the type of values maintained by this cache
@@ -10,7 +10,6 @@
 
 package org.junit.platform.commons.util;
 
-import static java.util.Collections.synchronizedMap;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toSet;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -119,7 +118,7 @@ public final class ReflectionUtils {
 	 * @since 1.11
 	 * @see #getInterfaceMethodIfPossible(Method, Class)
 	 */
-	private static final Map<Method, Method> interfaceMethodCache = synchronizedMap(new LruCache<>(255));
+	private static final ConcurrentLruCache<Method, Method> interfaceMethodCache = new ConcurrentLruCache<>(255);
 
 	/**
 	 * Set of fully qualified class names for which no cycles have been detected
@@ -131,6 +130,21 @@ public final class ReflectionUtils {
 	 */
 	private static final Set<String> noCyclesDetectedCache = ConcurrentHashMap.newKeySet();
 
+	/**
+	 * Cache for the sorted fields and methods in the hierarchy of a class.
+	 * <p>Since the metadata is associated with the class via a {@link ClassValue},
+	 * this cache does not prevent classes from being unloaded.
+	 * @since 6.2
+	 * @see #findAllFieldsInHierarchy(Class, HierarchyTraversalMode)
+	 * @see #findAllMethodsInHierarchy(Class, HierarchyTraversalMode)
+	 */
+	private static final ClassValue<HierarchyMetadata> hierarchyMetadataCache = new ClassValue<>() {
+		@Override
+		protected HierarchyMetadata computeValue(Class<?> type) {
+			return new HierarchyMetadata(type);
+		}
+	};
+
 	/**
 	 * Internal cache of common class names mapped to their types.
 	 */
@@ -1349,10 +1363,12 @@ public final class ReflectionUtils {
 		Preconditions.notNull(predicate, "Predicate must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		MemberCopier memberCopier = new MemberCopier();
 		// @formatter:off
 		return findAllFieldsInHierarchy(clazz, traversalMode).stream()
 				.filter(predicate)
-				.distinct();
+				.distinct()
+				.map(memberCopier::copyOf);
 		// @formatter:on
 	}
 
@@ -1360,6 +1376,10 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return hierarchyMetadataCache.get(clazz).getFields(traversalMode);
+	}
+
+	private static List<Field> computeAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		Field[] localFields = getDeclaredFields(clazz).stream()
 				.filter(field -> !field.isSynthetic())
@@ -1531,10 +1551,9 @@ public final class ReflectionUtils {
 
 		for (Class<?> current = clazz; isSearchable(current); current = current.getSuperclass()) {
 			// Search for match in current type
-			List<Method> methods = current.isInterface() ? getMethods(current) : getDeclaredMethods(current, BOTTOM_UP);
-			for (Method method : methods) {
+			for (Method method : hierarchyMetadataCache.get(current).getSearchableMethods()) {
 				if (predicate.test(method)) {
-					return Optional.of(method);
+					return Optional.of(copyOf(method));
 				}
 			}
 
@@ -1616,10 +1635,12 @@ public final class ReflectionUtils {
 		Preconditions.notNull(predicate, "Predicate must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		MemberCopier memberCopier = new MemberCopier();
 		// @formatter:off
 		return findAllMethodsInHierarchy(clazz, traversalMode).stream()
 				.filter(predicate)
-				.distinct();
+				.distinct()
+				.map(memberCopier::copyOf);
 		// @formatter:on
 	}
 
@@ -1631,6 +1652,10 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return hierarchyMetadataCache.get(clazz).getMethods(traversalMode);
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		Method[] localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
@@ -1657,6 +1682,31 @@ public final class ReflectionUtils {
 		return methods;
 	}
 
+	/**
+	 * Create a copy of the supplied method which has been cached in a
+	 * {@link HierarchyMetadata} so that callers cannot change the state of the
+	 * cached instance, for example, by making it accessible.
+	 */
+	private static Method copyOf(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		try {
+			Method copy = declaringClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+			if (copy.equals(method)) {
+				return copy;
+			}
+		}
+		catch (NoSuchMethodException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+		// Bridge methods have the same name and parameter types but a different return type
+		for (Method candidate : declaringClass.getDeclaredMethods()) {
+			if (candidate.equals(method)) {
+				return candidate;
+			}
+		}
+		throw new JUnitException("Failed to copy method " + method);
+	}
+
 	/**
 	 * Custom alternative to {@link Class#getDeclaredFields()} that sorts the
 	 * fields and converts them to a mutable list.
@@ -2034,4 +2084,121 @@ public final class ReflectionUtils {
 		abstract void handle(Class<?> clazz, Class<?> enclosing);
 	}
 
+	/**
+	 * Creates copies of fields and methods which have been cached in a
+	 * {@link HierarchyMetadata} so that callers cannot change the state of the
+	 * cached instances, for example, by making them accessible.
+	 *
+	 * <p>Rather than looking up each member individually, which requires a
+	 * linear search of the declared members, all members of a declaring class
+	 * are copied at once and indexed the first time one of them is requested.
+	 *
+	 * @since 6.2
+	 */
+	private static final class MemberCopier {
+
+		private final Map<Class<?>, Map<Field, Field>> fieldCopies = new ConcurrentHashMap<>();
+		private final Map<Class<?>, Map<Method, Method>> methodCopies = new ConcurrentHashMap<>();
+
+		Field copyOf(Field field) {
+			Field copy = this.fieldCopies.computeIfAbsent(field.getDeclaringClass(),
+				declaringClass -> indexed(declaringClass.getDeclaredFields())).get(field);
+			if (copy == null) {
+				throw new JUnitException("Failed to copy field " + field);
+			}
+			return copy;
+		}
+
+		Method copyOf(Method method) {
+			Method copy = this.methodCopies.computeIfAbsent(method.getDeclaringClass(),
+				declaringClass -> indexed(declaringClass.getDeclaredMethods())).get(method);
+			if (copy == null) {
+				throw new JUnitException("Failed to copy method " + method);
+			}
+			return copy;
+		}
+
+		private static <M extends Member> Map<M, M> indexed(M[] members) {
+			Map<M, M> index = new HashMap<>(members.length * 4 / 3 + 1);
+			for (M member : members) {
+				index.put(member, member);
+			}
+			return index;
+		}
+
+	}
+
+	/**
+	 * Sorted fields and methods in the hierarchy of a class, computed lazily
+	 * for each {@link HierarchyTraversalMode} and reused for all subsequent
+	 * searches.
+	 *
+	 * <p>The cached instances are only passed to the predicates of searches;
+	 * matching members are {@linkplain MemberCopier copied} before they are
+	 * returned to callers.
+	 *
+	 * <p>Computations may race, in which case one of the equivalent results
+	 * wins. All lists are immutable and thus safely published.
+	 *
+	 * @since 6.2
+	 */
+	private static final class HierarchyMetadata {
+
+		private final Class<?> clazz;
+
+		private volatile @Nullable List<Field> fieldsTopDown;
+		private volatile @Nullable List<Field> fieldsBottomUp;
+		private volatile @Nullable List<Method> methodsTopDown;
+		private volatile @Nullable List<Method> methodsBottomUp;
+		private volatile @Nullable List<Method> searchableMethods;
+
+		HierarchyMetadata(Class<?> clazz) {
+			this.clazz = clazz;
+		}
+
+		List<Field> getFields(HierarchyTraversalMode traversalMode) {
+			List<Field> fields = traversalMode == TOP_DOWN ? this.fieldsTopDown : this.fieldsBottomUp;
+			if (fields == null) {
+				fields = List.copyOf(computeAllFieldsInHierarchy(this.clazz, traversalMode));
+				if (traversalMode == TOP_DOWN) {
+					this.fieldsTopDown = fields;
+				}
+				else {
+					this.fieldsBottomUp = fields;
+				}
+			}
+			return fields;
+		}
+
+		List<Method> getMethods(HierarchyTraversalMode traversalMode) {
+			List<Method> methods = traversalMode == TOP_DOWN ? this.methodsTopDown : this.methodsBottomUp;
+			if (methods == null) {
+				methods = List.copyOf(computeAllMethodsInHierarchy(this.clazz, traversalMode));
+				if (traversalMode == TOP_DOWN) {
+					this.methodsTopDown = methods;
+				}
+				else {
+					this.methodsBottomUp = methods;
+				}
+			}
+			return methods;
+		}
+
+		/**
+		 * {@return the public methods of an interface or the declared methods
+		 * followed by the visible interface default methods of a class}
+		 */
+		List<Method> getSearchableMethods() {
+			List<Method> methods = this.searchableMethods;
+			if (methods == null) {
+				methods = List.copyOf(this.clazz.isInterface() //
+						? ReflectionUtils.getMethods(this.clazz) //
+						: getDeclaredMethods(this.clazz, BOTTOM_UP));
+				this.searchableMethods = methods;
+			}
+			return methods;
+		}
+
+	}
+
 }
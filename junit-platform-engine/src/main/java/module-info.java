@@ -21,6 +21,7 @@ module org.junit.platform.engine {
 	requires static transitive org.apiguardian.api;
 	requires static transitive org.jspecify;
 
+	requires java.management; // needed by ThreadActivitySampler to measure CPU time of worker threads
 	requires transitive org.junit.platform.commons;
 	requires transitive org.opentest4j;
 
@@ -21,7 +21,7 @@ import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.ref.SoftReference;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -38,6 +38,13 @@ import org.junit.platform.commons.util.ToStringBuilder;
  *
  * <p>Instances of this class have value semantics and are immutable.
  *
+ * <p>Internally, a {@code UniqueId} only stores its last {@link Segment} and a
+ * reference to the {@code UniqueId} it was derived from. IDs created by
+ * {@linkplain #append(Segment) appending} to a common parent therefore share
+ * that parent's segments instead of copying them, and both their memory
+ * footprint and the cost of {@link #hasPrefix(UniqueId)} are proportional to
+ * their depth rather than to the total number of segments in a tree of IDs.
+ *
  * @since 1.0
  */
 @API(status = STABLE, since = "1.0")
@@ -92,33 +99,59 @@ public final class UniqueId implements Cloneable, Serializable {
 	 * @see #forEngine(String)
 	 */
 	public static UniqueId root(String segmentType, String value) {
-		return new UniqueId(new Segment(segmentType, value));
+		return new UniqueId(null, new Segment(segmentType, value));
 	}
 
-	@SuppressWarnings({ "serial", "RedundantSuppression" })
-	// always used with serializable implementation (List.copyOf())
-	// This is effectively final but not technically due to late initialization when deserializing
-	private /* final */ List<Segment> segments;
+	// The following fields are effectively final but not technically due to
+	// late initialization when deserializing
+
+	// null for root IDs
+	private transient /* final */ @Nullable UniqueId parent;
+
+	private transient /* final */ Segment lastSegment;
+
+	// number of segments including those of all ancestors
+	private transient /* final */ int size;
+
+	// same value as List.hashCode() of all segments
+	private transient /* final */ int segmentsHashCode;
 
 	// lazily computed
-	private transient int hashCode;
+	private transient @Nullable SoftReference<List<Segment>> segments;
 
 	// lazily computed
 	private transient @Nullable SoftReference<String> toString;
 
-	private UniqueId(Segment segment) {
-		this(List.of(segment));
+	private UniqueId(@Nullable UniqueId parent, Segment lastSegment) {
+		this.parent = parent;
+		this.lastSegment = lastSegment;
+		this.size = parent == null ? 1 : parent.size + 1;
+		this.segmentsHashCode = 31 * (parent == null ? 1 : parent.segmentsHashCode) + lastSegment.hashCode();
 	}
 
 	/**
 	 * Initialize a {@code UniqueId} instance.
 	 */
 	UniqueId(List<Segment> segments) {
-		this.segments = List.copyOf(segments);
+		this(parentOf(segments), segments.get(segments.size() - 1));
+	}
+
+	private static @Nullable UniqueId parentOf(List<Segment> segments) {
+		Preconditions.notEmpty(segments, "segments must not be null or empty");
+		Preconditions.containsNoNullElements(segments, "segments must not contain null elements");
+		UniqueId parent = null;
+		for (Segment segment : segments.subList(0, segments.size() - 1)) {
+			parent = new UniqueId(parent, segment);
+		}
+		return parent;
 	}
 
 	Optional<Segment> getRoot() {
-		return this.segments.isEmpty() ? Optional.empty() : Optional.of(this.segments.get(0));
+		UniqueId root = this;
+		while (root.parent != null) {
+			root = root.parent;
+		}
+		return Optional.of(root.lastSegment);
 	}
 
 	/**
@@ -135,7 +168,20 @@ public final class UniqueId implements Cloneable, Serializable {
 	 * {@code UniqueId}.
 	 */
 	public List<Segment> getSegments() {
-		return this.segments;
+		SoftReference<List<Segment>> s = this.segments;
+		List<Segment> value = s == null ? null : s.get();
+		if (value == null) {
+			Segment[] array = new Segment[this.size];
+			UniqueId current = this;
+			for (int i = this.size - 1; i >= 0; i--) {
+				array[i] = current.lastSegment;
+				current = current.parent;
+			}
+			value = List.copyOf(Arrays.asList(array));
+			// this is a benign race like String#hash, see toString()
+			this.segments = new SoftReference<>(value);
+		}
+		return value;
 	}
 
 	/**
@@ -169,10 +215,7 @@ public final class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public UniqueId append(Segment segment) {
 		Preconditions.notNull(segment, "segment must not be null");
-		List<Segment> baseSegments = new ArrayList<>(this.segments.size() + 1);
-		baseSegments.addAll(this.segments);
-		baseSegments.add(segment);
-		return new UniqueId(baseSegments);
+		return new UniqueId(this, segment);
 	}
 
 	/**
@@ -206,9 +249,14 @@ public final class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public boolean hasPrefix(UniqueId potentialPrefix) {
 		Preconditions.notNull(potentialPrefix, "potentialPrefix must not be null");
-		int size = this.segments.size();
-		int prefixSize = potentialPrefix.segments.size();
-		return size >= prefixSize && this.segments.subList(0, prefixSize).equals(potentialPrefix.segments);
+		if (this.size < potentialPrefix.size) {
+			return false;
+		}
+		UniqueId candidate = this;
+		while (candidate.size > potentialPrefix.size) {
+			candidate = requireParent(candidate);
+		}
+		return candidate.equals(potentialPrefix);
 	}
 
 	/**
@@ -224,8 +272,8 @@ public final class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public UniqueId removeLastSegment() {
-		Preconditions.condition(this.segments.size() > 1, "Cannot remove last remaining segment");
-		return new UniqueId(this.segments.subList(0, this.segments.size() - 1));
+		Preconditions.condition(this.size > 1, "Cannot remove last remaining segment");
+		return requireParent(this);
 	}
 
 	/**
@@ -236,7 +284,11 @@ public final class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public Segment getLastSegment() {
-		return this.segments.get(this.segments.size() - 1);
+		return this.lastSegment;
+	}
+
+	private static UniqueId requireParent(UniqueId uniqueId) {
+		return Preconditions.notNull(uniqueId.parent, "parent must not be null");
 	}
 
 	@Override
@@ -253,7 +305,11 @@ public final class UniqueId implements Cloneable, Serializable {
 	@Serial
 	private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
 		SerializedForm serializedForm = SerializedForm.deserialize(s);
-		segments = serializedForm.segments;
+		UniqueId uniqueId = new UniqueId(serializedForm.segments);
+		this.parent = uniqueId.parent;
+		this.lastSegment = uniqueId.lastSegment;
+		this.size = uniqueId.size;
+		this.segmentsHashCode = uniqueId.segmentsHashCode;
 	}
 
 	@Override
@@ -266,28 +322,27 @@ public final class UniqueId implements Cloneable, Serializable {
 		}
 
 		UniqueId that = (UniqueId) o;
-		return this.segments.equals(that.segments);
+		UniqueId current = this;
+		while (current != null && that != null) {
+			if (current == that) {
+				// shared prefix
+				return true;
+			}
+			if (current.size != that.size || current.segmentsHashCode != that.segmentsHashCode
+					|| !current.lastSegment.equals(that.lastSegment)) {
+				return false;
+			}
+			current = current.parent;
+			that = that.parent;
+		}
+		return current == that;
 	}
 
 	@Override
 	public int hashCode() {
-		int value = this.hashCode;
-		if (value == 0) {
-			value = this.segments.hashCode();
-			if (value == 0) {
-				// handle the edge case of the computed hashCode being 0
-				value = 1;
-			}
-			// this is a benign race like String#hash
-			// we potentially read and write values from multiple threads
-			// without a happens-before relationship
-			// however the JMM guarantees us that we only ever see values
-			// that were valid at one point, either 0 or the hash code
-			// so we might end up not seeing a value that a different thread
-			// has computed or multiple threads writing the same value
-			this.hashCode = value;
-		}
-		return value;
+		int value = this.segmentsHashCode;
+		// handle the edge case of the computed hashCode being 0
+		return value == 0 ? 1 : value;
 	}
 
 	/**
@@ -410,7 +465,7 @@ public final class UniqueId implements Cloneable, Serializable {
 		private final UniqueIdFormat uniqueIdFormat;
 
 		SerializedForm(UniqueId uniqueId) {
-			this.segments = uniqueId.segments;
+			this.segments = uniqueId.getSegments();
 			this.uniqueIdFormat = UniqueIdFormat.getDefault();
 		}
 
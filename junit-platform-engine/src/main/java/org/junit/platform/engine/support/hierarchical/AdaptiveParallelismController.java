@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ToStringBuilder;
+
+/**
+ * Periodically samples the state of the workers of an executor service and
+ * adjusts its parallelism within the bounds of an
+ * {@link AdaptiveParallelExecutionConfiguration}.
+ *
+ * <p>The parallelism is increased if tasks are waiting to be executed while
+ * some workers are blocked, for example, on I/O, and fewer workers are
+ * runnable than there are processors. It is decreased toward the number of
+ * available processors if none of the workers are blocked.
+ *
+ * @since 6.2
+ * @see DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ */
+class AdaptiveParallelismController implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelismController.class);
+
+	private static final AtomicInteger CONTROLLER_NUMBER = new AtomicInteger(1);
+
+	private final int minParallelism;
+	private final int maxParallelism;
+	private final int availableProcessors;
+	private final Supplier<Sample> sampler;
+	private final IntConsumer parallelismAdjuster;
+	private final ScheduledExecutorService scheduler;
+
+	static AdaptiveParallelismController start(AdaptiveParallelExecutionConfiguration configuration,
+			Supplier<Sample> sampler, IntConsumer parallelismAdjuster) {
+		var controller = new AdaptiveParallelismController(configuration.getMinParallelism(),
+			configuration.getMaxParallelism(), Runtime.getRuntime().availableProcessors(), sampler,
+			parallelismAdjuster);
+		var interval = configuration.getSamplingIntervalMillis();
+		controller.scheduler.scheduleWithFixedDelay(controller::adjust, interval, interval, MILLISECONDS);
+		return controller;
+	}
+
+	// package-private for testing
+	AdaptiveParallelismController(int minParallelism, int maxParallelism, int availableProcessors,
+			Supplier<Sample> sampler, IntConsumer parallelismAdjuster) {
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+		this.availableProcessors = availableProcessors;
+		this.sampler = sampler;
+		this.parallelismAdjuster = parallelismAdjuster;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			var thread = new Thread(runnable,
+				"junit-adaptive-parallelism-%d".formatted(CONTROLLER_NUMBER.getAndIncrement()));
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	void adjust() {
+		try {
+			var sample = sampler.get();
+			var parallelism = computeParallelism(sample);
+			if (parallelism != sample.parallelism()) {
+				logger.debug(() -> "adjusting parallelism from %d to %d based on %s".formatted(sample.parallelism(),
+					parallelism, sample));
+				parallelismAdjuster.accept(parallelism);
+			}
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Failed to adjust parallelism");
+		}
+	}
+
+	int computeParallelism(Sample sample) {
+		var current = sample.parallelism();
+		var target = current;
+		if (sample.queuedTasks() > 0 && sample.blockedWorkers() > 0
+				&& sample.runnableWorkers() < availableProcessors) {
+			// compensate for blocked workers while processors are idle
+			target = current + Math.min(sample.blockedWorkers(), sample.queuedTasks());
+		}
+		else if (sample.blockedWorkers() == 0 && current > availableProcessors) {
+			// give back half of the excess workers that are no longer needed
+			target = current - Math.max(1, (current - availableProcessors) / 2);
+		}
+		return Math.max(minParallelism, Math.min(maxParallelism, target));
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringBuilder(this) //
+				.append("minParallelism", minParallelism) //
+				.append("maxParallelism", maxParallelism) //
+				.append("availableProcessors", availableProcessors) //
+				.toString();
+	}
+
+	/**
+	 * Snapshot of the state of an executor service's workers.
+	 *
+	 * @param parallelism the current parallelism
+	 * @param runnableWorkers the number of workers that hold a worker lease
+	 * and are runnable
+	 * @param blockedWorkers the number of workers that hold a worker lease
+	 * and are blocked or waiting
+	 * @param queuedTasks the number of tasks waiting to be executed
+	 */
+	record Sample(int parallelism, int runnableWorkers, int blockedWorkers, int queuedTasks) {
+	}
+
+}
@@ -10,7 +10,6 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.Lock;
@@ -26,11 +25,17 @@ class CompositeLock implements ResourceLock {
 	private final List<ExclusiveResource> resources;
 	private final List<Lock> locks;
 	private final boolean exclusive;
+	private final ResourceLockListener listener;
 
 	CompositeLock(List<ExclusiveResource> resources, List<Lock> locks) {
+		this(resources, locks, ResourceLockListener.NOOP);
+	}
+
+	CompositeLock(List<ExclusiveResource> resources, List<Lock> locks, ResourceLockListener listener) {
 		Preconditions.condition(resources.size() == locks.size(), "Resources and locks must have the same size");
 		this.resources = List.copyOf(resources);
 		this.locks = Preconditions.notEmpty(locks, "Locks must not be empty");
+		this.listener = listener;
 		this.exclusive = resources.stream().anyMatch(
 			resource -> resource.getLockMode() == ExclusiveResource.LockMode.READ_WRITE);
 	}
@@ -47,36 +52,32 @@ class CompositeLock implements ResourceLock {
 
 	@Override
 	public boolean tryAcquire() {
-		List<Lock> acquiredLocks = new ArrayList<>(this.locks.size());
-		for (Lock lock : this.locks) {
-			if (lock.tryLock()) {
-				acquiredLocks.add(lock);
-			}
-			else {
-				break;
+		for (int i = 0; i < this.locks.size(); i++) {
+			if (!this.locks.get(i).tryLock()) {
+				this.listener.contended(this.resources.get(i));
+				release(i);
+				return false;
 			}
 		}
-		if (acquiredLocks.size() == this.locks.size()) {
-			return true;
-		}
-		else {
-			release(acquiredLocks);
-			return false;
-		}
+		this.listener.acquired(this.resources);
+		return true;
 	}
 
 	@Override
 	public ResourceLock acquire() throws InterruptedException {
 		ForkJoinPool.managedBlock(new CompositeLockManagedBlocker());
+		this.listener.acquired(this.resources);
 		return this;
 	}
 
 	private void acquireAllLocks() throws InterruptedException {
-		List<Lock> acquiredLocks = new ArrayList<>(this.locks.size());
+		int acquiredLocks = 0;
 		try {
 			for (Lock lock : this.locks) {
-				lock.lockInterruptibly();
-				acquiredLocks.add(lock);
+				if (!lock.tryLock()) {
+					awaitLock(lock, this.resources.get(acquiredLocks));
+				}
+				acquiredLocks++;
 			}
 		}
 		catch (InterruptedException e) {
@@ -85,14 +86,27 @@ class CompositeLock implements ResourceLock {
 		}
 	}
 
+	private void awaitLock(Lock lock, ExclusiveResource resource) throws InterruptedException {
+		this.listener.contended(resource);
+		this.listener.waitStarted(resource);
+		long startTime = System.nanoTime();
+		try {
+			lock.lockInterruptibly();
+		}
+		finally {
+			this.listener.waitFinished(resource, System.nanoTime() - startTime);
+		}
+	}
+
 	@Override
 	public void release() {
-		release(this.locks);
+		this.listener.released(this.resources);
+		release(this.locks.size());
 	}
 
-	private void release(List<Lock> acquiredLocks) {
-		for (int i = acquiredLocks.size() - 1; i >= 0; i--) {
-			acquiredLocks.get(i).unlock();
+	private void release(int acquiredLocks) {
+		for (int i = acquiredLocks - 1; i >= 0; i--) {
+			this.locks.get(i).unlock();
 		}
 	}
 
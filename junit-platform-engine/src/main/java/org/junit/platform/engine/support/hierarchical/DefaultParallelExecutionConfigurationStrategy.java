@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -111,6 +112,58 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 					.getNonNullOrThrow(cause -> new JUnitException(
 						"Could not create configuration for strategy class: " + className, cause));
 		}
+	},
+
+	/**
+	 * Starts with a parallelism equal to the number of available
+	 * processors/cores and adjusts it while tests are running within the
+	 * bounds of the {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME} and
+	 * {@value #CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME} configuration
+	 * parameters.
+	 *
+	 * <p>The parallelism is increased if workers are blocked, for example,
+	 * waiting for I/O, while tests are waiting to be executed, and decreased
+	 * again once workers are no longer blocked. Since threads blocked in
+	 * native code, such as socket or file I/O, report
+	 * {@link Thread.State#RUNNABLE RUNNABLE}, a runnable worker is considered
+	 * blocked if it consumed little CPU time since it was last sampled. If the
+	 * JVM does not support measuring the CPU time of individual threads, such
+	 * workers are considered runnable instead.
+	 *
+	 * <p>The parallelism is only adjusted by
+	 * {@link WorkerThreadPoolHierarchicalTestExecutorService}; other executor
+	 * services use the initial parallelism for the entire run.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			int minParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(1);
+			Preconditions.condition(minParallelism > 0,
+				() -> "Value '%d' specified via configuration parameter '%s' must be greater than 0".formatted(
+					minParallelism, CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME));
+
+			int maxParallelism = configurationParameters.get(CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME,
+				Integer::valueOf).orElse(Math.max(minParallelism, 256));
+			Preconditions.condition(maxParallelism >= minParallelism,
+				() -> "Value '%d' specified via configuration parameter '%s' must be greater than or equal to %d".formatted(
+					maxParallelism, CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME, minParallelism));
+
+			long samplingIntervalMillis = configurationParameters.get(CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME,
+				Long::valueOf).orElse(500L);
+			Preconditions.condition(samplingIntervalMillis > 0,
+				() -> "Value '%d' specified via configuration parameter '%s' must be greater than 0".formatted(
+					samplingIntervalMillis, CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME));
+
+			int parallelism = Math.max(minParallelism,
+				Math.min(maxParallelism, Runtime.getRuntime().availableProcessors()));
+
+			return new AdaptiveParallelExecutionConfiguration(parallelism, minParallelism, maxParallelism,
+				samplingIntervalMillis, maxParallelism + 256, KEEP_ALIVE_SECONDS, __ -> true);
+		}
 	};
 
 	private static final int KEEP_ALIVE_SECONDS = 30;
@@ -118,8 +171,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -207,6 +260,46 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	@API(status = MAINTAINED, since = "1.13.3")
 	public static final String CONFIG_DYNAMIC_SATURATE_PROPERTY_NAME = "dynamic.saturate";
 
+	/**
+	 * Property name used to configure the minimum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 1}.
+	 *
+	 * @since 6.2
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME = "adaptive.min-parallelism";
+
+	/**
+	 * Property name used to configure the maximum parallelism for the
+	 * {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be an integer greater than or equal to
+	 * {@value #CONFIG_ADAPTIVE_MIN_PARALLELISM_PROPERTY_NAME}; defaults to
+	 * {@code 256}. The maximum pool size is set to
+	 * {@code 256 + adaptive.max-parallelism}.
+	 *
+	 * @since 6.2
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String CONFIG_ADAPTIVE_MAX_PARALLELISM_PROPERTY_NAME = "adaptive.max-parallelism";
+
+	/**
+	 * Property name used to configure the interval in milliseconds at which
+	 * the state of the workers is sampled by the {@link #ADAPTIVE}
+	 * configuration strategy.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 500}.
+	 *
+	 * @since 6.2
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String CONFIG_ADAPTIVE_SAMPLING_INTERVAL_PROPERTY_NAME = "adaptive.sampling-interval";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
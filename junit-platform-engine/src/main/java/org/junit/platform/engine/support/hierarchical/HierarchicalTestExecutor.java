@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import java.time.Duration;
 import java.util.concurrent.Future;
 
 import org.jspecify.annotations.Nullable;
@@ -18,6 +19,9 @@ import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
 
 /**
  * Implementation core of all {@link TestEngine TestEngines} that wish to
@@ -62,10 +66,85 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 
 	private NodeTestTaskContext createTaskContext() {
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
-		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(this.request.getRootTestDescriptor());
+		boolean lockStatisticsEnabled = this.request.getConfigurationParameters() //
+				.getBoolean(ResourceLockStatistics.ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+		LockManager lockManager = new LockManager(lockStatisticsEnabled);
+		if (lockStatisticsEnabled) {
+			boolean nodeWaitTimeEnabled = this.request.getConfigurationParameters() //
+					.getBoolean(ResourceLockStatistics.NODE_WAIT_TIME_ENABLED_PROPERTY_NAME) //
+					.orElse(false);
+			executionListener = new LockStatisticsPublishingListener(executionListener,
+				this.request.getRootTestDescriptor(), lockManager, nodeWaitTimeEnabled);
+		}
+		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker(lockManager).walk(
+			this.request.getRootTestDescriptor());
 		CancellationToken cancellationToken = this.request.getCancellationToken();
 		return new NodeTestTaskContext(executionListener, this.executorService, this.throwableCollectorFactory,
 			executionAdvisor, cancellationToken);
 	}
 
+	/**
+	 * Publishes the {@linkplain ResourceLockStatistics statistics} recorded by
+	 * the {@link LockManager} before reporting that execution of the root
+	 * descriptor has finished and, if enabled, the time each node waited for
+	 * its resource locks after reporting that its execution has started.
+	 */
+	private static class LockStatisticsPublishingListener implements EngineExecutionListener {
+
+		private final EngineExecutionListener delegate;
+		private final TestDescriptor rootTestDescriptor;
+		private final LockManager lockManager;
+		private final boolean nodeWaitTimeEnabled;
+
+		LockStatisticsPublishingListener(EngineExecutionListener delegate, TestDescriptor rootTestDescriptor,
+				LockManager lockManager, boolean nodeWaitTimeEnabled) {
+			this.delegate = delegate;
+			this.rootTestDescriptor = rootTestDescriptor;
+			this.lockManager = lockManager;
+			this.nodeWaitTimeEnabled = nodeWaitTimeEnabled;
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+			delegate.dynamicTestRegistered(testDescriptor);
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+			lockManager.consumePendingWaitNanos();
+			delegate.executionSkipped(testDescriptor, reason);
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+			delegate.executionStarted(testDescriptor);
+			long waitNanos = lockManager.consumePendingWaitNanos();
+			if (nodeWaitTimeEnabled && waitNanos > 0) {
+				delegate.reportingEntryPublished(testDescriptor,
+					ResourceLockStatistics.waitTimeReportEntry(Duration.ofNanos(waitNanos)));
+			}
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+			if (testDescriptor.equals(rootTestDescriptor)) {
+				lockManager.getStatistics().forEach(
+					statistics -> delegate.reportingEntryPublished(testDescriptor, statistics.toReportEntry()));
+			}
+			delegate.executionFinished(testDescriptor, testExecutionResult);
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+			delegate.reportingEntryPublished(testDescriptor, entry);
+		}
+
+		@Override
+		public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+			delegate.fileEntryPublished(testDescriptor, file);
+		}
+
+	}
+
 }
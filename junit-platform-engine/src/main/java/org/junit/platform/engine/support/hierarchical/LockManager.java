@@ -11,15 +11,14 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,17 +27,33 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
+ * Resolves {@link ExclusiveResource ExclusiveResources} to
+ * {@link ResourceLock ResourceLocks}.
+ *
+ * <p>Resolved locks are cached by their distinct, sorted resources so that
+ * nodes declaring the same resources share a single lock instance. In
+ * addition, the number of times a lock could not be acquired without blocking
+ * is counted per resource key and, if enabled, further
+ * {@linkplain ResourceLockStatistics statistics} are recorded.
+ *
  * @since 1.3
  */
 class LockManager {
 
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+	private final Map<List<ExclusiveResource>, ResourceLock> locksByResources = new ConcurrentHashMap<>();
+	private final ResourceLockStatisticsRecorder statisticsRecorder;
 	private final SingleLock globalReadLock;
 	private final SingleLock globalReadWriteLock;
 
 	LockManager() {
-		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ));
-		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE));
+		this(false);
+	}
+
+	LockManager(boolean statisticsEnabled) {
+		statisticsRecorder = new ResourceLockStatisticsRecorder(statisticsEnabled);
+		globalReadLock = new SingleLock(GLOBAL_READ, toLock(GLOBAL_READ), statisticsRecorder);
+		globalReadWriteLock = new SingleLock(GLOBAL_READ_WRITE, toLock(GLOBAL_READ_WRITE), statisticsRecorder);
 	}
 
 	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
@@ -49,6 +64,29 @@ class LockManager {
 		return toResourceLock(List.of(resource));
 	}
 
+	/**
+	 * {@return the number of times locks for each resource key could not be
+	 * acquired without blocking or waiting}
+	 */
+	Map<String, Long> getContentionCounts() {
+		return statisticsRecorder.getContentionCounts();
+	}
+
+	/**
+	 * {@return the time the current thread waited for resource locks since
+	 * this method was last called on it}
+	 */
+	long consumePendingWaitNanos() {
+		return statisticsRecorder.consumePendingWaitNanos();
+	}
+
+	/**
+	 * {@return the statistics recorded for each resource key, sorted by key}
+	 */
+	List<ResourceLockStatistics> getStatistics() {
+		return statisticsRecorder.getStatistics();
+	}
+
 	private List<ExclusiveResource> toDistinctSortedResources(Collection<ExclusiveResource> resources) {
 		if (resources.isEmpty()) {
 			return emptyList();
@@ -56,23 +94,26 @@ class LockManager {
 		if (resources.size() == 1) {
 			return List.of(getOnlyElement(resources));
 		}
-		// @formatter:off
-		Map<String, List<ExclusiveResource>> resourcesByKey = resources.stream()
-				.sorted(ExclusiveResource.COMPARATOR)
-				.distinct()
-				.collect(groupingBy(ExclusiveResource::getKey, LinkedHashMap::new, toList()));
-
-		return resourcesByKey.values().stream()
-				.map(resourcesWithSameKey -> resourcesWithSameKey.get(0))
-				.toList();
-		// @formatter:on
+		ExclusiveResource[] sortedResources = resources.toArray(new ExclusiveResource[0]);
+		Arrays.sort(sortedResources, ExclusiveResource.COMPARATOR);
+		// READ_WRITE sorts before READ so the first resource per key wins
+		List<ExclusiveResource> distinctResources = new ArrayList<>(sortedResources.length);
+		String previousKey = null;
+		for (ExclusiveResource resource : sortedResources) {
+			if (!resource.getKey().equals(previousKey)) {
+				distinctResources.add(resource);
+				previousKey = resource.getKey();
+			}
+		}
+		return distinctResources;
 	}
 
 	private ResourceLock toResourceLock(List<ExclusiveResource> resources) {
 		return switch (resources.size()) {
 			case 0 -> NopLock.INSTANCE;
 			case 1 -> toSingleLock(getOnlyElement(resources));
-			default -> new CompositeLock(resources, toLocks(resources));
+			default -> locksByResources.computeIfAbsent(List.copyOf(resources),
+				__ -> new CompositeLock(resources, toLocks(resources), statisticsRecorder));
 		};
 	}
 
@@ -83,11 +124,16 @@ class LockManager {
 		if (GLOBAL_READ_WRITE.equals(resource)) {
 			return globalReadWriteLock;
 		}
-		return new SingleLock(resource, toLock(resource));
+		return (SingleLock) locksByResources.computeIfAbsent(List.of(resource),
+			__ -> new SingleLock(resource, toLock(resource), statisticsRecorder));
 	}
 
 	private List<Lock> toLocks(List<ExclusiveResource> resources) {
-		return resources.stream().map(this::toLock).toList();
+		List<Lock> locks = new ArrayList<>(resources.size());
+		for (ExclusiveResource resource : resources) {
+			locks.add(toLock(resource));
+		}
+		return locks;
 	}
 
 	private Lock toLock(ExclusiveResource resource) {
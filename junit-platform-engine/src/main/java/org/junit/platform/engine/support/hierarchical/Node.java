@@ -308,6 +308,22 @@ public interface Node<C extends EngineExecutionContext> {
 		 */
 		void execute(TestDescriptor testDescriptor);
 
+		/**
+		 * Submit a dynamic test descriptor for immediate execution and return a
+		 * future to wait for its execution.
+		 *
+		 * <p>In contrast to {@link #execute(TestDescriptor, EngineExecutionListener)},
+		 * the execution listener of the enclosing node is notified.
+		 *
+		 * @param testDescriptor the test descriptor to be executed; never
+		 * {@code null}
+		 * @return a future to cancel or wait for the execution
+		 * @since 6.2
+		 * @see #execute(TestDescriptor)
+		 */
+		@API(status = EXPERIMENTAL, since = "6.2")
+		Future<?> submit(TestDescriptor testDescriptor);
+
 		/**
 		 * Submit a dynamic test descriptor for immediate execution with a
 		 * custom, potentially no-op, execution listener.
@@ -243,7 +243,12 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		@Override
 		@SuppressWarnings("FutureReturnValueIgnored")
 		public void execute(TestDescriptor testDescriptor) {
-			execute(testDescriptor, taskContext.listener());
+			submit(testDescriptor);
+		}
+
+		@Override
+		public Future<?> submit(TestDescriptor testDescriptor) {
+			return execute(testDescriptor, taskContext.listener());
 		}
 
 		@Override
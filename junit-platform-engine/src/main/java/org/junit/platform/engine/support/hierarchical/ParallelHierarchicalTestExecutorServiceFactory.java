@@ -13,12 +13,14 @@ package org.junit.platform.engine.support.hierarchical;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
+import java.nio.file.Path;
 import java.util.Locale;
 
 import org.apiguardian.api.API;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
 import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService.TaskEventListener;
+import org.junit.platform.engine.support.hierarchical.WorkerThreadPoolHierarchicalTestExecutorService.WorkQueueType;
 
 /**
  * Factory for {@link HierarchicalTestExecutorService} instances that support
@@ -28,6 +30,7 @@ import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTe
  * @see ParallelExecutorServiceType
  * @see ForkJoinPoolHierarchicalTestExecutorService
  * @see WorkerThreadPoolHierarchicalTestExecutorService
+ * @see VirtualThreadHierarchicalTestExecutorService
  */
 @API(status = MAINTAINED, since = "6.1")
 public final class ParallelHierarchicalTestExecutorServiceFactory {
@@ -37,12 +40,57 @@ public final class ParallelHierarchicalTestExecutorServiceFactory {
 	 * {@link ParallelExecutorServiceType ParallelExecutorServiceType}.
 	 *
 	 * <p>Value must be
-	 * {@link ParallelExecutorServiceType#FORK_JOIN_POOL FORK_JOIN_POOL} or
+	 * {@link ParallelExecutorServiceType#FORK_JOIN_POOL FORK_JOIN_POOL},
 	 * {@link ParallelExecutorServiceType#WORKER_THREAD_POOL WORKER_THREAD_POOL},
+	 * or {@link ParallelExecutorServiceType#VIRTUAL_THREADS VIRTUAL_THREADS},
 	 * ignoring case.
 	 */
 	public static final String EXECUTOR_SERVICE_PROPERTY_NAME = "executor-service";
 
+	/**
+	 * Property name used to determine the work queue used by
+	 * {@link WorkerThreadPoolHierarchicalTestExecutorService}.
+	 *
+	 * <p>Value must be {@code shared} (default) or {@code per-worker}, ignoring
+	 * case. With {@code shared}, all worker threads take tasks from a single
+	 * queue. With {@code per-worker}, each worker thread maintains its own
+	 * deque of forked tasks and only steals tasks from other workers when its
+	 * own deque is empty, which reduces contention when there are many worker
+	 * threads and fine-grained tasks.
+	 *
+	 * <p>This property is ignored unless the
+	 * {@value #EXECUTOR_SERVICE_PROPERTY_NAME} key is set to
+	 * {@link ParallelExecutorServiceType#WORKER_THREAD_POOL WORKER_THREAD_POOL}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String WORK_QUEUE_PROPERTY_NAME = "work-queue";
+
+	/**
+	 * Property name used to specify the path of a test duration history file
+	 * used by {@link WorkerThreadPoolHierarchicalTestExecutorService}.
+	 *
+	 * <p>If set, sibling tests and containers whose durations were recorded
+	 * in the history file are started in descending order of their recorded
+	 * duration, that is, longest first, regardless of the order in which they
+	 * were discovered. Tests and containers without recorded duration are
+	 * started afterward in their original order. If the file does not exist,
+	 * the original order is used.
+	 *
+	 * <p>The history file is typically written by
+	 * {@code org.junit.platform.launcher.listeners.TestDurationHistoryListener}
+	 * during a previous run.
+	 *
+	 * <p>This property is ignored unless the
+	 * {@value #EXECUTOR_SERVICE_PROPERTY_NAME} key is set to
+	 * {@link ParallelExecutorServiceType#WORKER_THREAD_POOL WORKER_THREAD_POOL}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String DURATION_HISTORY_FILE_PROPERTY_NAME = "duration-history-file";
+
 	/**
 	 * Create a new {@link HierarchicalTestExecutorService} based on the
 	 * supplied {@link ConfigurationParameters}.
@@ -52,8 +100,11 @@ public final class ParallelHierarchicalTestExecutorServiceFactory {
 	 * engine-specific prefix.
 	 *
 	 * <p>The {@value #EXECUTOR_SERVICE_PROPERTY_NAME} key is used to determine
-	 * which service implementation is to be used. Which other parameters are
-	 * read depends on the configured
+	 * which service implementation is to be used. For
+	 * {@link ParallelExecutorServiceType#WORKER_THREAD_POOL WORKER_THREAD_POOL},
+	 * the {@value #WORK_QUEUE_PROPERTY_NAME} key determines its work queue and
+	 * the {@value #DURATION_HISTORY_FILE_PROPERTY_NAME} key its test duration
+	 * history. Which other parameters are read depends on the configured
 	 * {@link ParallelExecutionConfigurationStrategy} which is determined by the
 	 * {@value DefaultParallelExecutionConfigurationStrategy#CONFIG_STRATEGY_PROPERTY_NAME}
 	 * key.
@@ -67,6 +118,15 @@ public final class ParallelHierarchicalTestExecutorServiceFactory {
 		var type = configurationParameters.get(EXECUTOR_SERVICE_PROPERTY_NAME, ParallelExecutorServiceType::parse) //
 				.orElse(ParallelExecutorServiceType.FORK_JOIN_POOL);
 		var configuration = DefaultParallelExecutionConfigurationStrategy.toConfiguration(configurationParameters);
+		if (type == ParallelExecutorServiceType.WORKER_THREAD_POOL) {
+			var workQueueType = configurationParameters.get(WORK_QUEUE_PROPERTY_NAME, WorkQueueType::parse) //
+					.orElse(WorkQueueType.SHARED);
+			var durationHistory = configurationParameters.get(DURATION_HISTORY_FILE_PROPERTY_NAME) //
+					.map(Path::of) //
+					.map(TestDurationHistory::read) //
+					.orElse(TestDurationHistory.EMPTY);
+			return new WorkerThreadPoolHierarchicalTestExecutorService(configuration, workQueueType, durationHistory);
+		}
 		return create(type, configuration);
 	}
 
@@ -87,6 +147,7 @@ public final class ParallelHierarchicalTestExecutorServiceFactory {
 			case FORK_JOIN_POOL -> new ForkJoinPoolHierarchicalTestExecutorService(configuration,
 				TaskEventListener.NOOP);
 			case WORKER_THREAD_POOL -> new WorkerThreadPoolHierarchicalTestExecutorService(configuration);
+			case VIRTUAL_THREADS -> new VirtualThreadHierarchicalTestExecutorService(configuration);
 		};
 	}
 
@@ -113,7 +174,18 @@ public final class ParallelHierarchicalTestExecutorServiceFactory {
 		 * should be used.
 		 */
 		@API(status = EXPERIMENTAL, since = "6.1")
-		WORKER_THREAD_POOL;
+		WORKER_THREAD_POOL,
+
+		/**
+		 * Indicates that {@link VirtualThreadHierarchicalTestExecutorService}
+		 * should be used.
+		 *
+		 * <p>Requires Java 21 or later.
+		 *
+		 * @since 6.2
+		 */
+		@API(status = EXPERIMENTAL, since = "6.2")
+		VIRTUAL_THREADS;
 
 		private static ParallelExecutorServiceType parse(String value) {
 			return valueOf(value.toUpperCase(Locale.ROOT));
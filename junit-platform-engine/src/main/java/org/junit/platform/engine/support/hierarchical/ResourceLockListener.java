@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.List;
+
+/**
+ * Listener for events related to the acquisition of {@link SingleLock} and
+ * {@link CompositeLock} instances.
+ *
+ * @since 6.2
+ * @see ResourceLockStatisticsRecorder
+ */
+interface ResourceLockListener {
+
+	ResourceLockListener NOOP = new ResourceLockListener() {
+	};
+
+	/**
+	 * Called when the lock for the supplied resource could not be acquired
+	 * without blocking.
+	 */
+	default void contended(ExclusiveResource resource) {
+	}
+
+	/**
+	 * Called before the current thread starts waiting for the lock for the
+	 * supplied resource.
+	 */
+	default void waitStarted(ExclusiveResource resource) {
+	}
+
+	/**
+	 * Called after the current thread has stopped waiting for the lock for the
+	 * supplied resource, regardless of whether it was acquired.
+	 */
+	default void waitFinished(ExclusiveResource resource, long waitNanos) {
+	}
+
+	/**
+	 * Called after the locks for the supplied resources have been acquired by
+	 * the current thread.
+	 */
+	default void acquired(List<ExclusiveResource> resources) {
+	}
+
+	/**
+	 * Called before the locks for the supplied resources are released by the
+	 * current thread.
+	 */
+	default void released(List<ExclusiveResource> resources) {
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * Statistics about the acquisition of the locks for the
+ * {@linkplain ExclusiveResource exclusive resources} with a given key during
+ * the execution of a {@link HierarchicalTestEngine}.
+ *
+ * <p>If the {@value #ENABLED_PROPERTY_NAME} configuration parameter is set to
+ * {@code true}, a {@link HierarchicalTestEngine} publishes one
+ * {@link ReportEntry} per resource key for its engine descriptor right before
+ * reporting that its execution has
+ * {@linkplain EngineExecutionListener#executionFinished finished}. Listeners
+ * can use {@link #fromReportEntry(ReportEntry)} to access the statistics.
+ *
+ * <p>If the {@value #NODE_WAIT_TIME_ENABLED_PROPERTY_NAME} configuration
+ * parameter is set to {@code true} as well, a {@link ReportEntry} containing
+ * the time a test or container waited to acquire its resource locks is
+ * published right after it has been
+ * {@linkplain EngineExecutionListener#executionStarted started} if it had to
+ * wait. Listeners can use {@link #waitTimeFromReportEntry(ReportEntry)} to
+ * access it.
+ *
+ * @since 6.2
+ * @see ExclusiveResource
+ * @see ResourceLock
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public final class ResourceLockStatistics {
+
+	/**
+	 * Property name used to enable recording and publishing statistics about
+	 * resource locks: {@value}
+	 *
+	 * <p>Statistics are not recorded by default.
+	 */
+	public static final String ENABLED_PROPERTY_NAME = "junit.platform.execution.resource.lock.statistics.enabled";
+
+	/**
+	 * Property name used to enable publishing the time each test or container
+	 * waited to acquire its resource locks: {@value}
+	 *
+	 * <p>Since this results in an additional report entry for every test or
+	 * container that had to wait, wait times are not published by default.
+	 * Only takes effect if {@value #ENABLED_PROPERTY_NAME} is set to
+	 * {@code true} as well.
+	 */
+	public static final String NODE_WAIT_TIME_ENABLED_PROPERTY_NAME = "junit.platform.execution.resource.lock.statistics.node.wait.time.enabled";
+
+	private static final String REPORT_ENTRY_KEY_PREFIX = "junit.resourceLock.";
+	private static final String KEY = REPORT_ENTRY_KEY_PREFIX + "key";
+	private static final String ACQUISITIONS = REPORT_ENTRY_KEY_PREFIX + "acquisitions";
+	private static final String CONTENTIONS = REPORT_ENTRY_KEY_PREFIX + "contentions";
+	private static final String WAIT_TIME = REPORT_ENTRY_KEY_PREFIX + "waitTime";
+	private static final String HOLD_TIME = REPORT_ENTRY_KEY_PREFIX + "holdTime";
+	private static final String MAX_QUEUE_LENGTH = REPORT_ENTRY_KEY_PREFIX + "maxQueueLength";
+	private static final String NODE_WAIT_TIME = REPORT_ENTRY_KEY_PREFIX + "nodeWaitTime";
+
+	/**
+	 * Extract the time a test or container waited to acquire its resource
+	 * locks from the supplied {@link ReportEntry}.
+	 *
+	 * @param reportEntry the report entry to extract the wait time from; never
+	 * {@code null}
+	 * @return the wait time or an empty {@code Optional} if the report entry
+	 * does not contain a wait time
+	 */
+	public static Optional<Duration> waitTimeFromReportEntry(ReportEntry reportEntry) {
+		Preconditions.notNull(reportEntry, "reportEntry must not be null");
+		String waitTime = reportEntry.getKeyValuePairs().get(NODE_WAIT_TIME);
+		if (waitTime == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(Duration.parse(waitTime));
+		}
+		catch (DateTimeParseException ex) {
+			return Optional.empty();
+		}
+	}
+
+	static ReportEntry waitTimeReportEntry(Duration waitTime) {
+		return ReportEntry.from(NODE_WAIT_TIME, waitTime.toString());
+	}
+
+	private final String key;
+	private final long acquisitions;
+	private final long contentions;
+	private final Duration waitTime;
+	private final Duration holdTime;
+	private final int maxQueueLength;
+
+	/**
+	 * Extract the statistics published via the supplied {@link ReportEntry}.
+	 *
+	 * @param reportEntry the report entry to extract the statistics from;
+	 * never {@code null}
+	 * @return the statistics or an empty {@code Optional} if the report entry
+	 * does not contain resource lock statistics
+	 */
+	public static Optional<ResourceLockStatistics> fromReportEntry(ReportEntry reportEntry) {
+		Preconditions.notNull(reportEntry, "reportEntry must not be null");
+		Map<String, String> values = reportEntry.getKeyValuePairs();
+		String key = values.get(KEY);
+		if (key == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(new ResourceLockStatistics(key, //
+				Long.parseLong(values.getOrDefault(ACQUISITIONS, "0")), //
+				Long.parseLong(values.getOrDefault(CONTENTIONS, "0")), //
+				Duration.parse(values.getOrDefault(WAIT_TIME, "PT0S")), //
+				Duration.parse(values.getOrDefault(HOLD_TIME, "PT0S")), //
+				Integer.parseInt(values.getOrDefault(MAX_QUEUE_LENGTH, "0"))));
+		}
+		catch (NumberFormatException | DateTimeParseException ex) {
+			return Optional.empty();
+		}
+	}
+
+	ResourceLockStatistics(String key, long acquisitions, long contentions, Duration waitTime, Duration holdTime,
+			int maxQueueLength) {
+		this.key = key;
+		this.acquisitions = acquisitions;
+		this.contentions = contentions;
+		this.waitTime = waitTime;
+		this.holdTime = holdTime;
+		this.maxQueueLength = maxQueueLength;
+	}
+
+	/**
+	 * {@return the key of the exclusive resources}
+	 *
+	 * @see ExclusiveResource#getKey()
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * {@return how often the locks for the resource key were acquired}
+	 */
+	public long getAcquisitions() {
+		return acquisitions;
+	}
+
+	/**
+	 * {@return how often the locks for the resource key could not be acquired
+	 * without blocking}
+	 */
+	public long getContentions() {
+		return contentions;
+	}
+
+	/**
+	 * {@return the total time threads spent waiting to acquire the locks for
+	 * the resource key}
+	 */
+	public Duration getWaitTime() {
+		return waitTime;
+	}
+
+	/**
+	 * {@return the total time the locks for the resource key were held}
+	 *
+	 * <p>Since locks in {@linkplain ExclusiveResource.LockMode#READ read mode}
+	 * may be held by multiple threads at the same time, the hold time may exceed
+	 * the total execution time.
+	 */
+	public Duration getHoldTime() {
+		return holdTime;
+	}
+
+	/**
+	 * {@return the maximum number of threads that were waiting to acquire the
+	 * locks for the resource key at the same time}
+	 */
+	public int getMaxQueueLength() {
+		return maxQueueLength;
+	}
+
+	ReportEntry toReportEntry() {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put(KEY, key);
+		values.put(ACQUISITIONS, String.valueOf(acquisitions));
+		values.put(CONTENTIONS, String.valueOf(contentions));
+		values.put(WAIT_TIME, waitTime.toString());
+		values.put(HOLD_TIME, holdTime.toString());
+		values.put(MAX_QUEUE_LENGTH, String.valueOf(maxQueueLength));
+		return ReportEntry.from(values);
+	}
+
+	@Override
+	public String toString() {
+		return new ToStringBuilder(this) //
+				.append("key", key) //
+				.append("acquisitions", acquisitions) //
+				.append("contentions", contentions) //
+				.append("waitTime", waitTime) //
+				.append("holdTime", holdTime) //
+				.append("maxQueueLength", maxQueueLength) //
+				.toString();
+	}
+
+}
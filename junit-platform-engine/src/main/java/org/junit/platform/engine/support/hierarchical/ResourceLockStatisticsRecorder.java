@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records contention and, if enabled, acquisition counts, wait and hold times,
+ * and queue lengths of resource locks per resource key.
+ *
+ * <p>Hold times are measured from acquisition to release of a lock on the
+ * same thread. Since resource locks are released in the reverse order in
+ * which they were acquired, the acquisition times of each thread are tracked
+ * on a stack.
+ *
+ * @since 6.2
+ * @see ResourceLockStatistics
+ */
+class ResourceLockStatisticsRecorder implements ResourceLockListener {
+
+	private final Map<String, KeyStatistics> statisticsByKey = new ConcurrentHashMap<>();
+	private final ThreadLocal<ArrayDeque<Long>> acquisitionTimes = ThreadLocal.withInitial(ArrayDeque::new);
+	private final ThreadLocal<long[]> pendingWaitNanos = ThreadLocal.withInitial(() -> new long[1]);
+	private final boolean timingEnabled;
+
+	ResourceLockStatisticsRecorder(boolean timingEnabled) {
+		this.timingEnabled = timingEnabled;
+	}
+
+	@Override
+	public void contended(ExclusiveResource resource) {
+		statisticsFor(resource).contentions.increment();
+	}
+
+	@Override
+	public void waitStarted(ExclusiveResource resource) {
+		if (timingEnabled) {
+			var statistics = statisticsFor(resource);
+			var queueLength = statistics.queueLength.incrementAndGet();
+			statistics.maxQueueLength.accumulateAndGet(queueLength, Math::max);
+		}
+	}
+
+	@Override
+	public void waitFinished(ExclusiveResource resource, long waitNanos) {
+		if (timingEnabled) {
+			var statistics = statisticsFor(resource);
+			statistics.queueLength.decrementAndGet();
+			statistics.waitNanos.add(waitNanos);
+			pendingWaitNanos.get()[0] += waitNanos;
+		}
+	}
+
+	@Override
+	public void acquired(List<ExclusiveResource> resources) {
+		if (timingEnabled) {
+			for (ExclusiveResource resource : resources) {
+				statisticsFor(resource).acquisitions.increment();
+			}
+			acquisitionTimes.get().push(System.nanoTime());
+		}
+	}
+
+	@Override
+	public void released(List<ExclusiveResource> resources) {
+		if (timingEnabled) {
+			Long acquisitionTime = acquisitionTimes.get().poll();
+			if (acquisitionTime != null) {
+				long holdNanos = System.nanoTime() - acquisitionTime;
+				for (ExclusiveResource resource : resources) {
+					statisticsFor(resource).holdNanos.add(holdNanos);
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@return the time the current thread waited for resource locks since
+	 * this method was last called on it} The returned time is attributed to
+	 * the node that is executed next by the current thread.
+	 */
+	long consumePendingWaitNanos() {
+		long[] pending = pendingWaitNanos.get();
+		long waitNanos = pending[0];
+		pending[0] = 0;
+		return waitNanos;
+	}
+
+	Map<String, Long> getContentionCounts() {
+		return statisticsByKey.entrySet().stream() //
+				.filter(entry -> entry.getValue().contentions.sum() > 0) //
+				.collect(toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().contentions.sum()));
+	}
+
+	/**
+	 * {@return the statistics recorded so far, sorted by resource key}
+	 */
+	List<ResourceLockStatistics> getStatistics() {
+		return statisticsByKey.entrySet().stream() //
+				.map(entry -> entry.getValue().toStatistics(entry.getKey())) //
+				.sorted(comparing(ResourceLockStatistics::getKey)) //
+				.toList();
+	}
+
+	private KeyStatistics statisticsFor(ExclusiveResource resource) {
+		return statisticsByKey.computeIfAbsent(resource.getKey(), __ -> new KeyStatistics());
+	}
+
+	private static class KeyStatistics {
+
+		final LongAdder acquisitions = new LongAdder();
+		final LongAdder contentions = new LongAdder();
+		final LongAdder waitNanos = new LongAdder();
+		final LongAdder holdNanos = new LongAdder();
+		final AtomicInteger queueLength = new AtomicInteger();
+		final AtomicInteger maxQueueLength = new AtomicInteger();
+
+		ResourceLockStatistics toStatistics(String key) {
+			return new ResourceLockStatistics(key, acquisitions.sum(), contentions.sum(),
+				Duration.ofNanos(waitNanos.sum()), Duration.ofNanos(holdNanos.sum()), maxQueueLength.get());
+		}
+	}
+
+}
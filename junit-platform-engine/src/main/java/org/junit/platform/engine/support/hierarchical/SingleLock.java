@@ -25,10 +25,16 @@ class SingleLock implements ResourceLock {
 
 	private final List<ExclusiveResource> resources;
 	private final Lock lock;
+	private final ResourceLockListener listener;
 
 	SingleLock(ExclusiveResource resource, Lock lock) {
+		this(resource, lock, ResourceLockListener.NOOP);
+	}
+
+	SingleLock(ExclusiveResource resource, Lock lock, ResourceLockListener listener) {
 		this.resources = List.of(resource);
 		this.lock = lock;
+		this.listener = listener;
 	}
 
 	@Override
@@ -43,17 +49,24 @@ class SingleLock implements ResourceLock {
 
 	@Override
 	public boolean tryAcquire() {
-		return this.lock.tryLock();
+		if (this.lock.tryLock()) {
+			this.listener.acquired(this.resources);
+			return true;
+		}
+		this.listener.contended(this.resources.get(0));
+		return false;
 	}
 
 	@Override
 	public ResourceLock acquire() throws InterruptedException {
 		ForkJoinPool.managedBlock(new SingleLockManagedBlocker());
+		this.listener.acquired(this.resources);
 		return this;
 	}
 
 	@Override
 	public void release() {
+		this.listener.released(this.resources);
 		this.lock.unlock();
 	}
 
@@ -76,7 +89,17 @@ class SingleLock implements ResourceLock {
 		@Override
 		public boolean block() throws InterruptedException {
 			if (!this.acquired) {
-				SingleLock.this.lock.lockInterruptibly();
+				ExclusiveResource resource = SingleLock.this.resources.get(0);
+				ResourceLockListener listener = SingleLock.this.listener;
+				listener.contended(resource);
+				listener.waitStarted(resource);
+				long startTime = System.nanoTime();
+				try {
+					SingleLock.this.lock.lockInterruptibly();
+				}
+				finally {
+					listener.waitFinished(resource, System.nanoTime() - startTime);
+				}
 				this.acquired = true;
 			}
 			return true;
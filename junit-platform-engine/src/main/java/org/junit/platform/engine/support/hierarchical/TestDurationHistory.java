@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Durations of tests and containers recorded during a previous run.
+ *
+ * <p>The history file is encoded using UTF-8 and contains one line per test or
+ * container consisting of the duration in milliseconds, a tab character, and
+ * the unique ID. This is the format written by
+ * {@code org.junit.platform.launcher.listeners.TestDurationHistoryListener}
+ * which uses {@link #readDurations(Path)} to retain existing entries.
+ *
+ * @since 6.2
+ * @see ParallelHierarchicalTestExecutorServiceFactory#DURATION_HISTORY_FILE_PROPERTY_NAME
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class TestDurationHistory {
+
+	private static final Logger logger = LoggerFactory.getLogger(TestDurationHistory.class);
+
+	static final TestDurationHistory EMPTY = new TestDurationHistory(Map.of());
+
+	private final Map<String, Long> durations;
+
+	/**
+	 * Read the history from the supplied file.
+	 *
+	 * <p>If the file does not exist or cannot be read, an empty history is
+	 * returned so that execution proceeds in the regular order.
+	 */
+	static TestDurationHistory read(Path historyFile) {
+		if (!Files.isRegularFile(historyFile)) {
+			logger.debug(() -> "Test duration history file %s does not exist".formatted(historyFile.toAbsolutePath()));
+			return EMPTY;
+		}
+		try {
+			return new TestDurationHistory(readDurations(historyFile));
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read test duration history from " + historyFile.toAbsolutePath());
+			return EMPTY;
+		}
+	}
+
+	/**
+	 * Read the durations in milliseconds recorded in the supplied history
+	 * file, keyed by unique ID, in the order they are listed in the file.
+	 *
+	 * <p>Malformed lines are skipped.
+	 *
+	 * @param historyFile the history file to read; never {@code null}
+	 * @return a mutable map of durations; never {@code null}
+	 * @throws IOException if the file cannot be read
+	 */
+	public static Map<String, Long> readDurations(Path historyFile) throws IOException {
+		Map<String, Long> durations = new LinkedHashMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(historyFile, UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separator = line.indexOf('\t');
+				if (separator > 0) {
+					try {
+						durations.put(line.substring(separator + 1), Long.valueOf(line.substring(0, separator)));
+					}
+					catch (NumberFormatException ignored) {
+						// skip malformed line
+					}
+				}
+			}
+		}
+		return durations;
+	}
+
+	// package-private for testing
+	TestDurationHistory(Map<String, Long> durations) {
+		this.durations = durations;
+	}
+
+	/**
+	 * {@return the recorded duration in milliseconds of the test or container
+	 * with the supplied unique ID or {@code 0} if it is unknown}
+	 */
+	long getDurationMillis(UniqueId uniqueId) {
+		if (this.durations.isEmpty()) {
+			return 0;
+		}
+		return this.durations.getOrDefault(uniqueId.toString(), 0L);
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * Classifies threads as running or blocked on behalf of the
+ * {@link AdaptiveParallelismController}.
+ *
+ * <p>Threads that are blocked in native code, for example, while reading from
+ * a socket or a file, report {@link Thread.State#RUNNABLE}. Therefore, if the
+ * JVM supports measuring the CPU time of individual threads, a runnable
+ * thread is only considered to be running if the CPU time it consumed since
+ * it was last sampled amounts to at least
+ * {@value #MIN_CPU_UTILIZATION_PERCENT}% of the elapsed wall-clock time.
+ * Otherwise, it is considered to be blocked. If CPU time measurement is not
+ * supported or disabled, runnable threads are always considered to be
+ * running.
+ *
+ * @since 6.2
+ */
+class ThreadActivitySampler {
+
+	static final int MIN_CPU_UTILIZATION_PERCENT = 10;
+
+	private final @Nullable ThreadMXBean threadMXBean = getThreadMXBean();
+	private final Map<Thread, CpuTimeSample> previousSamples = new ConcurrentHashMap<>();
+
+	enum Activity {
+		RUNNING, BLOCKED, OTHER
+	}
+
+	boolean isCpuTimeMeasurementSupported() {
+		return threadMXBean != null;
+	}
+
+	Activity sample(Thread thread) {
+		return switch (thread.getState()) {
+			case RUNNABLE -> isConsumingCpu(thread) ? Activity.RUNNING : Activity.BLOCKED;
+			case BLOCKED, WAITING, TIMED_WAITING -> {
+				forget(thread);
+				yield Activity.BLOCKED;
+			}
+			default -> {
+				forget(thread);
+				yield Activity.OTHER;
+			}
+		};
+	}
+
+	void forget(Thread thread) {
+		previousSamples.remove(thread);
+	}
+
+	private boolean isConsumingCpu(Thread thread) {
+		if (threadMXBean == null) {
+			return true;
+		}
+		long cpuTimeNanos = threadMXBean.getThreadCpuTime(thread.getId());
+		long wallTimeNanos = System.nanoTime();
+		if (cpuTimeNanos < 0) {
+			// thread terminated in the meantime
+			forget(thread);
+			return true;
+		}
+		var previous = previousSamples.put(thread, new CpuTimeSample(cpuTimeNanos, wallTimeNanos));
+		if (previous == null) {
+			// assume the thread is running until there's an interval to compare
+			return true;
+		}
+		long elapsedCpuTimeNanos = cpuTimeNanos - previous.cpuTimeNanos();
+		long elapsedWallTimeNanos = wallTimeNanos - previous.wallTimeNanos();
+		return elapsedCpuTimeNanos * 100 >= elapsedWallTimeNanos * MIN_CPU_UTILIZATION_PERCENT;
+	}
+
+	private static @Nullable ThreadMXBean getThreadMXBean() {
+		try {
+			var threadMXBean = ManagementFactory.getThreadMXBean();
+			if (threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled()) {
+				return threadMXBean;
+			}
+		}
+		catch (Throwable t) {
+			// e.g. module "java.management" is not available on the current platform
+			UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+		}
+		return null;
+	}
+
+	private record CpuTimeSample(long cpuTimeNanos, long wallTimeNanos) {
+	}
+
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.commons.util.ExceptionUtils.throwAsUncheckedException;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory.ParallelExecutorServiceType;
+
+/**
+ * An {@linkplain HierarchicalTestExecutorService executor service} that
+ * executes each concurrent {@linkplain TestTask test task} on its own
+ * virtual thread.
+ *
+ * <p>This executor service is well suited for tests that spend most of their
+ * time waiting for I/O, since blocked virtual threads do not occupy a
+ * platform thread. It requires a Java runtime that supports virtual threads,
+ * that is, Java 21 or later.
+ *
+ * <p>The number of tasks that are executed at the same time is only limited
+ * by their {@linkplain ResourceLock resource locks}, so tests that are
+ * blocked, for example, on I/O, don't prevent other tests from starting. The
+ * number of tasks that are actually running on a CPU at the same time is
+ * limited by the number of carrier threads of the JDK's virtual thread
+ * scheduler, which defaults to the number of available processors and may be
+ * configured via the {@code jdk.virtualThreadScheduler.parallelism} system
+ * property.
+ *
+ * <p>Resource locks are acquired via {@link ResourceLock#acquire()} which is
+ * based on {@link java.util.concurrent.locks.ReentrantReadWriteLock} and
+ * therefore parks a blocked virtual thread instead of pinning its carrier
+ * thread. Pinning caused by test code, for example, by blocking while
+ * holding a monitor, is reported by the JDK's {@code jdk.VirtualThreadPinned}
+ * Java Flight Recorder event.
+ *
+ * @since 6.2
+ * @see ParallelHierarchicalTestExecutorServiceFactory
+ * @see ParallelExecutorServiceType#VIRTUAL_THREADS
+ * @see DefaultParallelExecutionConfigurationStrategy
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public final class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	/*
+		This implementation starts a new virtual thread for every task that may be executed concurrently. Tasks with
+		execution mode `SAME_THREAD` are executed directly by the thread that submitted them.
+
+		The number of concurrently executing tasks is deliberately not limited by a semaphore or similar: a task that
+		blocks, e.g. on I/O, would keep holding its permit and thereby cap the effective concurrency at the configured
+		`parallelism` even though its virtual thread does not occupy a carrier thread. Instead, CPU usage is bounded
+		by the virtual thread scheduler while concurrency among tests is bounded only by their resource locks.
+	*/
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadHierarchicalTestExecutorService.class);
+
+	private static final AtomicInteger EXECUTOR_NUMBER = new AtomicInteger(1);
+
+	private final ThreadLocal<Boolean> taskThread = ThreadLocal.withInitial(() -> false);
+	private final Set<Thread> activeThreads = ConcurrentHashMap.newKeySet();
+	private final ThreadFactory threadFactory;
+	private final ClassLoader classLoader;
+	private volatile boolean closed;
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService}
+	 * based on the supplied {@link ParallelExecutionConfiguration}.
+	 *
+	 * <p>All attributes of the supplied configuration are currently ignored
+	 * since the number of tasks that are executed at the same time is only
+	 * limited by their resource locks.
+	 *
+	 * @throws JUnitException if the current Java runtime does not support
+	 * virtual threads
+	 * @see ParallelHierarchicalTestExecutorServiceFactory#create(ConfigurationParameters)
+	 */
+	VirtualThreadHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration) {
+		this(configuration, ClassLoaderUtils.getDefaultClassLoader());
+	}
+
+	// package-private for testing
+	VirtualThreadHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			ClassLoader classLoader) {
+		this.threadFactory = VirtualThreads.createFactory(
+			"junit-%d-virtual-".formatted(EXECUTOR_NUMBER.getAndIncrement()));
+		this.classLoader = classLoader;
+		logger.trace(() -> "initialized virtual thread executor");
+	}
+
+	@Override
+	public void close() {
+		logger.trace(() -> "shutting down virtual thread executor");
+		closed = true;
+		activeThreads.forEach(Thread::interrupt);
+	}
+
+	@Override
+	public Future<@Nullable Void> submit(TestTask testTask) {
+		logger.trace(() -> "submit: " + testTask);
+
+		if (isTaskThread() && testTask.getExecutionMode() == SAME_THREAD) {
+			executeTask(testTask);
+			return completedFuture(null);
+		}
+
+		return fork(testTask);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> testTasks) {
+		logger.trace(() -> "invokeAll: " + testTasks);
+
+		Preconditions.condition(isTaskThread(),
+			"invokeAll() must be called from a virtual thread that belongs to this executor");
+
+		if (testTasks.isEmpty()) {
+			return;
+		}
+
+		if (testTasks.size() == 1) {
+			executeTask(testTasks.get(0));
+			return;
+		}
+
+		List<TestTask> isolatedTasks = new ArrayList<>(testTasks.size());
+		List<TestTask> sameThreadTasks = new ArrayList<>(testTasks.size());
+		List<CompletableFuture<@Nullable Void>> futures = new ArrayList<>(testTasks.size());
+		for (TestTask testTask : testTasks) {
+			if (requiresGlobalReadWriteLock(testTask)) {
+				isolatedTasks.add(testTask);
+			}
+			else if (testTask.getExecutionMode() == SAME_THREAD) {
+				sameThreadTasks.add(testTask);
+			}
+			else {
+				futures.add(fork(testTask));
+			}
+		}
+		sameThreadTasks.forEach(this::executeTask);
+		waitFor(futures);
+		isolatedTasks.forEach(this::executeTask);
+	}
+
+	private boolean isTaskThread() {
+		return taskThread.get();
+	}
+
+	private CompletableFuture<@Nullable Void> fork(TestTask testTask) {
+		if (closed) {
+			throw new RejectedExecutionException("Executor has been closed");
+		}
+		var future = new CompletableFuture<@Nullable Void>();
+		var thread = threadFactory.newThread(() -> run(testTask, future));
+		thread.setContextClassLoader(classLoader);
+		activeThreads.add(thread);
+		thread.start();
+		return future;
+	}
+
+	private void run(TestTask testTask, CompletableFuture<@Nullable Void> future) {
+		taskThread.set(true);
+		try {
+			executeTask(testTask);
+			future.complete(null);
+		}
+		catch (Throwable t) {
+			future.completeExceptionally(t);
+		}
+		finally {
+			activeThreads.remove(Thread.currentThread());
+		}
+	}
+
+	private void waitFor(List<CompletableFuture<@Nullable Void>> futures) {
+		if (futures.isEmpty()) {
+			return;
+		}
+		var future = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+		if (!future.isDone()) {
+			logger.trace(() -> "blocking for forked children: %d".formatted(futures.size()));
+		}
+		future.join();
+	}
+
+	@SuppressWarnings("try")
+	private void executeTask(TestTask testTask) {
+		var resourceLock = testTask.getResourceLock();
+		if (resourceLock.tryAcquire()) {
+			logger.trace(() -> "acquired resource lock: " + resourceLock);
+			try (resourceLock) {
+				doExecute(testTask);
+			}
+			finally {
+				logger.trace(() -> "released resource lock: " + resourceLock);
+			}
+			return;
+		}
+		logger.trace(() -> "blocking for resource lock: " + resourceLock);
+		try (var ignored = acquire(resourceLock)) {
+			logger.trace(() -> "acquired resource lock: " + resourceLock);
+			doExecute(testTask);
+		}
+		finally {
+			logger.trace(() -> "released resource lock: " + resourceLock);
+		}
+	}
+
+	private void doExecute(TestTask testTask) {
+		logger.trace(() -> "executing: " + testTask);
+		try {
+			testTask.execute();
+		}
+		finally {
+			logger.trace(() -> "finished executing: " + testTask);
+		}
+	}
+
+	private static ResourceLock acquire(ResourceLock resourceLock) {
+		try {
+			return resourceLock.acquire();
+		}
+		catch (InterruptedException ex) {
+			throw throwAsUncheckedException(ex);
+		}
+	}
+
+	private static boolean requiresGlobalReadWriteLock(TestTask testTask) {
+		return testTask.getResourceLock().getResources().contains(GLOBAL_READ_WRITE);
+	}
+
+	/**
+	 * Creates virtual threads via reflection since the minimum Java version
+	 * supported by this module does not provide the required API.
+	 */
+	private static final class VirtualThreads {
+
+		static ThreadFactory createFactory(String namePrefix) {
+			try {
+				var lookup = MethodHandles.publicLookup();
+				var builderType = Class.forName("java.lang.Thread$Builder");
+				var ofVirtualType = Class.forName("java.lang.Thread$Builder$OfVirtual");
+				MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+					MethodType.methodType(ofVirtualType));
+				MethodHandle name = lookup.findVirtual(ofVirtualType, "name",
+					MethodType.methodType(ofVirtualType, String.class, long.class));
+				MethodHandle factory = lookup.findVirtual(builderType, "factory",
+					MethodType.methodType(ThreadFactory.class));
+				var builder = name.invoke(ofVirtual.invoke(), namePrefix, 1L);
+				return (ThreadFactory) factory.invoke(builder);
+			}
+			catch (Throwable t) {
+				throw new JUnitException(
+					"Virtual threads are not supported by the current Java runtime; Java 21 or later is required", t);
+			}
+		}
+
+		private VirtualThreads() {
+		}
+
+	}
+
+}
@@ -12,6 +12,7 @@ package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.comparingInt;
+import static java.util.Comparator.comparingLong;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -23,16 +24,21 @@ import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
 import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -42,6 +48,7 @@ import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -94,14 +101,37 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		through their own task hierarchy in a depth first fashion. Furthermore, child tasks with execution mode
 		`CONCURRENT` are submitted to the shared queue prior to executing those with execution mode `SAME_THREAD`
 		directly.
+
+		Optionally, the shared work queue can be replaced by one deque per worker thread and a global injection queue
+		for tasks submitted from outside the pool (see `WorkQueueType.PER_WORKER`). Worker threads then add forked
+		children to their own deque, take work from its tail, and only steal from the head of the injection queue and
+		the deques of other workers if their own one is empty. Since queue entries are claimed atomically, leases and
+		resource locks are handled exactly as with the shared queue.
+
+		When configured via the `ADAPTIVE` strategy, the number of worker leases is adjusted while tests are running.
+		An `AdaptiveParallelismController` periodically samples how many workers that hold a lease are runnable or
+		blocked in user code as well as the number of queued tasks and grows or shrinks the number of leases within
+		the configured bounds. Shrinking takes effect as soon as workers give up their leases.
+		Since threads blocked in native code, e.g. on socket or file I/O, report `RUNNABLE`, a runnable worker is only
+		counted as such if it consumed a minimum share of the elapsed wall-clock time as CPU time since the previous
+		sample (see `ThreadActivitySampler`). If the JVM cannot measure per-thread CPU time, the thread state alone
+		is used and workers blocked in native I/O are counted as runnable.
+
+		If a test duration history from a previous run is available, queue entries of siblings are ordered by their
+		recorded duration, longest first, before falling back to their original order. Thus, long-running containers
+		and tests are started early rather than stretching the tail end of the run.
 	*/
 
 	private static final Logger logger = LoggerFactory.getLogger(WorkerThreadPoolHierarchicalTestExecutorService.class);
 
-	private final WorkQueue workQueue = new WorkQueue();
+	private final WorkQueue workQueue;
 	private final ExecutorService executor;
 	private final int parallelism;
 	private final WorkerLeaseManager workerLeaseManager;
+	private final Set<WorkerThread> workerThreads = ConcurrentHashMap.newKeySet();
+	private final @Nullable AdaptiveParallelismController adaptiveParallelismController;
+	private final ThreadActivitySampler threadActivitySampler = new ThreadActivitySampler();
+	private final TestDurationHistory durationHistory;
 
 	/**
 	 * Create a new {@code WorkerThreadPoolHierarchicalTestExecutorService}
@@ -122,28 +152,84 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 	 * {@link ParallelExecutionConfiguration#getSaturatePredicate()}, are
 	 * ignored.
 	 *
+	 * <p>If the configuration was created by the
+	 * {@link DefaultParallelExecutionConfigurationStrategy#ADAPTIVE ADAPTIVE}
+	 * strategy, the parallelism is adjusted at runtime within its bounds.
+	 *
 	 * @see ParallelHierarchicalTestExecutorServiceFactory#create(ConfigurationParameters)
 	 */
 	WorkerThreadPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration) {
-		this(configuration, ClassLoaderUtils.getDefaultClassLoader());
+		this(configuration, WorkQueueType.SHARED);
+	}
+
+	/**
+	 * Create a new {@code WorkerThreadPoolHierarchicalTestExecutorService}
+	 * based on the supplied {@link ParallelExecutionConfiguration} that uses
+	 * the supplied {@link WorkQueueType}.
+	 *
+	 * @since 6.2
+	 * @see ParallelHierarchicalTestExecutorServiceFactory#WORK_QUEUE_PROPERTY_NAME
+	 */
+	WorkerThreadPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			WorkQueueType workQueueType) {
+		this(configuration, workQueueType, TestDurationHistory.EMPTY);
+	}
+
+	/**
+	 * Create a new {@code WorkerThreadPoolHierarchicalTestExecutorService}
+	 * based on the supplied {@link ParallelExecutionConfiguration} that uses
+	 * the supplied {@link WorkQueueType} and prioritizes tasks based on the
+	 * supplied {@link TestDurationHistory}.
+	 *
+	 * @since 6.2
+	 * @see ParallelHierarchicalTestExecutorServiceFactory#DURATION_HISTORY_FILE_PROPERTY_NAME
+	 */
+	WorkerThreadPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			WorkQueueType workQueueType, TestDurationHistory durationHistory) {
+		this(configuration, ClassLoaderUtils.getDefaultClassLoader(), workQueueType, durationHistory);
 	}
 
 	// package-private for testing
 	WorkerThreadPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
 			ClassLoader classLoader) {
+		this(configuration, classLoader, WorkQueueType.SHARED);
+	}
+
+	// package-private for testing
+	WorkerThreadPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			ClassLoader classLoader, WorkQueueType workQueueType) {
+		this(configuration, classLoader, workQueueType, TestDurationHistory.EMPTY);
+	}
+
+	// package-private for testing
+	WorkerThreadPoolHierarchicalTestExecutorService(ParallelExecutionConfiguration configuration,
+			ClassLoader classLoader, WorkQueueType workQueueType, TestDurationHistory durationHistory) {
+		this.durationHistory = durationHistory;
 		ThreadFactory threadFactory = new WorkerThreadFactory(classLoader);
+		workQueue = WorkQueue.create(workQueueType);
 		parallelism = configuration.getParallelism();
 		workerLeaseManager = new WorkerLeaseManager(parallelism, this::maybeStartWorker);
 		var rejectedExecutionHandler = new LeaseAwareRejectedExecutionHandler(workerLeaseManager);
 		executor = new ThreadPoolExecutor(configuration.getCorePoolSize(), configuration.getMaxPoolSize(),
 			configuration.getKeepAliveSeconds(), SECONDS, new SynchronousQueue<>(), threadFactory,
 			rejectedExecutionHandler);
-		logger.trace(() -> "initialized thread pool for parallelism of " + configuration.getParallelism());
+		if (configuration instanceof AdaptiveParallelExecutionConfiguration adaptiveConfiguration) {
+			adaptiveParallelismController = AdaptiveParallelismController.start(adaptiveConfiguration,
+				this::sampleWorkers, workerLeaseManager::setParallelism);
+		}
+		else {
+			adaptiveParallelismController = null;
+		}
+		logger.trace(() -> "initialized thread pool for parallelism of %d using %s work queue".formatted(
+			configuration.getParallelism(), workQueueType));
 	}
 
 	@Override
 	public void close() {
 		logger.trace(() -> "shutting down thread pool");
+		if (adaptiveParallelismController != null) {
+			adaptiveParallelismController.close();
+		}
 		executor.shutdownNow();
 	}
 
@@ -184,7 +270,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 	}
 
 	private WorkQueue.Entry enqueue(TestTask testTask, int index) {
-		var entry = workQueue.add(testTask, index);
+		var entry = workQueue.add(newEntry(testTask, index));
 		maybeStartWorker();
 		return entry;
 	}
@@ -200,6 +286,11 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		}
 	}
 
+	private WorkQueue.Entry newEntry(TestTask testTask, int index) {
+		var expectedDurationMillis = durationHistory.getDurationMillis(testTask.getTestDescriptor().getUniqueId());
+		return new WorkQueue.Entry(testTask, index, expectedDurationMillis);
+	}
+
 	private void maybeStartWorker() {
 		maybeStartWorker(() -> false);
 	}
@@ -215,6 +306,25 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		executor.execute(new RunLeaseAwareWorker(workerLease, doneCondition));
 	}
 
+	private AdaptiveParallelismController.Sample sampleWorkers() {
+		int runnableWorkers = 0;
+		int blockedWorkers = 0;
+		for (var workerThread : workerThreads) {
+			if (!workerThread.holdingLease) {
+				threadActivitySampler.forget(workerThread);
+				continue;
+			}
+			switch (threadActivitySampler.sample(workerThread)) {
+				case RUNNING -> runnableWorkers++;
+				case BLOCKED -> blockedWorkers++;
+				default -> {
+				}
+			}
+		}
+		return new AdaptiveParallelismController.Sample(workerLeaseManager.parallelism(), runnableWorkers,
+			blockedWorkers, workQueue.size());
+	}
+
 	private record RunLeaseAwareWorker(WorkerLease workerLease, BooleanSupplier parentDoneCondition)
 			implements Runnable {
 
@@ -249,6 +359,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			var thread = new WorkerThread(runnable,
 				"junit-%d-worker-%d".formatted(poolNumber, threadNumber.getAndIncrement()));
 			thread.setContextClassLoader(classLoader);
+			workerThreads.add(thread);
 			return thread;
 		}
 	}
@@ -260,10 +371,25 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		@Nullable
 		WorkerLease workerLease;
 
+		// whether this worker currently holds its lease; sampled by the adaptive parallelism controller
+		volatile boolean holdingLease;
+
 		WorkerThread(Runnable runnable, String name) {
 			super(runnable, name);
 		}
 
+		@Override
+		public void run() {
+			try {
+				super.run();
+			}
+			finally {
+				workerThreads.remove(this);
+				threadActivitySampler.forget(this);
+				workQueue.workerTerminated(this);
+			}
+		}
+
 		static @Nullable WorkerThread get() {
 			if (Thread.currentThread() instanceof WorkerThread workerThread) {
 				return workerThread;
@@ -285,16 +411,22 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 
 		void processQueueEntries(WorkerLease workerLease, BooleanSupplier doneCondition) {
 			this.workerLease = workerLease;
-			while (!executor.isShutdown()) {
-				if (doneCondition.getAsBoolean()) {
-					logger.trace(() -> "yielding resource lock");
-					break;
-				}
-				if (workQueue.isEmpty()) {
-					logger.trace(() -> "no queue entries available");
-					break;
+			holdingLease = true;
+			try {
+				while (!executor.isShutdown()) {
+					if (doneCondition.getAsBoolean()) {
+						logger.trace(() -> "yielding resource lock");
+						break;
+					}
+					if (workQueue.isEmpty()) {
+						logger.trace(() -> "no queue entries available");
+						break;
+					}
+					processQueueEntries();
 				}
-				processQueueEntries();
+			}
+			finally {
+				holdingLease = false;
 			}
 		}
 
@@ -323,6 +455,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 
 		<T> T runBlocking(BooleanSupplier doneCondition, BlockingAction<T> blockingAction) throws InterruptedException {
 			var workerLease = requireNonNull(this.workerLease);
+			holdingLease = false;
 			workerLease.release(doneCondition);
 			try {
 				return blockingAction.run();
@@ -330,6 +463,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			finally {
 				try {
 					workerLease.reacquire();
+					holdingLease = true;
 				}
 				catch (InterruptedException e) {
 					interrupt();
@@ -370,7 +504,7 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 					sameThreadTasks.add(child);
 				}
 				else {
-					queueEntries.add(new WorkQueue.Entry(child, nextChildIndex()));
+					queueEntries.add(newEntry(child, nextChildIndex()));
 				}
 			}
 
@@ -668,12 +802,43 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		NON_BLOCKING, BLOCKING
 	}
 
-	private static class WorkQueue implements Iterable<WorkQueue.Entry> {
+	/**
+	 * Type of work queue used by
+	 * {@link WorkerThreadPoolHierarchicalTestExecutorService}.
+	 *
+	 * @since 6.2
+	 * @see ParallelHierarchicalTestExecutorServiceFactory#WORK_QUEUE_PROPERTY_NAME
+	 */
+	enum WorkQueueType {
+
+		/**
+		 * A single queue that is shared among all worker threads and orders
+		 * entries by their position in the test tree.
+		 */
+		SHARED,
+
+		/**
+		 * A separate deque per worker thread with LIFO processing of a
+		 * worker's own entries and FIFO stealing from other workers, plus a
+		 * global injection queue for tasks submitted from other threads.
+		 */
+		PER_WORKER;
+
+		static WorkQueueType parse(String value) {
+			return valueOf(value.strip().toUpperCase(Locale.ROOT).replace('-', '_'));
+		}
+	}
+
+	private abstract static class WorkQueue implements Iterable<WorkQueue.Entry> {
 
-		private final Set<Entry> queue = new ConcurrentSkipListSet<>(Entry.QUEUE_COMPARATOR);
+		static WorkQueue create(WorkQueueType type) {
+			return switch (type) {
+				case SHARED -> new SharedWorkQueue();
+				case PER_WORKER -> new PerWorkerWorkQueue();
+			};
+		}
 
-		Entry add(TestTask task, int index) {
-			Entry entry = new Entry(task, index);
+		Entry add(Entry entry) {
 			logger.trace(() -> "forking: " + entry.task);
 			return doAdd(entry);
 		}
@@ -687,43 +852,51 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			doAdd(entry);
 		}
 
-		private Entry doAdd(Entry entry) {
-			var added = queue.add(entry);
-			if (!added) {
-				throw new IllegalStateException("Could not add entry to the queue for task: " + entry.task);
-			}
-			return entry;
-		}
+		abstract Entry doAdd(Entry entry);
 
-		boolean remove(Entry entry) {
-			return queue.remove(entry);
-		}
+		/**
+		 * Claim the supplied entry for execution by the current thread.
+		 *
+		 * @return {@code true} if the entry was claimed; {@code false} if it
+		 * has already been claimed by another thread
+		 */
+		abstract boolean remove(Entry entry);
 
-		boolean isEmpty() {
-			return queue.isEmpty();
-		}
+		abstract boolean isEmpty();
 
-		@Override
-		public Iterator<Entry> iterator() {
-			return queue.iterator();
+		/**
+		 * {@return the number of queued entries}
+		 */
+		abstract int size();
+
+		/**
+		 * Called when the supplied worker thread is about to terminate.
+		 */
+		void workerTerminated(Thread workerThread) {
 		}
 
 		private static final class Entry {
 
 			private static final Comparator<Entry> QUEUE_COMPARATOR = comparingInt(Entry::level).reversed() //
 					.thenComparing(Entry::isContainer) // tests before containers
+					.thenComparing(comparingLong(Entry::expectedDurationMillis).reversed()) // longest first
 					.thenComparingInt(Entry::index) //
 					.thenComparing(Entry::uniqueId, new SameLengthUniqueIdComparator());
 
 			private static final Comparator<Entry> CHILD_COMPARATOR = comparing(Entry::isContainer).reversed() // containers before tests
+					.thenComparing(comparingLong(Entry::expectedDurationMillis).reversed()) // longest first
 					.thenComparingInt(Entry::index);
 
 			private final TestTask task;
 			private final CompletableFuture<@Nullable Void> future;
 			private final int index;
+			private final long expectedDurationMillis;
+
+			// only used by PerWorkerWorkQueue
+			private final AtomicReference<QueueState> queueState = new AtomicReference<>(QueueState.UNLINKED);
 
 			@SuppressWarnings("FutureReturnValueIgnored")
-			Entry(TestTask task, int index) {
+			Entry(TestTask task, int index, long expectedDurationMillis) {
 				this.future = new CompletableFuture<>();
 				this.future.whenComplete((__, t) -> {
 					if (t == null) {
@@ -735,12 +908,17 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 				});
 				this.task = task;
 				this.index = index;
+				this.expectedDurationMillis = expectedDurationMillis;
 			}
 
 			private int index() {
 				return this.index;
 			}
 
+			private long expectedDurationMillis() {
+				return this.expectedDurationMillis;
+			}
+
 			private int level() {
 				return uniqueId().getSegments().size();
 			}
@@ -813,18 +991,223 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		}
 	}
 
+	private static final class SharedWorkQueue extends WorkQueue {
+
+		private final Set<Entry> queue = new ConcurrentSkipListSet<>(Entry.QUEUE_COMPARATOR);
+
+		@Override
+		Entry doAdd(Entry entry) {
+			var added = queue.add(entry);
+			if (!added) {
+				throw new IllegalStateException("Could not add entry to the queue for task: " + entry.task);
+			}
+			return entry;
+		}
+
+		@Override
+		boolean remove(Entry entry) {
+			return queue.remove(entry);
+		}
+
+		@Override
+		boolean isEmpty() {
+			return queue.isEmpty();
+		}
+
+		@Override
+		int size() {
+			return queue.size();
+		}
+
+		@Override
+		public Iterator<Entry> iterator() {
+			return queue.iterator();
+		}
+	}
+
+	/**
+	 * Work queue with one deque per worker thread and a global injection queue
+	 * for entries added by other threads.
+	 *
+	 * <p>Entries are claimed by atomically changing their state rather than by
+	 * removing them from a deque. Deque nodes of claimed entries are unlinked
+	 * lazily while iterating. An entry that is re-added before its node has
+	 * been unlinked stays at its original position.
+	 */
+	private static final class PerWorkerWorkQueue extends WorkQueue {
+
+		private final Deque<Entry> injectionQueue = new ConcurrentLinkedDeque<>();
+		private final Map<Thread, Deque<Entry>> workerQueues = new ConcurrentHashMap<>();
+		private final AtomicInteger queuedEntries = new AtomicInteger();
+
+		@Override
+		Entry doAdd(Entry entry) {
+			var previousState = entry.queueState.getAndSet(QueueState.QUEUED);
+			if (previousState == QueueState.QUEUED) {
+				throw new IllegalStateException("Could not add entry to the queue for task: " + entry.task);
+			}
+			queuedEntries.incrementAndGet();
+			if (previousState == QueueState.UNLINKED) {
+				dequeForCurrentThread().addLast(entry);
+			}
+			return entry;
+		}
+
+		@Override
+		boolean remove(Entry entry) {
+			if (entry.queueState.compareAndSet(QueueState.QUEUED, QueueState.CLAIMED)) {
+				queuedEntries.decrementAndGet();
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		boolean isEmpty() {
+			return queuedEntries.get() == 0;
+		}
+
+		@Override
+		int size() {
+			return queuedEntries.get();
+		}
+
+		/**
+		 * Iterate over the entries of the current worker thread's deque from
+		 * tail to head, followed by those of the injection queue and the
+		 * deques of all other worker threads from head to tail.
+		 */
+		@Override
+		public Iterator<Entry> iterator() {
+			var currentThread = Thread.currentThread();
+			List<Iterator<Entry>> sources = new ArrayList<>(workerQueues.size() + 1);
+			var ownDeque = workerQueues.get(currentThread);
+			if (ownDeque != null) {
+				sources.add(ownDeque.descendingIterator());
+			}
+			sources.add(injectionQueue.iterator());
+			workerQueues.forEach((thread, deque) -> {
+				if (thread != currentThread) {
+					sources.add(deque.iterator());
+				}
+			});
+			return new QueuedEntryIterator(sources.iterator());
+		}
+
+		@Override
+		void workerTerminated(Thread workerThread) {
+			var deque = workerQueues.remove(workerThread);
+			if (deque == null) {
+				return;
+			}
+			// Claimed entries might be re-added by their claimer without being linked again
+			for (var entry : deque) {
+				if (entry.queueState.get() != QueueState.UNLINKED) {
+					injectionQueue.addLast(entry);
+				}
+			}
+		}
+
+		private Deque<Entry> dequeForCurrentThread() {
+			var currentThread = Thread.currentThread();
+			if (currentThread instanceof WorkerThread) {
+				return workerQueues.computeIfAbsent(currentThread, __ -> new ConcurrentLinkedDeque<>());
+			}
+			return injectionQueue;
+		}
+
+		private static final class QueuedEntryIterator implements Iterator<Entry> {
+
+			private final Iterator<Iterator<Entry>> sources;
+			private Iterator<Entry> current = Collections.emptyIterator();
+
+			@Nullable
+			private Entry next;
+
+			QueuedEntryIterator(Iterator<Iterator<Entry>> sources) {
+				this.sources = sources;
+			}
+
+			@Override
+			public boolean hasNext() {
+				while (next == null) {
+					if (current.hasNext()) {
+						var candidate = current.next();
+						var state = candidate.queueState.get();
+						if (state == QueueState.QUEUED) {
+							next = candidate;
+						}
+						else if (state == QueueState.UNLINKED
+								|| candidate.queueState.compareAndSet(QueueState.CLAIMED, QueueState.UNLINKED)) {
+							current.remove();
+						}
+					}
+					else if (sources.hasNext()) {
+						current = sources.next();
+					}
+					else {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public Entry next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				var result = requireNonNull(next);
+				next = null;
+				return result;
+			}
+		}
+	}
+
+	private enum QueueState {
+		UNLINKED, QUEUED, CLAIMED
+	}
+
 	static class WorkerLeaseManager {
 
-		private final int parallelism;
-		private final Semaphore semaphore;
+		private final ResizableSemaphore semaphore;
 		private final Consumer<BooleanSupplier> compensation;
+		private volatile int parallelism;
 
 		WorkerLeaseManager(int parallelism, Consumer<BooleanSupplier> onRelease) {
 			this.parallelism = parallelism;
-			this.semaphore = new Semaphore(parallelism);
+			this.semaphore = new ResizableSemaphore(parallelism);
 			this.compensation = onRelease;
 		}
 
+		int parallelism() {
+			return parallelism;
+		}
+
+		/**
+		 * Change the number of worker leases to the supplied parallelism.
+		 *
+		 * <p>Additional leases are available immediately and are used to start
+		 * new workers. If the parallelism is decreased, workers that currently
+		 * hold a lease keep it until they release it.
+		 */
+		synchronized void setParallelism(int newParallelism) {
+			Preconditions.condition(newParallelism > 0, "parallelism must be greater than 0");
+			var delta = newParallelism - parallelism;
+			parallelism = newParallelism;
+			if (delta > 0) {
+				semaphore.release(delta);
+				for (int i = 0; i < delta; i++) {
+					compensation.accept(() -> false);
+				}
+			}
+			else if (delta < 0) {
+				semaphore.reducePermits(-delta);
+			}
+			logger.trace(() -> "changed parallelism to %d (available: %d)".formatted(newParallelism,
+				semaphore.availablePermits()));
+		}
+
 		@Nullable
 		WorkerLease tryAcquire() {
 			boolean acquired = semaphore.tryAcquire();
@@ -864,6 +1247,20 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 		}
 	}
 
+	private static final class ResizableSemaphore extends Semaphore {
+
+		private static final long serialVersionUID = 1;
+
+		ResizableSemaphore(int permits) {
+			super(permits);
+		}
+
+		@Override
+		protected void reducePermits(int reduction) {
+			super.reducePermits(reduction);
+		}
+	}
+
 	static class WorkerLease {
 
 		private final Function<BooleanSupplier, WorkerLeaseManager.ReacquisitionToken> releaseAction;
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.OutputDirectoryCreator;
+import org.junit.platform.engine.TestDescriptor.Type;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * {@link TestPlan} that stores its tree in index-based columns instead of
+ * retaining {@link TestIdentifier} instances and per-parent sets of children.
+ *
+ * <p>Every identifier added to this test plan is assigned an {@code int} node
+ * index. The attributes of an identifier are stored in one array per
+ * attribute, and the tree structure in arrays of parent, first child, last
+ * child, next sibling, and previous sibling indices so that a node can be
+ * unlinked from its siblings in constant time. Sources and tags are interned since many
+ * identifiers, for example, the invocations of a parameterized test, share
+ * them. Unique IDs are mapped to node indices using an open-addressing hash
+ * table of {@code int} values. {@code TestIdentifier} instances are created
+ * on demand whenever they are requested; since identifiers are compared by
+ * their unique IDs, they are indistinguishable from the ones originally added.
+ *
+ * <p>Enabled via the {@value LauncherConstants#COMPACT_TEST_PLAN_ENABLED_PROPERTY_NAME}
+ * configuration parameter.
+ *
+ * @since 6.2
+ * @see LauncherConstants#COMPACT_TEST_PLAN_ENABLED_PROPERTY_NAME
+ */
+final class CompactTestPlan extends TestPlan {
+
+	private static final int NO_NODE = -1;
+	private static final int INITIAL_CAPACITY = 64;
+
+	// values of the index table
+	private static final int EMPTY_SLOT = 0;
+	private static final int DELETED_SLOT = -1;
+
+	private static final Type[] TYPES = Type.values();
+
+	private final Lock readLock;
+	private final Lock writeLock;
+
+	// columns indexed by node; a null unique ID marks a free node
+	private @Nullable UniqueId[] uniqueIds = new UniqueId[INITIAL_CAPACITY];
+	private @Nullable String[] displayNames = new String[INITIAL_CAPACITY];
+	// null if equal to the display name
+	private @Nullable String[] legacyReportingNames = new String[INITIAL_CAPACITY];
+	private int[] sources = new int[INITIAL_CAPACITY];
+	private int[] tags = new int[INITIAL_CAPACITY];
+	private byte[] types = new byte[INITIAL_CAPACITY];
+
+	// tree structure; roots are linked via nextSiblings as well
+	private int[] parents = new int[INITIAL_CAPACITY];
+	private int[] firstChildren = new int[INITIAL_CAPACITY];
+	private int[] lastChildren = new int[INITIAL_CAPACITY];
+	private int[] nextSiblings = new int[INITIAL_CAPACITY];
+	private int[] previousSiblings = new int[INITIAL_CAPACITY];
+	private int firstRoot = NO_NODE;
+	private int lastRoot = NO_NODE;
+
+	// parent IDs of roots whose parent is not part of this test plan
+	private final Map<Integer, UniqueId> detachedParentIds = new HashMap<>();
+
+	// free nodes are linked via nextSiblings
+	private int firstFreeNode = NO_NODE;
+	private int nodeCount;
+	private int liveNodeCount;
+
+	// open-addressing hash table mapping unique IDs to node + 1
+	private int[] index = new int[INITIAL_CAPACITY * 2];
+	private int usedIndexSlots;
+
+	// interned values; index 0 represents an absent source and empty tags
+	private final List<@Nullable TestSource> sourceTable = new ArrayList<>();
+	private final Map<TestSource, Integer> sourceIndices = new HashMap<>();
+	private final List<Set<TestTag>> tagsTable = new ArrayList<>();
+	private final Map<List<TestTag>, Integer> tagsIndices = new HashMap<>();
+
+	CompactTestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
+			OutputDirectoryCreator outputDirectoryCreator) {
+		super(containsTests, configurationParameters, outputDirectoryCreator);
+		ReadWriteLock lock = new ReentrantReadWriteLock();
+		this.readLock = lock.readLock();
+		this.writeLock = lock.writeLock();
+		this.sourceTable.add(null);
+		this.tagsTable.add(emptySet());
+	}
+
+	@Override
+	public void addInternal(TestIdentifier testIdentifier) {
+		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
+		this.writeLock.lock();
+		try {
+			UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+			int node = findNode(uniqueId);
+			if (node == NO_NODE) {
+				node = allocateNode(uniqueId);
+				link(node, testIdentifier.getParentIdObject().orElse(null));
+			}
+			store(node, testIdentifier);
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void removeInternal(UniqueId uniqueId) {
+		Preconditions.notNull(uniqueId, "uniqueId must not be null");
+		this.writeLock.lock();
+		try {
+			int node = findNode(uniqueId);
+			if (node != NO_NODE) {
+				unlink(node);
+				removeSubtree(node);
+			}
+		}
+		finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<TestIdentifier> getRoots() {
+		this.readLock.lock();
+		try {
+			return siblings(this.firstRoot);
+		}
+		finally {
+			this.readLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<TestIdentifier> getChildren(UniqueId parentId) {
+		this.readLock.lock();
+		try {
+			int node = findNode(parentId);
+			return node == NO_NODE ? emptySet() : siblings(this.firstChildren[node]);
+		}
+		finally {
+			this.readLock.unlock();
+		}
+	}
+
+	@Override
+	public TestIdentifier getTestIdentifier(UniqueId uniqueId) {
+		Preconditions.notNull(uniqueId, () -> "uniqueId must not be null");
+		this.readLock.lock();
+		try {
+			int node = findNode(uniqueId);
+			Preconditions.condition(node != NO_NODE,
+				() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
+			return view(node);
+		}
+		finally {
+			this.readLock.unlock();
+		}
+	}
+
+	@Override
+	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
+		Preconditions.notNull(predicate, "Predicate must not be null");
+		this.readLock.lock();
+		try {
+			long count = 0;
+			for (int node = 0; node < this.nodeCount; node++) {
+				if (this.uniqueIds[node] != null && predicate.test(view(node))) {
+					count++;
+				}
+			}
+			return count;
+		}
+		finally {
+			this.readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@return the number of identifiers in this test plan}
+	 */
+	int size() {
+		this.readLock.lock();
+		try {
+			return this.liveNodeCount;
+		}
+		finally {
+			this.readLock.unlock();
+		}
+	}
+
+	private Set<TestIdentifier> siblings(int firstNode) {
+		if (firstNode == NO_NODE) {
+			return emptySet();
+		}
+		Set<TestIdentifier> result = new LinkedHashSet<>();
+		for (int node = firstNode; node != NO_NODE; node = this.nextSiblings[node]) {
+			result.add(view(node));
+		}
+		return unmodifiableSet(result);
+	}
+
+	private TestIdentifier view(int node) {
+		UniqueId uniqueId = Objects.requireNonNull(this.uniqueIds[node]);
+		String displayName = Objects.requireNonNull(this.displayNames[node]);
+		String legacyReportingName = Objects.requireNonNullElse(this.legacyReportingNames[node], displayName);
+		int parent = this.parents[node];
+		UniqueId parentId = parent == NO_NODE ? this.detachedParentIds.get(node) : this.uniqueIds[parent];
+		return TestIdentifier.of(uniqueId, parentId, displayName, legacyReportingName,
+			this.sourceTable.get(this.sources[node]), this.tagsTable.get(this.tags[node]), TYPES[this.types[node]]);
+	}
+
+	private void store(int node, TestIdentifier testIdentifier) {
+		String displayName = testIdentifier.getDisplayName();
+		String legacyReportingName = testIdentifier.getLegacyReportingName();
+		this.displayNames[node] = displayName;
+		this.legacyReportingNames[node] = displayName.equals(legacyReportingName) ? null : legacyReportingName;
+		this.sources[node] = internSource(testIdentifier.getSource().orElse(null));
+		this.tags[node] = internTags(testIdentifier.getTags());
+		this.types[node] = (byte) testIdentifier.getType().ordinal();
+	}
+
+	private int internSource(@Nullable TestSource source) {
+		if (source == null) {
+			return 0;
+		}
+		return this.sourceIndices.computeIfAbsent(source, key -> {
+			this.sourceTable.add(key);
+			return this.sourceTable.size() - 1;
+		});
+	}
+
+	private int internTags(Set<TestTag> tags) {
+		if (tags.isEmpty()) {
+			return 0;
+		}
+		return this.tagsIndices.computeIfAbsent(List.copyOf(tags), key -> {
+			this.tagsTable.add(TestIdentifier.copyOf(tags));
+			return this.tagsTable.size() - 1;
+		});
+	}
+
+	// --- tree structure -----------------------------------------------------
+
+	private void link(int node, @Nullable UniqueId parentId) {
+		int parent = parentId == null ? NO_NODE : findNode(parentId);
+		this.parents[node] = parent;
+		if (parent == NO_NODE) {
+			// Root identifiers. Typically, a test engine. Or identifiers without
+			// a parent in this test plan, e.g. a test engine used in a suite.
+			if (parentId != null) {
+				this.detachedParentIds.put(node, parentId);
+			}
+			if (this.lastRoot == NO_NODE) {
+				this.firstRoot = node;
+			}
+			else {
+				this.nextSiblings[this.lastRoot] = node;
+			}
+			this.previousSiblings[node] = this.lastRoot;
+			this.lastRoot = node;
+		}
+		else {
+			int lastChild = this.lastChildren[parent];
+			if (lastChild == NO_NODE) {
+				this.firstChildren[parent] = node;
+			}
+			else {
+				this.nextSiblings[lastChild] = node;
+			}
+			this.previousSiblings[node] = lastChild;
+			this.lastChildren[parent] = node;
+		}
+	}
+
+	private void unlink(int node) {
+		int parent = this.parents[node];
+		int previous = this.previousSiblings[node];
+		int next = this.nextSiblings[node];
+		if (previous == NO_NODE) {
+			if (parent == NO_NODE) {
+				this.firstRoot = next;
+			}
+			else {
+				this.firstChildren[parent] = next;
+			}
+		}
+		else {
+			this.nextSiblings[previous] = next;
+		}
+		if (next == NO_NODE) {
+			if (parent == NO_NODE) {
+				this.lastRoot = previous;
+			}
+			else {
+				this.lastChildren[parent] = previous;
+			}
+		}
+		else {
+			this.previousSiblings[next] = previous;
+		}
+	}
+
+	private void removeSubtree(int node) {
+		int child = this.firstChildren[node];
+		while (child != NO_NODE) {
+			int next = this.nextSiblings[child];
+			removeSubtree(child);
+			child = next;
+		}
+		removeFromIndex(Objects.requireNonNull(this.uniqueIds[node]));
+		this.detachedParentIds.remove(node);
+		this.uniqueIds[node] = null;
+		this.displayNames[node] = null;
+		this.legacyReportingNames[node] = null;
+		this.nextSiblings[node] = this.firstFreeNode;
+		this.firstFreeNode = node;
+		this.liveNodeCount--;
+	}
+
+	private int allocateNode(UniqueId uniqueId) {
+		int node = this.firstFreeNode;
+		if (node == NO_NODE) {
+			if (this.nodeCount == this.uniqueIds.length) {
+				growColumns();
+			}
+			node = this.nodeCount++;
+		}
+		else {
+			this.firstFreeNode = this.nextSiblings[node];
+		}
+		this.uniqueIds[node] = uniqueId;
+		this.firstChildren[node] = NO_NODE;
+		this.lastChildren[node] = NO_NODE;
+		this.nextSiblings[node] = NO_NODE;
+		this.previousSiblings[node] = NO_NODE;
+		this.liveNodeCount++;
+		addToIndex(uniqueId, node);
+		return node;
+	}
+
+	private void growColumns() {
+		int capacity = this.uniqueIds.length + (this.uniqueIds.length >> 1);
+		this.uniqueIds = Arrays.copyOf(this.uniqueIds, capacity);
+		this.displayNames = Arrays.copyOf(this.displayNames, capacity);
+		this.legacyReportingNames = Arrays.copyOf(this.legacyReportingNames, capacity);
+		this.sources = Arrays.copyOf(this.sources, capacity);
+		this.tags = Arrays.copyOf(this.tags, capacity);
+		this.types = Arrays.copyOf(this.types, capacity);
+		this.parents = Arrays.copyOf(this.parents, capacity);
+		this.firstChildren = Arrays.copyOf(this.firstChildren, capacity);
+		this.lastChildren = Arrays.copyOf(this.lastChildren, capacity);
+		this.nextSiblings = Arrays.copyOf(this.nextSiblings, capacity);
+		this.previousSiblings = Arrays.copyOf(this.previousSiblings, capacity);
+	}
+
+	// --- index --------------------------------------------------------------
+
+	private int findNode(UniqueId uniqueId) {
+		int mask = this.index.length - 1;
+		for (int slot = spread(uniqueId.hashCode()) & mask;; slot = (slot + 1) & mask) {
+			int entry = this.index[slot];
+			if (entry == EMPTY_SLOT) {
+				return NO_NODE;
+			}
+			if (entry != DELETED_SLOT && uniqueId.equals(this.uniqueIds[entry - 1])) {
+				return entry - 1;
+			}
+		}
+	}
+
+	private void addToIndex(UniqueId uniqueId, int node) {
+		if ((this.usedIndexSlots + 1) * 2 > this.index.length) {
+			rehash();
+		}
+		int mask = this.index.length - 1;
+		int slot = spread(uniqueId.hashCode()) & mask;
+		while (this.index[slot] > EMPTY_SLOT) {
+			slot = (slot + 1) & mask;
+		}
+		if (this.index[slot] == EMPTY_SLOT) {
+			this.usedIndexSlots++;
+		}
+		this.index[slot] = node + 1;
+	}
+
+	private void removeFromIndex(UniqueId uniqueId) {
+		int mask = this.index.length - 1;
+		for (int slot = spread(uniqueId.hashCode()) & mask;; slot = (slot + 1) & mask) {
+			int entry = this.index[slot];
+			if (entry == EMPTY_SLOT) {
+				return;
+			}
+			if (entry != DELETED_SLOT && uniqueId.equals(this.uniqueIds[entry - 1])) {
+				this.index[slot] = DELETED_SLOT;
+				return;
+			}
+		}
+	}
+
+	private void rehash() {
+		int[] oldIndex = this.index;
+		int capacity = oldIndex.length;
+		while (this.liveNodeCount * 4 >= capacity) {
+			capacity <<= 1;
+		}
+		this.index = new int[capacity];
+		this.usedIndexSlots = 0;
+		int mask = capacity - 1;
+		for (int entry : oldIndex) {
+			if (entry > EMPTY_SLOT) {
+				int slot = spread(Objects.requireNonNull(this.uniqueIds[entry - 1]).hashCode()) & mask;
+				while (this.index[slot] != EMPTY_SLOT) {
+					slot = (slot + 1) & mask;
+				}
+				this.index[slot] = entry;
+				this.usedIndexSlots++;
+			}
+		}
+	}
+
+	private static int spread(int hashCode) {
+		return hashCode ^ (hashCode >>> 16);
+	}
+
+}
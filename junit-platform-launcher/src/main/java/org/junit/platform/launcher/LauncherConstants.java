@@ -82,6 +82,23 @@ public class LauncherConstants {
 	 */
 	public static final int CAPTURE_MAX_BUFFER_DEFAULT = 4 * 1024 * 1024;
 
+	/**
+	 * Property name used to configure the maximum number of bytes of captured
+	 * output to keep in memory per thread and output type before writing
+	 * additional output to a temporary file: {@value}
+	 *
+	 * <p>Value must be a positive integer. If not set, or if the value is not
+	 * less than the value of {@link #CAPTURE_MAX_BUFFER_PROPERTY_NAME}, all
+	 * captured output is kept in memory. Setting this property allows raising
+	 * {@link #CAPTURE_MAX_BUFFER_PROPERTY_NAME} for tests that produce a lot of
+	 * output without increasing the memory used while they are executing.
+	 *
+	 * @since 6.2
+	 * @see #CAPTURE_MAX_BUFFER_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME = "junit.platform.output.capture.spillThreshold";
+
 	/**
 	 * Key used to publish captured output to {@link System#out} as part of a
 	 * {@link ReportEntry}: {@value}
@@ -318,6 +335,82 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "6.1.1")
 	public static final String MEMORY_CLEANUP_EXCLUDED_ENGINES_PROPERTY_NAME = "junit.platform.execution.memory.cleanup.engines.excluded";
 
+	/**
+	 * Property name used to enable asynchronous dispatching of events to
+	 * {@link TestExecutionListener TestExecutionListeners}: {@value}
+	 *
+	 * <p>Supported values are {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * <p>If enabled, the threads executing tests hand all events to a bounded,
+	 * lock-free buffer and a dedicated thread delivers them to the registered
+	 * listeners in the order in which they were reported. Slow listeners, for
+	 * example, ones writing reports, then no longer delay test execution. The
+	 * {@link Launcher} waits for all pending events to be delivered before
+	 * returning from {@link Launcher#execute(LauncherDiscoveryRequest, TestExecutionListener...)
+	 * execute()}.
+	 *
+	 * <p>Listeners are called on the dispatcher thread and potentially after
+	 * the reported event happened. Listeners that rely on being called on the
+	 * thread that executes a test, for example, by inspecting thread-local
+	 * state or measuring durations, have to opt out by overriding
+	 * {@link TestExecutionListener#requiresSynchronousDispatch()}.
+	 *
+	 * @since 6.2
+	 * @see #ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME = "junit.platform.execution.listeners.async.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of events that may be
+	 * pending when asynchronous dispatching of events to
+	 * {@link TestExecutionListener TestExecutionListeners} is enabled: {@value}
+	 *
+	 * <p>The value is rounded up to the next power of two. If the buffer is
+	 * full, the threads executing tests wait until the dispatcher thread has
+	 * caught up.
+	 *
+	 * <p>Value must be a positive integer; defaults to
+	 * {@value #ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT}.
+	 *
+	 * @since 6.2
+	 * @see #ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME = "junit.platform.execution.listeners.async.bufferSize";
+
+	/**
+	 * Default maximum number of pending events when asynchronous dispatching
+	 * of events to listeners is enabled: {@value}
+	 *
+	 * @since 6.2
+	 * @see #ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final int ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT = 8192;
+
+	/**
+	 * Property name used to enable the compact storage of the {@link TestPlan}:
+	 * {@value}
+	 *
+	 * <p>Supported values are {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * <p>If enabled, the {@code TestPlan} stores its tree in index-based arrays
+	 * and interns test sources and tags rather than retaining a
+	 * {@link TestIdentifier} per test or container and a set of children per
+	 * container. {@code TestIdentifier} instances are then created on demand
+	 * whenever they are requested. This considerably reduces memory consumption
+	 * for very large test plans, for example, in the presence of many
+	 * parameterized or dynamic tests, at the cost of additional allocations
+	 * when accessing the test plan.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String COMPACT_TEST_PLAN_ENABLED_PROPERTY_NAME = "junit.platform.launcher.testplan.compact.enabled";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -200,4 +201,24 @@ public interface TestExecutionListener {
 	@API(status = MAINTAINED, since = "1.13.3")
 	default void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
 	}
+
+	/**
+	 * Determine whether this listener has to be notified on the thread that
+	 * reported an event even if
+	 * {@linkplain LauncherConstants#ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME
+	 * asynchronous listener dispatch} is enabled.
+	 *
+	 * <p>Listeners that measure the time at which events occur or inspect the
+	 * current thread should return {@code true}. Such listeners delay test
+	 * execution for as long as they take to process an event.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @return {@code true} if this listener requires synchronous dispatch
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default boolean requiresSynchronousDispatch() {
+		return false;
+	}
 }
@@ -73,6 +73,21 @@ public final class TestIdentifier implements Serializable {
 		Type type = testDescriptor.getType();
 		UniqueId parentId = testDescriptor.getParent().map(TestDescriptor::getUniqueId).orElse(null);
 		String legacyReportingName = testDescriptor.getLegacyReportingName();
+		return new TestIdentifier(uniqueId, displayName, source, copyOf(tags), type, parentId, legacyReportingName);
+	}
+
+	/**
+	 * Factory for creating a new {@link TestIdentifier} from its individual
+	 * attributes, used by {@link TestPlan} implementations that do not retain
+	 * {@code TestIdentifier} instances.
+	 *
+	 * <p>The supplied set of tags is used as is and must not be modified
+	 * afterward.
+	 *
+	 * @since 6.2
+	 */
+	static TestIdentifier of(UniqueId uniqueId, @Nullable UniqueId parentId, String displayName,
+			String legacyReportingName, @Nullable TestSource source, Set<TestTag> tags, Type type) {
 		return new TestIdentifier(uniqueId, displayName, source, tags, type, parentId, legacyReportingName);
 	}
 
@@ -83,12 +98,12 @@ public final class TestIdentifier implements Serializable {
 		this.parentId = parentId;
 		this.displayName = displayName;
 		this.source = source;
-		this.tags = copyOf(tags);
+		this.tags = tags;
 		this.type = type;
 		this.legacyReportingName = legacyReportingName;
 	}
 
-	private Set<TestTag> copyOf(Set<TestTag> tags) {
+	static Set<TestTag> copyOf(Set<TestTag> tags) {
 		return switch (tags.size()) {
 			case 0 -> emptySet();
 			case 1 -> Set.of(getOnlyElement(tags));
@@ -90,12 +90,19 @@ public class TestPlan {
 			ConfigurationParameters configurationParameters, OutputDirectoryCreator outputDirectoryCreator) {
 		Preconditions.notNull(engineDescriptors, "Cannot create TestPlan from a null collection of TestDescriptors");
 		Preconditions.notNull(configurationParameters, "Cannot create TestPlan from null ConfigurationParameters");
-		TestPlan testPlan = new TestPlan(containsTests, configurationParameters, outputDirectoryCreator);
+		TestPlan testPlan = isCompactTestPlanEnabled(configurationParameters) //
+				? new CompactTestPlan(containsTests, configurationParameters, outputDirectoryCreator) //
+				: new TestPlan(containsTests, configurationParameters, outputDirectoryCreator);
 		TestDescriptor.Visitor visitor = descriptor -> testPlan.addInternal(TestIdentifier.from(descriptor));
 		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
 		return testPlan;
 	}
 
+	private static boolean isCompactTestPlanEnabled(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(LauncherConstants.COMPACT_TEST_PLAN_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
 	@API(status = INTERNAL, since = "1.4")
 	protected TestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
 			OutputDirectoryCreator outputDirectoryCreator) {
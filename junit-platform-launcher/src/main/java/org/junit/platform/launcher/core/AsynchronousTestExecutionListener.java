@@ -0,0 +1,311 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that hands all events to a bounded, lock-free
+ * ring buffer and delivers them to its delegate on a dedicated dispatcher
+ * thread.
+ *
+ * <p>Events are delivered in the order in which they were published. The
+ * dispatcher thread drains all available events at once before waiting for
+ * new ones. If the buffer is full, publishing threads wait until the
+ * dispatcher thread has caught up.
+ *
+ * <p>{@link #close()} must be called once all events have been published. It
+ * blocks until all pending events have been delivered.
+ *
+ * @since 6.2
+ * @see org.junit.platform.launcher.LauncherConstants#ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME
+ */
+class AsynchronousTestExecutionListener implements TestExecutionListener, AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsynchronousTestExecutionListener.class);
+
+	private static final String THREAD_NAME = "junit-listener-dispatcher";
+
+	static Optional<AsynchronousTestExecutionListener> create(ConfigurationParameters configurationParameters,
+			TestExecutionListener delegate) {
+		boolean enabled = configurationParameters.getBoolean(ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+		if (!enabled) {
+			return Optional.empty();
+		}
+		int bufferSize = configurationParameters.get(ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME,
+			Integer::valueOf).orElse(ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT);
+		return Optional.of(new AsynchronousTestExecutionListener(delegate, bufferSize));
+	}
+
+	private final TestExecutionListener delegate;
+	private final RingBuffer<Consumer<TestExecutionListener>> buffer;
+	private final Thread dispatcherThread;
+
+	private volatile boolean dispatcherWaiting;
+	private volatile boolean closed;
+	private volatile @Nullable Throwable failure;
+
+	AsynchronousTestExecutionListener(TestExecutionListener delegate, int bufferSize) {
+		Preconditions.condition(bufferSize > 0,
+			() -> "Buffer size for asynchronous listener dispatch must be greater than zero: " + bufferSize);
+		this.delegate = delegate;
+		this.buffer = new RingBuffer<>(bufferSize);
+		this.dispatcherThread = new Thread(this::dispatchEvents, THREAD_NAME);
+		this.dispatcherThread.setDaemon(true);
+		this.dispatcherThread.start();
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		publish(listener -> listener.testPlanExecutionStarted(testPlan));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		publish(listener -> listener.testPlanExecutionFinished(testPlan));
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		publish(listener -> listener.dynamicTestRegistered(testIdentifier));
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		publish(listener -> listener.executionSkipped(testIdentifier, reason));
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		publish(listener -> listener.executionStarted(testIdentifier));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		publish(listener -> listener.executionFinished(testIdentifier, testExecutionResult));
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		publish(listener -> listener.reportingEntryPublished(testIdentifier, entry));
+	}
+
+	@Override
+	public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+		publish(listener -> listener.fileEntryPublished(testIdentifier, file));
+	}
+
+	/**
+	 * Execute the supplied action on the dispatcher thread once all events
+	 * published before have been delivered.
+	 *
+	 * <p>Failures are handled in the same way as failures to deliver an
+	 * event.
+	 */
+	void executeAfterPendingEvents(Runnable action) {
+		publish(__ -> action.run());
+	}
+
+	/**
+	 * Wait for all pending events to be delivered and stop the dispatcher
+	 * thread.
+	 *
+	 * <p>If delivering an event failed with an unrecoverable exception, it is
+	 * rethrown by this method.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		LockSupport.unpark(this.dispatcherThread);
+		boolean interrupted = false;
+		while (this.dispatcherThread.isAlive()) {
+			try {
+				this.dispatcherThread.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		Throwable failure = this.failure;
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	private void publish(Consumer<TestExecutionListener> event) {
+		if (this.closed) {
+			throw new JUnitException("Cannot publish events after asynchronous listener dispatch has been closed");
+		}
+		while (!this.buffer.offer(event)) {
+			// buffer is full: make sure the dispatcher is running and wait for it to catch up
+			LockSupport.unpark(this.dispatcherThread);
+			Thread.onSpinWait();
+			LockSupport.parkNanos(1_000);
+		}
+		if (this.dispatcherWaiting) {
+			LockSupport.unpark(this.dispatcherThread);
+		}
+	}
+
+	private void dispatchEvents() {
+		while (true) {
+			if (drainBuffer() > 0) {
+				continue;
+			}
+			if (this.closed && this.buffer.isEmpty()) {
+				return;
+			}
+			this.dispatcherWaiting = true;
+			// re-check after announcing that the dispatcher is about to wait to
+			// avoid missing a wake-up from a publishing thread
+			if (this.buffer.isEmpty() && !this.closed) {
+				LockSupport.park(this);
+			}
+			this.dispatcherWaiting = false;
+		}
+	}
+
+	private int drainBuffer() {
+		int count = 0;
+		Consumer<TestExecutionListener> event;
+		while ((event = this.buffer.poll()) != null) {
+			deliver(event);
+			count++;
+		}
+		return count;
+	}
+
+	private void deliver(Consumer<TestExecutionListener> event) {
+		try {
+			event.accept(this.delegate);
+		}
+		catch (Throwable t) {
+			// The delegate is expected to handle recoverable exceptions of
+			// individual listeners, so this is most likely unrecoverable.
+			// Keep draining events so publishing threads are not blocked
+			// and report the failure once closed.
+			logger.error(t, () -> "Failed to deliver event to TestExecutionListener " + this.delegate);
+			if (this.failure == null) {
+				this.failure = t;
+			}
+		}
+	}
+
+	/**
+	 * Bounded multi-producer, single-consumer ring buffer.
+	 *
+	 * <p>Each slot carries a sequence number that tells producers whether the
+	 * slot is free and the consumer whether it has been published. Producers
+	 * claim slots by atomically incrementing the tail; the consumer is the only
+	 * thread that advances the head.
+	 */
+	static final class RingBuffer<T> {
+
+		private final int mask;
+		private final AtomicReferenceArray<@Nullable T> elements;
+		private final AtomicLongArray sequences;
+		private final AtomicLong tail = new AtomicLong();
+		private long head;
+
+		RingBuffer(int requestedCapacity) {
+			int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+			this.mask = capacity - 1;
+			this.elements = new AtomicReferenceArray<>(capacity);
+			this.sequences = new AtomicLongArray(capacity);
+			for (int i = 0; i < capacity; i++) {
+				this.sequences.set(i, i);
+			}
+		}
+
+		int capacity() {
+			return this.mask + 1;
+		}
+
+		/**
+		 * Add the supplied element unless the buffer is full.
+		 *
+		 * <p>May be called by any thread.
+		 */
+		boolean offer(T element) {
+			while (true) {
+				long position = this.tail.get();
+				int index = (int) (position & this.mask);
+				long difference = this.sequences.get(index) - position;
+				if (difference == 0) {
+					if (this.tail.compareAndSet(position, position + 1)) {
+						this.elements.lazySet(index, element);
+						this.sequences.set(index, position + 1);
+						return true;
+					}
+				}
+				else if (difference < 0) {
+					return false;
+				}
+				// otherwise, another producer claimed the slot concurrently
+			}
+		}
+
+		/**
+		 * Remove and return the next published element, if any.
+		 *
+		 * <p>Must only be called by the consumer thread.
+		 */
+		@Nullable T poll() {
+			long position = this.head;
+			int index = (int) (position & this.mask);
+			if (this.sequences.get(index) != position + 1) {
+				return null;
+			}
+			T element = this.elements.get(index);
+			this.elements.lazySet(index, null);
+			this.sequences.set(index, position + this.mask + 1);
+			this.head = position + 1;
+			return element;
+		}
+
+		/**
+		 * Determine whether the next element has not been published yet.
+		 *
+		 * <p>Must only be called by the consumer thread.
+		 */
+		boolean isEmpty() {
+			return this.sequences.get((int) (this.head & this.mask)) != this.head + 1;
+		}
+	}
+
+}
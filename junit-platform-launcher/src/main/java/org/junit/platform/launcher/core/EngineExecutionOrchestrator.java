@@ -15,9 +15,12 @@ import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAM
 import static org.junit.platform.launcher.LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
@@ -63,8 +66,9 @@ public class EngineExecutionOrchestrator {
 		ListenerRegistry<TestExecutionListener> testExecutionListenerListeners = buildListenerRegistryForExecution(
 			listeners);
 		withInterceptedStreams(configurationParameters, testExecutionListenerListeners,
-			testExecutionListener -> execute(internalTestPlan, EngineExecutionListener.NOOP, testExecutionListener,
-				requestLevelStore, cancellationToken));
+			(testExecutionListener, testPlanCleanupExecutor) -> execute(internalTestPlan,
+				EngineExecutionListener.NOOP, testExecutionListener, testPlanCleanupExecutor, requestLevelStore,
+				cancellationToken));
 	}
 
 	/**
@@ -87,12 +91,13 @@ public class EngineExecutionOrchestrator {
 		Preconditions.notNull(cancellationToken, "cancellationToken must not be null");
 
 		InternalTestPlan internalTestPlan = InternalTestPlan.from(discoveryResult);
-		execute(internalTestPlan, engineExecutionListener, testExecutionListener, requestLevelStore, cancellationToken);
+		execute(internalTestPlan, engineExecutionListener, testExecutionListener, Runnable::run, requestLevelStore,
+			cancellationToken);
 	}
 
 	private void execute(InternalTestPlan internalTestPlan, EngineExecutionListener parentEngineExecutionListener,
-			TestExecutionListener testExecutionListener, NamespacedHierarchicalStore<Namespace> requestLevelStore,
-			CancellationToken cancellationToken) {
+			TestExecutionListener testExecutionListener, Executor testPlanCleanupExecutor,
+			NamespacedHierarchicalStore<Namespace> requestLevelStore, CancellationToken cancellationToken) {
 
 		internalTestPlan.markStarted();
 
@@ -107,7 +112,8 @@ public class EngineExecutionOrchestrator {
 		}
 		else {
 			execute(discoveryResult,
-				buildEngineExecutionListener(parentEngineExecutionListener, testExecutionListener, testPlan),
+				buildEngineExecutionListener(parentEngineExecutionListener, testExecutionListener, testPlan,
+					testPlanCleanupExecutor),
 				requestLevelStore, cancellationToken);
 		}
 		testExecutionListener.testPlanExecutionFinished(testPlan);
@@ -140,13 +146,13 @@ public class EngineExecutionOrchestrator {
 
 	private static EngineExecutionListener buildEngineExecutionListener(
 			EngineExecutionListener parentEngineExecutionListener, TestExecutionListener testExecutionListener,
-			TestPlan testPlan) {
+			TestPlan testPlan, Executor testPlanCleanupExecutor) {
 		var registry = ListenerRegistry.forEngineExecutionListeners();
 		registry.add(new ExecutionListenerAdapter(testPlan, testExecutionListener));
 		registry.add(parentEngineExecutionListener);
 		var listener = registry.getCompositeListener();
 		if (isMemoryCleanupEnabled(testPlan)) {
-			listener = new MemoryCleanupListener(listener, testPlan);
+			listener = new MemoryCleanupListener(listener, testPlan, testPlanCleanupExecutor);
 		}
 		return listener;
 	}
@@ -158,16 +164,41 @@ public class EngineExecutionOrchestrator {
 	}
 
 	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
-			ListenerRegistry<TestExecutionListener> listenerRegistry, Consumer<TestExecutionListener> action) {
-
-		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeListener();
+			ListenerRegistry<TestExecutionListener> listenerRegistry,
+			BiConsumer<TestExecutionListener, Executor> action) {
+
+		// Listeners that require synchronous dispatch are called on the thread
+		// executing the test even if asynchronous dispatch is enabled
+		List<TestExecutionListener> synchronousListeners = new ArrayList<>();
+		List<TestExecutionListener> asynchronousListeners = new ArrayList<>();
+		for (TestExecutionListener listener : listenerRegistry.getListeners()) {
+			(listener.requiresSynchronousDispatch() ? synchronousListeners : asynchronousListeners).add(listener);
+		}
+		Optional<AsynchronousTestExecutionListener> asynchronousTestExecutionListener = AsynchronousTestExecutionListener.create(
+			configurationParameters, new CompositeTestExecutionListener(asynchronousListeners));
+		asynchronousTestExecutionListener.ifPresent(listener -> synchronousListeners.add(0, listener));
+		TestExecutionListener reportingListener = asynchronousTestExecutionListener.isPresent() //
+				? new CompositeTestExecutionListener(synchronousListeners) //
+				: listenerRegistry.getCompositeListener();
 		Optional<StreamInterceptingTestExecutionListener> streamInterceptingTestExecutionListener = StreamInterceptingTestExecutionListener.create(
-			configurationParameters, testExecutionListener::reportingEntryPublished);
-		streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::add);
+			configurationParameters, reportingListener::reportingEntryPublished);
 		try {
-			action.accept(listenerRegistry.getCompositeListener());
+			if (asynchronousTestExecutionListener.isPresent()) {
+				// Stream interception has to happen on the thread executing the test
+				List<TestExecutionListener> listeners = new ArrayList<>(synchronousListeners);
+				streamInterceptingTestExecutionListener.ifPresent(listeners::add);
+				// Nodes must only be removed from the test plan once asynchronously
+				// dispatched events that may still access them have been delivered
+				action.accept(new CompositeTestExecutionListener(listeners),
+					asynchronousTestExecutionListener.get()::executeAfterPendingEvents);
+			}
+			else {
+				streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::add);
+				action.accept(listenerRegistry.getCompositeListener(), Runnable::run);
+			}
 		}
 		finally {
+			asynchronousTestExecutionListener.ifPresent(AsynchronousTestExecutionListener::close);
 			streamInterceptingTestExecutionListener.ifPresent(StreamInterceptingTestExecutionListener::unregister);
 		}
 	}
@@ -16,6 +16,7 @@ import static org.junit.platform.launcher.LauncherConstants.MEMORY_CLEANUP_EXCLU
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
@@ -30,11 +31,24 @@ import org.junit.platform.launcher.TestPlan;
 class MemoryCleanupListener extends DelegatingEngineExecutionListener {
 
 	private final TestPlan testPlan;
+	private final Executor testPlanCleanupExecutor;
 	private final Set<String> excludedEngineIds;
 
 	MemoryCleanupListener(EngineExecutionListener delegate, TestPlan testPlan) {
+		this(delegate, testPlan, Runnable::run);
+	}
+
+	/**
+	 * @param testPlanCleanupExecutor executor used to remove finished nodes
+	 * from the {@code testPlan}; allows deferring their removal until
+	 * asynchronously dispatched events that may still access them have been
+	 * delivered
+	 * @since 6.2
+	 */
+	MemoryCleanupListener(EngineExecutionListener delegate, TestPlan testPlan, Executor testPlanCleanupExecutor) {
 		super(delegate);
 		this.testPlan = testPlan;
+		this.testPlanCleanupExecutor = testPlanCleanupExecutor;
 		this.excludedEngineIds = parseExcludedEngines(testPlan.getConfigurationParameters());
 	}
 
@@ -63,10 +77,11 @@ class MemoryCleanupListener extends DelegatingEngineExecutionListener {
 	}
 
 	private void cleanUp(TestDescriptor testDescriptor) {
-		testPlan.removeInternal(testDescriptor.getUniqueId());
+		UniqueId uniqueId = testDescriptor.getUniqueId();
+		testPlanCleanupExecutor.execute(() -> testPlan.removeInternal(uniqueId));
 		if (!testDescriptor.isRoot()) {
 			// Find the closest engine ID in the descriptor hierarchy
-			Optional<String> engineId = findClosestEngineId(testDescriptor.getUniqueId());
+			Optional<String> engineId = findClosestEngineId(uniqueId);
 			// Only call removeFromHierarchy() if the engine is not excluded
 			if (engineId.isEmpty() || !excludedEngineIds.contains(engineId.get())) {
 				testDescriptor.removeFromHierarchy();
@@ -12,6 +12,7 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_DEFAULT;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
@@ -50,9 +51,13 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 
 		int maxSize = configurationParameters.get(CAPTURE_MAX_BUFFER_PROPERTY_NAME, Integer::valueOf) //
 				.orElse(CAPTURE_MAX_BUFFER_DEFAULT);
+		int spillThreshold = configurationParameters.get(CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME, Integer::valueOf) //
+				.orElse(StreamInterceptor.NO_SPILLING);
 
-		StreamInterceptor stdoutInterceptor = captureStdout ? StreamInterceptor.registerStdout(maxSize) : null;
-		StreamInterceptor stderrInterceptor = captureStderr ? StreamInterceptor.registerStderr(maxSize) : null;
+		StreamInterceptor stdoutInterceptor = captureStdout ? StreamInterceptor.registerStdout(maxSize, spillThreshold)
+				: null;
+		StreamInterceptor stderrInterceptor = captureStderr ? StreamInterceptor.registerStderr(maxSize, spillThreshold)
+				: null;
 
 		if ((stdoutInterceptor == null && captureStdout) || (stderrInterceptor == null && captureStderr)) {
 			if (stdoutInterceptor != null) {
@@ -10,64 +10,116 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 
 /**
  * @since 1.3
  */
 class StreamInterceptor extends PrintStream {
 
-	private final Deque<RewindableByteArrayOutputStream> mostRecentOutputs = new ConcurrentLinkedDeque<>();
+	private static final Logger logger = LoggerFactory.getLogger(StreamInterceptor.class);
+
+	/**
+	 * Spill threshold that disables spilling captured output to disk.
+	 */
+	static final int NO_SPILLING = -1;
+
+	private final Deque<RewindableOutputStream> mostRecentOutputs = new ConcurrentLinkedDeque<>();
+	private final Queue<SpillingRewindableOutputStream> spillingOutputs = new ConcurrentLinkedQueue<>();
 
 	private final PrintStream originalStream;
 	private final Consumer<PrintStream> unregisterAction;
 	private final int maxNumberOfBytesPerThread;
+	private final int spillThreshold;
 
-	private final ThreadLocal<RewindableByteArrayOutputStream> output = ThreadLocal.withInitial(
-		RewindableByteArrayOutputStream::new);
+	private final ThreadLocal<RewindableOutputStream> output = ThreadLocal.withInitial(this::createOutput);
 
 	static @Nullable StreamInterceptor registerStdout(int maxNumberOfBytesPerThread) {
-		return register(System.out, System::setOut, maxNumberOfBytesPerThread);
+		return registerStdout(maxNumberOfBytesPerThread, NO_SPILLING);
+	}
+
+	static @Nullable StreamInterceptor registerStdout(int maxNumberOfBytesPerThread, int spillThreshold) {
+		return register(System.out, System::setOut, maxNumberOfBytesPerThread, spillThreshold);
 	}
 
 	static @Nullable StreamInterceptor registerStderr(int maxNumberOfBytesPerThread) {
-		return register(System.err, System::setErr, maxNumberOfBytesPerThread);
+		return registerStderr(maxNumberOfBytesPerThread, NO_SPILLING);
+	}
+
+	static @Nullable StreamInterceptor registerStderr(int maxNumberOfBytesPerThread, int spillThreshold) {
+		return register(System.err, System::setErr, maxNumberOfBytesPerThread, spillThreshold);
 	}
 
 	static @Nullable StreamInterceptor register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
 			int maxNumberOfBytesPerThread) {
+		return register(originalStream, streamSetter, maxNumberOfBytesPerThread, NO_SPILLING);
+	}
+
+	/**
+	 * Register a new interceptor for the supplied stream.
+	 *
+	 * <p>If {@code spillThreshold} is positive, at most that many bytes of
+	 * captured output are kept in memory per thread; any additional output is
+	 * written to a temporary file until it is consumed.
+	 */
+	static @Nullable StreamInterceptor register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
+			int maxNumberOfBytesPerThread, int spillThreshold) {
 		if (originalStream instanceof StreamInterceptor) {
 			return null;
 		}
-		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
+		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread,
+			spillThreshold);
 		streamSetter.accept(interceptor);
 		return interceptor;
 	}
 
 	private StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
-			int maxNumberOfBytesPerThread) {
+			int maxNumberOfBytesPerThread, int spillThreshold) {
 		super(originalStream);
 		this.originalStream = originalStream;
 		this.unregisterAction = unregisterAction;
 		this.maxNumberOfBytesPerThread = maxNumberOfBytesPerThread;
+		this.spillThreshold = spillThreshold;
+	}
+
+	private RewindableOutputStream createOutput() {
+		if (spillThreshold > 0 && spillThreshold < maxNumberOfBytesPerThread) {
+			SpillingRewindableOutputStream out = new SpillingRewindableOutputStream(spillThreshold);
+			spillingOutputs.add(out);
+			return out;
+		}
+		return new RewindableByteArrayOutputStream();
 	}
 
 	void capture() {
-		RewindableByteArrayOutputStream out = output.get();
+		RewindableOutputStream out = output.get();
 		out.mark();
 		pushToTop(out);
 	}
 
 	String consume() {
-		RewindableByteArrayOutputStream out = output.get();
+		RewindableOutputStream out = output.get();
 		String result = out.rewind();
 		if (!out.isMarked()) {
 			mostRecentOutputs.remove(out);
@@ -77,11 +129,15 @@ class StreamInterceptor extends PrintStream {
 
 	void unregister() {
 		unregisterAction.accept(originalStream);
+		SpillingRewindableOutputStream out;
+		while ((out = spillingOutputs.poll()) != null) {
+			out.close();
+		}
 	}
 
 	@Override
 	public void write(int b) {
-		RewindableByteArrayOutputStream out = getOutput();
+		RewindableOutputStream out = getOutput();
 		if (out != null && out.size() < maxNumberOfBytesPerThread) {
 			pushToTop(out);
 			out.write(b);
@@ -96,7 +152,7 @@ class StreamInterceptor extends PrintStream {
 
 	@Override
 	public void write(byte[] buf, int off, int len) {
-		RewindableByteArrayOutputStream out = getOutput();
+		RewindableOutputStream out = getOutput();
 		if (out != null) {
 			int actualLength = Math.max(0, Math.min(len, maxNumberOfBytesPerThread - out.size()));
 			if (actualLength > 0) {
@@ -107,31 +163,50 @@ class StreamInterceptor extends PrintStream {
 		super.write(buf, off, len);
 	}
 
-	private void pushToTop(RewindableByteArrayOutputStream out) {
+	private void pushToTop(RewindableOutputStream out) {
 		if (!out.equals(mostRecentOutputs.peek())) {
 			mostRecentOutputs.remove(out);
 			mostRecentOutputs.push(out);
 		}
 	}
 
-	private @Nullable RewindableByteArrayOutputStream getOutput() {
-		RewindableByteArrayOutputStream out = output.get();
+	private @Nullable RewindableOutputStream getOutput() {
+		RewindableOutputStream out = output.get();
 		return out.isMarked() ? out : mostRecentOutputs.peek();
 	}
 
-	static class RewindableByteArrayOutputStream extends ByteArrayOutputStream {
+	interface RewindableOutputStream {
+
+		int size();
+
+		boolean isMarked();
+
+		void mark();
+
+		String rewind();
+
+		void write(int b);
+
+		void write(byte[] buf, int off, int len);
+
+	}
+
+	static class RewindableByteArrayOutputStream extends ByteArrayOutputStream implements RewindableOutputStream {
 
 		private final Deque<Integer> markedPositions = new ArrayDeque<>();
 
-		boolean isMarked() {
+		@Override
+		public boolean isMarked() {
 			return !markedPositions.isEmpty();
 		}
 
-		void mark() {
+		@Override
+		public void mark() {
 			markedPositions.addFirst(count);
 		}
 
-		String rewind() {
+		@Override
+		public String rewind() {
 			Integer position = markedPositions.pollFirst();
 			if (position == null || position == count) {
 				return "";
@@ -141,4 +216,178 @@ class StreamInterceptor extends PrintStream {
 			return new String(buf, position, length, Charset.defaultCharset());
 		}
 	}
+
+	/**
+	 * {@link RewindableOutputStream} that keeps at most a fixed number of bytes
+	 * in memory and writes all preceding bytes to a temporary file.
+	 *
+	 * <p>The file is created when the in-memory buffer overflows for the first
+	 * time and deleted once all captured output has been consumed.
+	 */
+	static class SpillingRewindableOutputStream extends OutputStream implements RewindableOutputStream {
+
+		private final Deque<Integer> markedPositions = new ArrayDeque<>();
+		private final int threshold;
+
+		private byte @Nullable [] buffer;
+		private int bufferedCount;
+		private int spilledCount;
+		private @Nullable FileChannel channel;
+		private boolean spillingFailed;
+
+		SpillingRewindableOutputStream(int threshold) {
+			this.threshold = threshold;
+		}
+
+		@Override
+		public synchronized int size() {
+			return spilledCount + bufferedCount;
+		}
+
+		@Override
+		public synchronized boolean isMarked() {
+			return !markedPositions.isEmpty();
+		}
+
+		@Override
+		public synchronized void mark() {
+			markedPositions.addFirst(size());
+		}
+
+		@Override
+		public synchronized void write(int b) {
+			byte[] buffer = requiredBuffer();
+			if (bufferedCount == buffer.length && !spill()) {
+				return;
+			}
+			buffer[bufferedCount++] = (byte) b;
+		}
+
+		@Override
+		public synchronized void write(byte[] buf, int off, int len) {
+			byte[] buffer = requiredBuffer();
+			int offset = off;
+			int remaining = len;
+			while (remaining > 0) {
+				if (bufferedCount == buffer.length && !spill()) {
+					return;
+				}
+				int length = Math.min(remaining, buffer.length - bufferedCount);
+				System.arraycopy(buf, offset, buffer, bufferedCount, length);
+				bufferedCount += length;
+				offset += length;
+				remaining -= length;
+			}
+		}
+
+		@Override
+		public synchronized String rewind() {
+			Integer position = markedPositions.pollFirst();
+			int size = size();
+			if (position == null || position == size) {
+				return "";
+			}
+			byte[] buffer = requiredBuffer();
+			byte[] bytes = new byte[size - position];
+			if (position >= spilledCount) {
+				System.arraycopy(buffer, position - spilledCount, bytes, 0, bytes.length);
+				bufferedCount = position - spilledCount;
+			}
+			else {
+				readSpilledBytes(position, bytes);
+				System.arraycopy(buffer, 0, bytes, spilledCount - position, bufferedCount);
+				spilledCount = position;
+				bufferedCount = 0;
+				truncateSpilledBytes();
+			}
+			return new String(bytes, Charset.defaultCharset());
+		}
+
+		@Override
+		public synchronized void close() {
+			FileChannel channel = this.channel;
+			this.channel = null;
+			if (channel != null) {
+				try {
+					channel.close();
+				}
+				catch (IOException e) {
+					logger.warn(e, () -> "Failed to delete temporary file for captured output");
+				}
+			}
+		}
+
+		private byte[] requiredBuffer() {
+			byte[] buffer = this.buffer;
+			if (buffer == null) {
+				buffer = new byte[threshold];
+				this.buffer = buffer;
+			}
+			return buffer;
+		}
+
+		/**
+		 * Move the content of the in-memory buffer to the temporary file.
+		 *
+		 * @return {@code false} if the content could not be written, in which
+		 * case any further output is discarded
+		 */
+		private boolean spill() {
+			if (spillingFailed) {
+				return false;
+			}
+			try {
+				FileChannel channel = this.channel;
+				if (channel == null) {
+					channel = FileChannel.open(Files.createTempFile("junit-captured-output-", ".tmp"), READ, WRITE,
+						DELETE_ON_CLOSE);
+					this.channel = channel;
+				}
+				ByteBuffer source = ByteBuffer.wrap(requiredBuffer(), 0, bufferedCount);
+				while (source.hasRemaining()) {
+					channel.write(source, spilledCount + source.position());
+				}
+				spilledCount += bufferedCount;
+				bufferedCount = 0;
+				return true;
+			}
+			catch (IOException e) {
+				logger.warn(e, () -> "Failed to write captured output to temporary file; discarding further output");
+				spillingFailed = true;
+				return false;
+			}
+		}
+
+		private void readSpilledBytes(int position, byte[] target) {
+			ByteBuffer destination = ByteBuffer.wrap(target, 0, spilledCount - position);
+			FileChannel channel = this.channel;
+			try {
+				while (channel != null && destination.hasRemaining()) {
+					if (channel.read(destination, position + destination.position()) < 0) {
+						break;
+					}
+				}
+			}
+			catch (IOException e) {
+				logger.warn(e, () -> "Failed to read captured output from temporary file");
+			}
+		}
+
+		private void truncateSpilledBytes() {
+			if (spilledCount == 0) {
+				close();
+				spillingFailed = false;
+				return;
+			}
+			FileChannel channel = this.channel;
+			if (channel != null) {
+				try {
+					channel.truncate(spilledCount);
+				}
+				catch (IOException e) {
+					logger.debug(e, () -> "Failed to truncate temporary file for captured output");
+				}
+			}
+		}
+	}
 }
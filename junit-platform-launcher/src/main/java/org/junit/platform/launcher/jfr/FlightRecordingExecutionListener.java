@@ -22,12 +22,14 @@ import jdk.jfr.Event;
 import jdk.jfr.Label;
 import jdk.jfr.Name;
 import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.hierarchical.ResourceLockStatistics;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
@@ -36,6 +38,11 @@ import org.junit.platform.launcher.TestPlan;
  * A {@link TestExecutionListener} that generates Java Flight Recorder
  * events.
  *
+ * <p>Events are recorded for the thread that notifies this listener and their
+ * durations are measured when it is notified. This listener is therefore
+ * {@linkplain #requiresSynchronousDispatch() dispatched synchronously} even
+ * if asynchronous listener dispatch is enabled.
+ *
  * @since 1.8
  * @see <a href="https://openjdk.java.net/jeps/328">JEP 328: Flight Recorder</a>
  */
@@ -45,6 +52,11 @@ class FlightRecordingExecutionListener implements TestExecutionListener {
 	private final Map<org.junit.platform.engine.UniqueId, TestExecutionEvent> testExecutionEvents = new ConcurrentHashMap<>();
 	private @Nullable TestPlanExecutionEvent testPlanExecutionEvent;
 
+	@Override
+	public boolean requiresSynchronousDispatch() {
+		return true;
+	}
+
 	@Override
 	public void testPlanExecutionStarted(TestPlan plan) {
 		var event = new TestPlanExecutionEvent();
@@ -110,6 +122,19 @@ class FlightRecordingExecutionListener implements TestExecutionListener {
 				event.commit();
 			}
 		}
+		ResourceLockStatistics.fromReportEntry(reportEntry).ifPresent(statistics -> {
+			var event = new ResourceLockStatisticsEvent();
+			if (event.shouldCommit()) {
+				event.uniqueId = test.getUniqueId();
+				event.key = statistics.getKey();
+				event.acquisitions = statistics.getAcquisitions();
+				event.contentions = statistics.getContentions();
+				event.waitTime = statistics.getWaitTime().toNanos();
+				event.holdTime = statistics.getHoldTime().toNanos();
+				event.maxQueueLength = statistics.getMaxQueueLength();
+				event.commit();
+			}
+		});
 	}
 
 	@Override
@@ -209,6 +234,37 @@ class FlightRecordingExecutionListener implements TestExecutionListener {
 		String value;
 	}
 
+	@Label("Resource Lock Statistics")
+	@Name("org.junit.ResourceLockStatistics")
+	static class ResourceLockStatisticsEvent extends ExecutionEvent {
+
+		@UniqueId
+		@Label("Unique Id")
+		@Nullable
+		String uniqueId;
+
+		@Label("Resource Key")
+		@Nullable
+		String key;
+
+		@Label("Acquisitions")
+		long acquisitions;
+
+		@Label("Contentions")
+		long contentions;
+
+		@Label("Wait Time")
+		@Timespan
+		long waitTime;
+
+		@Label("Hold Time")
+		@Timespan
+		long holdTime;
+
+		@Label("Max Queue Length")
+		int maxQueueLength;
+	}
+
 	@Label("File Entry")
 	@Name("org.junit.FileEntry")
 	static class FileEntryEvent extends ExecutionEvent {
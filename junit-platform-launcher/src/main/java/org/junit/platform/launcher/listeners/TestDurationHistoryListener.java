@@ -0,0 +1,174 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.hierarchical.TestDurationHistory;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code TestDurationHistoryListener} is a {@link TestExecutionListener} that
+ * records how long each test and container took to execute and writes the
+ * durations to a history file once execution of the {@link TestPlan} has
+ * {@linkplain #testPlanExecutionFinished(TestPlan) finished}.
+ *
+ * <p>Parallel executor services can use the history file of a previous run to
+ * start long-running containers and tests first which reduces the overall
+ * execution time of a test suite.
+ *
+ * <h2>File Format</h2>
+ *
+ * <p>The history file is encoded using UTF-8 and contains one line per test or
+ * container. Each line consists of the duration in milliseconds, a tab
+ * character, and the {@linkplain TestIdentifier#getUniqueId() unique ID}. If
+ * the file already exists, durations of tests and containers that were not
+ * executed are retained so that running a subset of the tests does not discard
+ * the history of the remaining ones.
+ *
+ * <p>Durations are measured when events are reported. This listener is
+ * therefore {@linkplain #requiresSynchronousDispatch() dispatched
+ * synchronously} even if asynchronous listener dispatch is enabled.
+ *
+ * <h2>Configuration</h2>
+ *
+ * <p>The {@code TestDurationHistoryListener} is registered automatically via
+ * Java's {@link java.util.ServiceLoader} mechanism but only active if the
+ * {@value #HISTORY_FILE_PROPERTY_NAME} configuration parameter is set.
+ *
+ * <p>Configuration properties can be set via JVM system properties, via a
+ * {@code junit-platform.properties} file in the root of the classpath, or as
+ * JUnit Platform {@linkplain ConfigurationParameters configuration parameters}.
+ *
+ * @since 6.2
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public class TestDurationHistoryListener implements TestExecutionListener {
+
+	/**
+	 * Property name used to set the path of the history file written by the
+	 * {@code TestDurationHistoryListener}: {@value}
+	 *
+	 * <p>If this property is not set, the listener is disabled.
+	 */
+	public static final String HISTORY_FILE_PROPERTY_NAME = "junit.platform.listeners.duration.history.file";
+
+	private final Logger logger = LoggerFactory.getLogger(TestDurationHistoryListener.class);
+
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+	private @Nullable Path historyFile;
+
+	public TestDurationHistoryListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.historyFile = testPlan.getConfigurationParameters().get(HISTORY_FILE_PROPERTY_NAME) //
+				.map(Path::of) //
+				.orElse(null);
+	}
+
+	@Override
+	public boolean requiresSynchronousDispatch() {
+		return true;
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (this.historyFile != null) {
+			this.startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (this.historyFile != null) {
+			Long startTime = this.startTimes.remove(testIdentifier.getUniqueId());
+			if (startTime != null) {
+				long durationMillis = (System.nanoTime() - startTime) / 1_000_000;
+				this.durations.put(testIdentifier.getUniqueId(), durationMillis);
+			}
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Path historyFile = this.historyFile;
+		if (historyFile != null) {
+			try {
+				writeHistory(historyFile);
+			}
+			catch (IOException ex) {
+				logger.error(ex, () -> "Failed to write test duration history to " + historyFile.toAbsolutePath());
+			}
+		}
+		this.historyFile = null;
+		this.startTimes.clear();
+		this.durations.clear();
+	}
+
+	private void writeHistory(Path historyFile) throws IOException {
+		Map<String, Long> history = readHistory(historyFile);
+		history.putAll(this.durations);
+
+		Path parent = historyFile.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path tempFile = Files.createTempFile(parent, historyFile.getFileName().toString(), ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+				for (Map.Entry<String, Long> entry : history.entrySet()) {
+					writer.write(entry.getValue() + "\t" + entry.getKey());
+					writer.newLine();
+				}
+			}
+			Files.move(tempFile, historyFile, StandardCopyOption.REPLACE_EXISTING);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+		logger.debug(() -> "Wrote test duration history to " + historyFile.toAbsolutePath());
+	}
+
+	private Map<String, Long> readHistory(Path historyFile) {
+		if (!Files.isRegularFile(historyFile)) {
+			return new LinkedHashMap<>();
+		}
+		try {
+			return TestDurationHistory.readDurations(historyFile);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read existing test duration history from " + historyFile.toAbsolutePath());
+			return new LinkedHashMap<>();
+		}
+	}
+
+}
@@ -28,9 +28,11 @@ module org.junit.platform.reporting {
 	exports org.junit.platform.reporting.legacy;
 	exports org.junit.platform.reporting.legacy.xml;
 	exports org.junit.platform.reporting.open.xml;
+	exports org.junit.platform.reporting.trace;
 
 	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener;
+			with org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener,
+				org.junit.platform.reporting.trace.ExecutionTraceGeneratingListener;
 
 	provides org.opentest4j.reporting.tooling.spi.htmlreport.Contributor
 			with org.junit.platform.reporting.open.xml.JUnitContributor;
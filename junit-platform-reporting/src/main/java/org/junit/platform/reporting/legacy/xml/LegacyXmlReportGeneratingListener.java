@@ -20,12 +20,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import javax.xml.stream.XMLStreamException;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
@@ -40,6 +47,14 @@ import org.junit.platform.launcher.TestPlan;
  * de facto standard for JUnit 4 based test reports that was made popular by the
  * Ant build system.
  *
+ * <p>If the {@value #STREAMING_ENABLED_PROPERTY_NAME} configuration parameter
+ * is set to {@code true}, a separate XML report is written for each direct
+ * child container of a root as soon as it has finished, for example, for each
+ * top-level test class. The recorded data for the tests in such a report is
+ * discarded afterwards so that memory consumption does not grow with the
+ * total number of tests. Tests that are not contained in such a child
+ * container are still reported in the report for their root.
+ *
  * @since 1.4
  * @see org.junit.platform.launcher.listeners.LoggingListener
  * @see org.junit.platform.launcher.listeners.SummaryGeneratingListener
@@ -47,11 +62,18 @@ import org.junit.platform.launcher.TestPlan;
 @API(status = STABLE, since = "1.7")
 public class LegacyXmlReportGeneratingListener implements TestExecutionListener {
 
+	static final String STREAMING_ENABLED_PROPERTY_NAME = "junit.platform.reporting.legacy.xml.streaming.enabled";
+
+	private static final Pattern ILLEGAL_FILE_NAME_CHARACTERS = Pattern.compile("[^\\w.$-]");
+
+	private final Set<TestIdentifier> reportedContainers = ConcurrentHashMap.newKeySet();
+
 	private final Path reportsDir;
 	private final PrintWriter out;
 	private final Clock clock;
 
 	private @Nullable XmlReportData reportData;
+	private boolean streaming;
 
 	public LegacyXmlReportGeneratingListener(Path reportsDir, PrintWriter out) {
 		this(reportsDir, out, Clock.system(ZoneId.systemDefault()));
@@ -71,6 +93,9 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		this.reportData = new XmlReportData(testPlan, clock);
+		this.streaming = testPlan.getConfigurationParameters().getBoolean(STREAMING_ENABLED_PROPERTY_NAME).orElse(
+			false);
+		this.reportedContainers.clear();
 		try {
 			Files.createDirectories(this.reportsDir);
 		}
@@ -82,12 +107,13 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
 		this.reportData = null;
+		this.reportedContainers.clear();
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
 		requiredReportData().markSkipped(testIdentifier, reason);
-		writeXmlReportInCaseOfRoot(testIdentifier);
+		writeXmlReportInCaseOfRootOrTopLevelContainer(testIdentifier);
 	}
 
 	@Override
@@ -103,20 +129,58 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
 		requiredReportData().markFinished(testIdentifier, result);
-		writeXmlReportInCaseOfRoot(testIdentifier);
+		writeXmlReportInCaseOfRootOrTopLevelContainer(testIdentifier);
 	}
 
-	private void writeXmlReportInCaseOfRoot(TestIdentifier testIdentifier) {
+	private void writeXmlReportInCaseOfRootOrTopLevelContainer(TestIdentifier testIdentifier) {
 		if (isRoot(testIdentifier)) {
 			String rootName = testIdentifier.getUniqueIdObject().getSegments().get(0).getValue();
-			writeXmlReportSafely(testIdentifier, rootName);
+			if (this.streaming) {
+				writeRemainingXmlReportSafely(testIdentifier, rootName);
+			}
+			else {
+				writeXmlReportSafely(testIdentifier, rootName, it -> true);
+			}
+		}
+		else if (this.streaming && isTopLevelContainer(testIdentifier)) {
+			writeTopLevelContainerXmlReportSafely(testIdentifier);
+		}
+	}
+
+	private void writeTopLevelContainerXmlReportSafely(TestIdentifier testIdentifier) {
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		String rootName = uniqueId.getSegments().get(0).getValue();
+		String containerName = ILLEGAL_FILE_NAME_CHARACTERS.matcher(uniqueId.getLastSegment().getValue()) //
+				.replaceAll("_");
+		writeXmlReportSafely(testIdentifier, rootName + "-" + containerName, it -> true);
+		this.reportedContainers.add(testIdentifier);
+		XmlReportData reportData = requiredReportData();
+		reportData.getTestPlan().getDescendants(testIdentifier).forEach(reportData::evict);
+	}
+
+	private void writeRemainingXmlReportSafely(TestIdentifier root, String rootName) {
+		TestPlan testPlan = requiredReportData().getTestPlan();
+		Set<TestIdentifier> children = testPlan.getChildren(root);
+		Set<TestIdentifier> remainingChildren = new LinkedHashSet<>(children);
+		remainingChildren.removeAll(this.reportedContainers);
+		if (!children.isEmpty() && remainingChildren.isEmpty()) {
+			// everything has already been reported in separate files
+			return;
 		}
+		writeXmlReportSafely(root, rootName, testIdentifier -> {
+			Optional<TestIdentifier> current = Optional.of(testIdentifier);
+			while (current.isPresent() && !remainingChildren.contains(current.get())) {
+				current = testPlan.getParent(current.get());
+			}
+			return current.isPresent();
+		});
 	}
 
-	private void writeXmlReportSafely(TestIdentifier testIdentifier, String rootName) {
-		Path xmlFile = this.reportsDir.resolve("TEST-" + rootName + ".xml");
+	private void writeXmlReportSafely(TestIdentifier testIdentifier, String name,
+			Predicate<? super TestIdentifier> filter) {
+		Path xmlFile = this.reportsDir.resolve("TEST-" + name + ".xml");
 		try (Writer fileWriter = Files.newBufferedWriter(xmlFile)) {
-			new XmlReportWriter(requiredReportData()).writeXmlReport(testIdentifier, fileWriter);
+			new XmlReportWriter(requiredReportData()).writeXmlReport(testIdentifier, filter, fileWriter);
 		}
 		catch (XMLStreamException | IOException e) {
 			printException("Could not write XML report: " + xmlFile, e);
@@ -131,6 +195,11 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 		return testIdentifier.getParentIdObject().isEmpty();
 	}
 
+	private boolean isTopLevelContainer(TestIdentifier testIdentifier) {
+		return testIdentifier.isContainer() //
+				&& requiredReportData().getTestPlan().getParent(testIdentifier).filter(this::isRoot).isPresent();
+	}
+
 	private void printException(String message, Exception exception) {
 		out.println(message);
 		exception.printStackTrace(out);
@@ -84,6 +84,19 @@ class XmlReportData {
 		entries.add(entry);
 	}
 
+	/**
+	 * Remove all data recorded for the supplied identifier.
+	 *
+	 * @since 6.2
+	 */
+	void evict(TestIdentifier testIdentifier) {
+		this.finishedTests.remove(testIdentifier);
+		this.skippedTests.remove(testIdentifier);
+		this.startInstants.remove(testIdentifier);
+		this.endInstants.remove(testIdentifier);
+		this.reportEntries.remove(testIdentifier);
+	}
+
 	boolean wasSkipped(TestIdentifier testIdentifier) {
 		return findSkippedAncestor(testIdentifier).isPresent();
 	}
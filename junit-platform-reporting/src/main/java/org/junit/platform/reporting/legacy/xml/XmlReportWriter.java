@@ -50,6 +50,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeSet;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -93,10 +94,22 @@ class XmlReportWriter {
 	}
 
 	void writeXmlReport(TestIdentifier rootDescriptor, Writer out) throws XMLStreamException {
+		writeXmlReport(rootDescriptor, testIdentifier -> true, out);
+	}
+
+	/**
+	 * Write a report for the supplied descriptor that only includes those of
+	 * its descendants that match the supplied filter.
+	 *
+	 * @since 6.2
+	 */
+	void writeXmlReport(TestIdentifier rootDescriptor, Predicate<? super TestIdentifier> filter, Writer out)
+			throws XMLStreamException {
 		TestPlan testPlan = this.reportData.getTestPlan();
 		Map<TestIdentifier, AggregatedTestResult> tests = testPlan.getDescendants(rootDescriptor) //
 				.stream() //
 				.filter(testIdentifier -> shouldInclude(testPlan, testIdentifier)) //
+				.filter(filter) //
 				.collect(toMap(identity(), this::toAggregatedResult)); //
 		writeXmlReport(rootDescriptor, tests, out);
 	}
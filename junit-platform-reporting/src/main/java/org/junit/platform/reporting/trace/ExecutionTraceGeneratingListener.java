@@ -0,0 +1,316 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.trace;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.hierarchical.ResourceLockStatistics;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code ExecutionTraceGeneratingListener} is a {@link TestExecutionListener}
+ * that writes the execution timeline of all tests and containers to a JSON file
+ * in the <a href="https://docs.google.com/document/d/1CvAClvFfyA5R-PhYUmn5OOQtYMH4h6I0nSsKchNAySU">Trace
+ * Event Format</a> which can be opened with Perfetto or {@code chrome://tracing}.
+ *
+ * <p>Each test and container is written as a <em>complete</em> event on the
+ * track of the thread that reported its start as soon as it has finished so
+ * that idle threads, long tails, and serialized execution become visible.
+ * Only the events of tests and containers that are currently being executed
+ * are kept in memory, the rest is written to the file incrementally.
+ *
+ * <p>Since events are attributed to the thread that reports them, this
+ * listener is {@linkplain #requiresSynchronousDispatch() dispatched
+ * synchronously} even if asynchronous listener dispatch is enabled.
+ *
+ * <p>If {@linkplain ResourceLockStatistics resource lock statistics} and
+ * the publication of
+ * {@linkplain ResourceLockStatistics#NODE_WAIT_TIME_ENABLED_PROPERTY_NAME wait times}
+ * are enabled, the time a test or container waited for its resource locks
+ * before being started is written as a separate event on the same track.
+ *
+ * <p>The listener is registered automatically via Java's
+ * {@link java.util.ServiceLoader} mechanism but only active if the
+ * {@value #ENABLED_PROPERTY_NAME} configuration parameter is set to
+ * {@code true}. The file is written to the root of the output directory.
+ *
+ * @since 6.2
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public class ExecutionTraceGeneratingListener implements TestExecutionListener {
+
+	static final String ENABLED_PROPERTY_NAME = "junit.platform.reporting.trace.enabled";
+	static final String FILE_NAME = "junit-execution-trace.json";
+
+	private static final int PROCESS_ID = 1;
+
+	private final Map<UniqueId, StartedNode> startedNodes = new ConcurrentHashMap<>();
+	private final AtomicInteger threadCounter = new AtomicInteger();
+	private final ThreadLocal<@Nullable ThreadTrack> threadTracks = new ThreadLocal<>();
+
+	private @Nullable Writer writer;
+	private boolean firstEvent;
+	private int generation;
+	private long startNanos;
+
+	@SuppressWarnings("unused") // Used via ServiceLoader
+	public ExecutionTraceGeneratingListener() {
+	}
+
+	@Override
+	public boolean requiresSynchronousDispatch() {
+		return true;
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		if (!testPlan.getConfigurationParameters().getBoolean(ENABLED_PROPERTY_NAME).orElse(false)) {
+			return;
+		}
+		Path traceFile = testPlan.getOutputDirectoryCreator().getRootDirectory().resolve(FILE_NAME);
+		try {
+			Writer writer = Files.newBufferedWriter(traceFile, UTF_8);
+			writer.write('[');
+			synchronized (this) {
+				this.writer = writer;
+				this.firstEvent = true;
+				this.generation++;
+				this.startNanos = System.nanoTime();
+			}
+		}
+		catch (IOException e) {
+			throw new JUnitException("Failed to create execution trace file " + traceFile, e);
+		}
+		this.threadCounter.set(0);
+		writeEvent(new JsonObject() //
+				.add("name", "process_name") //
+				.add("ph", "M") //
+				.add("pid", PROCESS_ID) //
+				.add("tid", 0) //
+				.add("args", new JsonObject().add("name", "JUnit")));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Writer writer;
+		synchronized (this) {
+			writer = this.writer;
+			this.writer = null;
+		}
+		this.startedNodes.clear();
+		if (writer != null) {
+			try (writer) {
+				writer.write("\n]\n");
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("Failed to finish execution trace file", e);
+			}
+		}
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		if (isEnabled()) {
+			writeEvent(new JsonObject() //
+					.add("name", testIdentifier.getDisplayName()) //
+					.add("cat", "skipped") //
+					.add("ph", "i") //
+					.add("s", "t") //
+					.add("ts", timestamp(System.nanoTime())) //
+					.add("pid", PROCESS_ID) //
+					.add("tid", currentThreadId()) //
+					.add("args", new JsonObject() //
+							.add("uniqueId", testIdentifier.getUniqueId()) //
+							.add("reason", reason)));
+		}
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (isEnabled()) {
+			this.startedNodes.put(testIdentifier.getUniqueIdObject(),
+				new StartedNode(System.nanoTime(), currentThreadId()));
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		StartedNode startedNode = this.startedNodes.remove(testIdentifier.getUniqueIdObject());
+		if (startedNode != null) {
+			long finishedNanos = System.nanoTime();
+			writeEvent(new JsonObject() //
+					.add("name", testIdentifier.getDisplayName()) //
+					.add("cat", testIdentifier.isTest() ? "test" : "container") //
+					.add("ph", "X") //
+					.add("ts", timestamp(startedNode.nanos())) //
+					.add("dur", duration(startedNode.nanos(), finishedNanos)) //
+					.add("pid", PROCESS_ID) //
+					.add("tid", startedNode.threadId()) //
+					.add("args", new JsonObject() //
+							.add("uniqueId", testIdentifier.getUniqueId()) //
+							.add("result", testExecutionResult.getStatus().name())));
+		}
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		StartedNode startedNode = this.startedNodes.get(testIdentifier.getUniqueIdObject());
+		if (startedNode == null) {
+			return;
+		}
+		ResourceLockStatistics.waitTimeFromReportEntry(entry).ifPresent(waitTime -> {
+			long waitStartedNanos = startedNode.nanos() - waitTime.toNanos();
+			writeEvent(new JsonObject() //
+					.add("name", "Waiting for resource locks") //
+					.add("cat", "lock") //
+					.add("ph", "X") //
+					.add("ts", timestamp(waitStartedNanos)) //
+					.add("dur", duration(waitStartedNanos, startedNode.nanos())) //
+					.add("pid", PROCESS_ID) //
+					.add("tid", startedNode.threadId()) //
+					.add("args", new JsonObject().add("uniqueId", testIdentifier.getUniqueId())));
+		});
+	}
+
+	private synchronized boolean isEnabled() {
+		return this.writer != null;
+	}
+
+	private synchronized int currentGeneration() {
+		return this.generation;
+	}
+
+	private int currentThreadId() {
+		int generation = currentGeneration();
+		ThreadTrack track = this.threadTracks.get();
+		if (track == null || track.generation() != generation) {
+			track = new ThreadTrack(generation, this.threadCounter.incrementAndGet());
+			this.threadTracks.set(track);
+			writeEvent(new JsonObject() //
+					.add("name", "thread_name") //
+					.add("ph", "M") //
+					.add("pid", PROCESS_ID) //
+					.add("tid", track.id()) //
+					.add("args", new JsonObject().add("name", Thread.currentThread().getName())));
+		}
+		return track.id();
+	}
+
+	private synchronized void writeEvent(JsonObject event) {
+		Writer writer = this.writer;
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.write(this.firstEvent ? "\n" : ",\n");
+			writer.write(event.toString());
+			this.firstEvent = false;
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Failed to write to execution trace file", e);
+		}
+	}
+
+	private synchronized long timestamp(long nanos) {
+		return (nanos - this.startNanos) / 1_000;
+	}
+
+	private static long duration(long startNanos, long finishNanos) {
+		return (finishNanos - startNanos) / 1_000;
+	}
+
+	private record StartedNode(long nanos, int threadId) {
+	}
+
+	private record ThreadTrack(int generation, int id) {
+	}
+
+	/**
+	 * Minimal builder for single-line JSON objects.
+	 */
+	private static final class JsonObject {
+
+		private final StringBuilder json = new StringBuilder("{");
+
+		JsonObject add(String name, String value) {
+			appendName(name);
+			appendString(value);
+			return this;
+		}
+
+		JsonObject add(String name, long value) {
+			appendName(name);
+			this.json.append(value);
+			return this;
+		}
+
+		JsonObject add(String name, JsonObject value) {
+			appendName(name);
+			this.json.append(value);
+			return this;
+		}
+
+		private void appendName(String name) {
+			if (this.json.length() > 1) {
+				this.json.append(',');
+			}
+			appendString(name);
+			this.json.append(':');
+		}
+
+		private void appendString(String value) {
+			this.json.append('"');
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				switch (c) {
+					case '"' -> this.json.append("\\\"");
+					case '\\' -> this.json.append("\\\\");
+					case '\n' -> this.json.append("\\n");
+					case '\r' -> this.json.append("\\r");
+					case '\t' -> this.json.append("\\t");
+					default -> {
+						if (c < 0x20) {
+							this.json.append("\\u%04x".formatted((int) c));
+						}
+						else {
+							this.json.append(c);
+						}
+					}
+				}
+			}
+			this.json.append('"');
+		}
+
+		@Override
+		public String toString() {
+			return this.json + "}";
+		}
+	}
+
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+/**
+ * Support for generating execution traces in the Trace Event Format.
+ */
+
+@NullMarked
+package org.junit.platform.reporting.trace;
+
+import org.jspecify.annotations.NullMarked;
@@ -10,7 +10,6 @@
 
 package org.junit.vintage.engine.descriptor;
 
-import static java.util.Collections.synchronizedMap;
 import static java.util.function.Predicate.isEqual;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.commons.support.HierarchyTraversalMode.TOP_DOWN;
@@ -25,7 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.support.ModifierSupport;
-import org.junit.platform.commons.util.LruCache;
+import org.junit.platform.commons.util.ConcurrentLruCache;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
@@ -42,7 +41,7 @@ public class TestSourceProvider {
 	};
 
 	private final Map<Description, TestSource> testSourceCache = new ConcurrentHashMap<>();
-	private final Map<Class<?>, List<Method>> methodsCache = synchronizedMap(new LruCache<>(31));
+	private final ConcurrentLruCache<Class<?>, List<Method>> methodsCache = new ConcurrentLruCache<>(31);
 
 	@SuppressWarnings("ReferenceEquality")
 	public @Nullable TestSource findTestSource(Description description) {
@@ -18,8 +18,11 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
 import static org.junit.jupiter.api.timeout.PreemptiveTimeoutUtils.executeWithPreemptiveTimeout;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
@@ -66,6 +69,56 @@ class PreemptiveTimeoutUtilsTest {
 		assertThat(result).isEqualTo("Tempus Fugit");
 	}
 
+	@Test
+	void executeWithPreemptiveTimeoutUsesContextClassLoaderOfCallingThread() throws Exception {
+		var originalClassLoader = Thread.currentThread().getContextClassLoader();
+		try (var classLoader = new URLClassLoader(new URL[0], originalClassLoader)) {
+			Thread.currentThread().setContextClassLoader(classLoader);
+
+			var result = executeWithPreemptiveTimeout(PREEMPTIVE_TIMEOUT,
+				() -> Thread.currentThread().getContextClassLoader(), null, TIMEOUT_EXCEPTION_FACTORY);
+
+			assertThat(result).isSameAs(classLoader);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	void executeWithPreemptiveTimeoutDoesNotExposeThreadLocalValuesToSubsequentExecutions() throws Exception {
+		var threadLocal = new ThreadLocal<String>();
+
+		executeWithPreemptiveTimeout(PREEMPTIVE_TIMEOUT, () -> {
+			threadLocal.set("first execution");
+			return null;
+		}, null, TIMEOUT_EXCEPTION_FACTORY);
+		var result = executeWithPreemptiveTimeout(PREEMPTIVE_TIMEOUT, threadLocal::get, null,
+			TIMEOUT_EXCEPTION_FACTORY);
+
+		assertThat(result).isNull();
+	}
+
+	@Test
+	void executeWithPreemptiveTimeoutRestoresContextClassLoaderOfExecutingThread() throws Exception {
+		var executorService = Executors.newSingleThreadExecutor();
+		var originalClassLoader = Thread.currentThread().getContextClassLoader();
+		try (var classLoader = new URLClassLoader(new URL[0], originalClassLoader)) {
+			var executorClassLoader = executorService.submit(() -> Thread.currentThread().getContextClassLoader()).get();
+			Thread.currentThread().setContextClassLoader(classLoader);
+
+			executeWithPreemptiveTimeout(PREEMPTIVE_TIMEOUT, () -> "Tempus Fugit", null, TIMEOUT_EXCEPTION_FACTORY,
+				executorService);
+
+			assertThat(executorService.submit(() -> Thread.currentThread().getContextClassLoader()).get()) //
+					.isSameAs(executorClassLoader);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+			executorService.shutdownNow();
+		}
+	}
+
 	private void waitForInterrupt() {
 		try {
 			assertFalse(Thread.interrupted(), "Already interrupted");
@@ -40,9 +40,12 @@ import org.junit.jupiter.api.extension.AnnotatedElementContext;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDirFactory;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.engine.descriptor.CustomDisplayNameGenerator;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.DiscoveryIssue.Severity;
@@ -152,6 +155,56 @@ class DefaultJupiterConfigurationTests {
 		assertThat(supplier.get()).isSameAs(TempDirFactory.Standard.INSTANCE);
 	}
 
+	@Test
+	void defaultInvocationsExecutionModeFallsBackToDefaultExecutionMode() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(
+			configurationParameters(Map.of(Constants.DEFAULT_EXECUTION_MODE_PROPERTY_NAME, "concurrent")),
+			dummyOutputDirectoryCreator(), mock());
+
+		assertThat(configuration.getDefaultInvocationsExecutionMode()).isEqualTo(ExecutionMode.CONCURRENT);
+	}
+
+	@Test
+	void shouldGetDefaultInvocationsExecutionModeWithConfigParamSet() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(
+			configurationParameters(Map.of(Constants.DEFAULT_EXECUTION_MODE_PROPERTY_NAME, "concurrent",
+				Constants.DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME, "same_thread")),
+			dummyOutputDirectoryCreator(), mock());
+
+		assertThat(configuration.getDefaultInvocationsExecutionMode()).isEqualTo(ExecutionMode.SAME_THREAD);
+	}
+
+	@Test
+	void doesNotLimitConcurrentInvocationsWithoutConfigParamSet() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(configurationParameters(Map.of()),
+			dummyOutputDirectoryCreator(), mock());
+
+		assertThat(configuration.getMaxConcurrentInvocations()).isEqualTo(Integer.MAX_VALUE);
+	}
+
+	@Test
+	void shouldGetMaxConcurrentInvocationsWithConfigParamSet() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(
+			configurationParameters(Map.of(Constants.PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME, " 42 ")),
+			dummyOutputDirectoryCreator(), mock());
+
+		assertThat(configuration.getMaxConcurrentInvocations()).isEqualTo(42);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "0", "-1", "bogus" })
+	void rejectsInvalidMaxConcurrentInvocations(String value) {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(
+			configurationParameters(Map.of(Constants.PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME, value)),
+			dummyOutputDirectoryCreator(), mock());
+
+		assertThatThrownBy(configuration::getMaxConcurrentInvocations) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Invalid maximum number of concurrent invocations '%s' set via the '%s' "
+						+ "configuration parameter; value must be a positive integer.",
+					value, Constants.PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME);
+	}
+
 	@Test
 	void doesNotReportAnyIssuesIfConfigurationParametersAreEmpty() {
 		List<DiscoveryIssue> issues = new ArrayList<>();
@@ -19,11 +19,13 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
 
 class TestTemplateInvocationTestDescriptorTests {
@@ -40,16 +42,39 @@ class TestTemplateInvocationTestDescriptorTests {
 		when(invocationContext.getDisplayName(anyInt())).thenReturn("invocation");
 
 		TestTemplateInvocationTestDescriptor testDescriptor = new TestTemplateInvocationTestDescriptor(
-			parent.getUniqueId().append(TestTemplateInvocationTestDescriptor.SEGMENT_TYPE, "1"), testClass,
-			testTemplateMethod, invocationContext, 1, configuration);
+			parent.getUniqueId().append(TestTemplateInvocationTestDescriptor.SEGMENT_TYPE, "1"), parent,
+			invocationContext, 1, configuration);
 
 		assertThat(parent.getExclusiveResources()).hasSize(1);
 		assertThat(testDescriptor.getExclusiveResources()).isEmpty();
 	}
 
+	@Test
+	void invocationsShareSourceAndTagsWithTemplate() throws Exception {
+		Class<MyTestCase> testClass = MyTestCase.class;
+		Method testTemplateMethod = testClass.getDeclaredMethod("testTemplate");
+		JupiterConfiguration configuration = mock();
+		when(configuration.getDefaultDisplayNameGenerator()).thenReturn(new DisplayNameGenerator.Standard());
+		TestTemplateTestDescriptor parent = new TestTemplateTestDescriptor(UniqueId.root("segment", "template"),
+			testClass, testTemplateMethod, List::of, configuration);
+		TestTemplateInvocationContext invocationContext = mock();
+		when(invocationContext.getDisplayName(anyInt())).thenReturn("invocation");
+
+		TestTemplateInvocationTestDescriptor testDescriptor = new TestTemplateInvocationTestDescriptor(
+			parent.getUniqueId().append(TestTemplateInvocationTestDescriptor.SEGMENT_TYPE, "1"), parent,
+			invocationContext, 1, configuration);
+
+		assertThat(testDescriptor.getDisplayName()).isEqualTo("invocation");
+		assertThat(testDescriptor.getTestClass()).isSameAs(testClass);
+		assertThat(testDescriptor.getTestMethod()).isSameAs(testTemplateMethod);
+		assertThat(testDescriptor.getSource()).containsSame(parent.getSource().orElseThrow());
+		assertThat(testDescriptor.getTags()).containsExactly(TestTag.create("tagged"));
+	}
+
 	static class MyTestCase {
 		@TestTemplate
 		@ResourceLock("a")
+		@Tag("tagged")
 		void testTemplate() {
 		}
 	}
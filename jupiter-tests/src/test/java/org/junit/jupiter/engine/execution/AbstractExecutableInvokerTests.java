@@ -12,16 +12,20 @@ package org.junit.jupiter.engine.execution;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
-import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.ParameterResolutionUtilsTests.ConfigurableParameterResolver;
 import org.junit.jupiter.engine.execution.ParameterResolutionUtilsTests.ConstructorInjectionTestCase;
@@ -31,6 +35,7 @@ import org.junit.jupiter.engine.execution.ParameterResolutionUtilsTests.StringPa
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
 import org.junit.platform.commons.support.ReflectionSupport;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 
 /**
  * @since 5.9
@@ -50,6 +55,14 @@ abstract class AbstractExecutableInvokerTests {
 	protected final MutableExtensionRegistry extensionRegistry = MutableExtensionRegistry.createRegistryWithDefaultExtensions(
 		configuration);
 
+	@BeforeEach
+	void stubStoreOfExtensionContext() {
+		// used by the default TimeoutExtension
+		var store = new NamespaceAwareStore(new NamespacedHierarchicalStore<>(null), Namespace.GLOBAL);
+		when(extensionContext.getRoot()).thenReturn(extensionContext);
+		when(extensionContext.getStore(any())).thenReturn(store);
+	}
+
 	@Test
 	void constructorInjection() {
 		register(new StringParameterResolver(), new NumberParameterResolver());
@@ -89,9 +102,9 @@ abstract class AbstractExecutableInvokerTests {
 			String.class).orElseThrow();
 	}
 
-	private void register(ParameterResolver... resolvers) {
-		for (ParameterResolver resolver : resolvers) {
-			extensionRegistry.registerExtension(resolver, this);
+	protected void register(Extension... extensions) {
+		for (Extension extension : extensions) {
+			extensionRegistry.registerExtension(extension, this);
 		}
 	}
 
@@ -11,12 +11,22 @@
 package org.junit.jupiter.engine.execution;
 
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 import org.junit.jupiter.engine.execution.InterceptingExecutableInvoker.ReflectiveInterceptorCall;
+import org.junit.platform.commons.support.ReflectionSupport;
 
 /**
  * Unit tests for {@link InterceptingExecutableInvoker}.
@@ -37,6 +47,45 @@ class InterceptingExecutableInvokerTests extends AbstractExecutableInvokerTests
 			passthroughInterceptor());
 	}
 
+	@Test
+	void invokesMethodDirectlyIfNoInterceptorRequiresInterception() {
+		var testMethod = noParameterMethod();
+		register(new NotRequiringInterceptionInterceptor());
+		List<InvocationInterceptor> calledInterceptors = new ArrayList<>();
+
+		newInvoker().invokeVoid(testMethod, this.instance, this.extensionContext, this.extensionRegistry,
+			(interceptor, invocation, invocationContext, extensionContext) -> {
+				calledInterceptors.add(interceptor);
+				invocation.proceed();
+			});
+
+		verify(instance).noParameter();
+		assertThat(calledInterceptors).isEmpty();
+	}
+
+	@Test
+	void invokesAllInterceptorsIfAnyRequiresInterception() {
+		var testMethod = noParameterMethod();
+		var conditionalInterceptor = new NotRequiringInterceptionInterceptor();
+		var interceptor = new InvocationInterceptor() {
+		};
+		register(conditionalInterceptor, interceptor);
+		List<InvocationInterceptor> calledInterceptors = new ArrayList<>();
+
+		newInvoker().invokeVoid(testMethod, this.instance, this.extensionContext, this.extensionRegistry,
+			(currentInterceptor, invocation, invocationContext, extensionContext) -> {
+				calledInterceptors.add(currentInterceptor);
+				invocation.proceed();
+			});
+
+		verify(instance).noParameter();
+		assertThat(calledInterceptors).contains(conditionalInterceptor, interceptor);
+	}
+
+	private Method noParameterMethod() {
+		return ReflectionSupport.findMethod(this.instance.getClass(), "noParameter").orElseThrow();
+	}
+
 	private InterceptingExecutableInvoker newInvoker() {
 		return new InterceptingExecutableInvoker();
 	}
@@ -45,4 +94,13 @@ class InterceptingExecutableInvokerTests extends AbstractExecutableInvokerTests
 		return (interceptor, invocation, invocationContext, extensionContext) -> invocation.proceed();
 	}
 
+	static class NotRequiringInterceptionInterceptor implements ConditionalInvocationInterceptor {
+
+		@Override
+		public boolean isInterceptionRequired(ReflectiveInvocationContext<? extends Executable> invocationContext,
+				ExtensionContext extensionContext) {
+			return false;
+		}
+	}
+
 }
@@ -12,6 +12,9 @@ package org.junit.jupiter.engine.extension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryFrom;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryWithDefaultExtensions;
@@ -213,6 +216,34 @@ class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	@Test
+	void reusesUnmodifiableExtensionsUntilAnotherExtensionIsRegistered() {
+		registry.registerExtension(MyExtension.class);
+
+		List<MyExtensionApi> extensions = registry.getUnmodifiableExtensions(MyExtensionApi.class);
+		assertSame(extensions, registry.getUnmodifiableExtensions(MyExtensionApi.class));
+		assertThrows(UnsupportedOperationException.class, () -> extensions.add(new YourExtension()));
+
+		registry.registerExtension(YourExtension.class);
+
+		List<MyExtensionApi> updatedExtensions = registry.getUnmodifiableExtensions(MyExtensionApi.class);
+		assertNotSame(extensions, updatedExtensions);
+		assertEquals(2, updatedExtensions.size());
+		assertEquals(1, extensions.size());
+	}
+
+	@Test
+	void includesLateInitExtensionsOnceInitialized() throws Exception {
+		registry.registerUninitializedExtension(TestClassWithExtensionField.class,
+			TestClassWithExtensionField.class.getDeclaredField("extension"),
+			testInstance -> ((TestClassWithExtensionField) testInstance).extension);
+		assertExtensionNotRegistered(registry, MyExtensionApi.class);
+
+		registry.initializeExtensions(TestClassWithExtensionField.class, new TestClassWithExtensionField());
+
+		assertExtensionRegistered(registry, MyExtensionApi.class);
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
@@ -279,6 +310,11 @@ class ExtensionRegistryTests {
 		}
 	}
 
+	static class TestClassWithExtensionField {
+
+		final MyExtension extension = new MyExtension();
+	}
+
 	static class MultipleExtension implements MyExtensionApi, AnotherExtensionApi {
 
 		@Override
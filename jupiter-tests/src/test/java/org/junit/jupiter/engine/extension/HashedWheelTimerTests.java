@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.2
+ */
+class HashedWheelTimerTests {
+
+	@AutoClose
+	final HashedWheelTimer timer = new HashedWheelTimer("timer", Duration.ofMillis(1), 8);
+
+	@Test
+	void executesTaskAfterDelay() throws Exception {
+		var latch = new CountDownLatch(1);
+		long start = System.nanoTime();
+
+		timer.schedule(latch::countDown, 20, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(20));
+	}
+
+	@Test
+	void executesTasksWithDelaysExceedingOneRevolutionOfTheWheel() throws Exception {
+		var latch = new CountDownLatch(3);
+
+		timer.schedule(latch::countDown, 0, MILLISECONDS);
+		timer.schedule(latch::countDown, 9, MILLISECONDS);
+		timer.schedule(latch::countDown, 30, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+	}
+
+	@Test
+	void doesNotExecuteCancelledTask() throws Exception {
+		var executed = new AtomicBoolean();
+
+		var scheduledTask = timer.schedule(() -> executed.set(true), 10, MILLISECONDS);
+
+		assertThat(scheduledTask.cancel()).isTrue();
+		assertThat(scheduledTask.cancel()).isFalse();
+		Thread.sleep(50);
+		assertThat(executed).isFalse();
+	}
+
+	@Test
+	void cancelWaitsForRunningTaskToComplete() throws Exception {
+		var started = new CountDownLatch(1);
+		var completed = new AtomicBoolean();
+
+		var scheduledTask = timer.schedule(() -> {
+			started.countDown();
+			sleep(50);
+			completed.set(true);
+		}, 0, MILLISECONDS);
+
+		assertThat(started.await(5, SECONDS)).isTrue();
+		assertThat(scheduledTask.cancel()).isFalse();
+		assertThat(completed).isTrue();
+	}
+
+	@Test
+	void parksWorkerThreadWhileNoTasksAreScheduled() throws Exception {
+		try (var idleTimer = new HashedWheelTimer("idle-timer", Duration.ofMillis(1), 8)) {
+			var worker = Thread.getAllStackTraces().keySet().stream() //
+					.filter(thread -> thread.getName().equals("idle-timer")) //
+					.findFirst().orElseThrow();
+
+			awaitState(worker, Thread.State.WAITING);
+
+			idleTimer.schedule(() -> {
+			}, 1, HOURS).cancel();
+
+			awaitState(worker, Thread.State.WAITING);
+		}
+	}
+
+	@Test
+	void executesTasksScheduledAfterBeingIdleForMoreThanOneRevolutionOfTheWheel() throws Exception {
+		var latch = new CountDownLatch(2);
+
+		Thread.sleep(50);
+		timer.schedule(latch::countDown, 0, MILLISECONDS);
+		timer.schedule(latch::countDown, 10, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+	}
+
+	@Test
+	void continuesExecutingTasksAfterTaskFailed() throws Exception {
+		var latch = new CountDownLatch(1);
+
+		timer.schedule(() -> {
+			throw new IllegalStateException("boom");
+		}, 0, MILLISECONDS);
+		timer.schedule(latch::countDown, 5, MILLISECONDS);
+
+		assertThat(latch.await(5, SECONDS)).isTrue();
+	}
+
+	@Test
+	void cancelsManyTasksScheduledConcurrently() throws Exception {
+		var executions = new AtomicInteger();
+		var cancellations = new AtomicInteger();
+		var threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 1_000; j++) {
+					if (timer.schedule(executions::incrementAndGet, 1, HOURS).cancel()) {
+						cancellations.incrementAndGet();
+					}
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertThat(cancellations).hasValue(4_000);
+		assertThat(executions).hasValue(0);
+	}
+
+	@Test
+	void rejectsSchedulingAfterClose() throws Exception {
+		timer.close();
+
+		assertPreconditionViolationFor(() -> timer.schedule(() -> {
+		}, 1, MILLISECONDS)).withMessage("timer has been closed");
+	}
+
+	@Test
+	void rejectsInvalidWheelSize() {
+		assertPreconditionViolationFor(() -> new HashedWheelTimer("timer", Duration.ofMillis(1), 3)) //
+				.withMessage("wheelSize must be a power of two");
+	}
+
+	private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+		long deadline = System.nanoTime() + SECONDS.toNanos(5);
+		while (thread.getState() != state && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertThat(thread.getState()).isEqualTo(state);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
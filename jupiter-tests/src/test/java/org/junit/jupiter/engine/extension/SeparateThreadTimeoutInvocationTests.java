@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Timeout.ThreadMode;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.engine.execution.NamespaceAwareStore;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.SeparateThreadExecutorServiceType;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 
@@ -59,6 +60,39 @@ class SeparateThreadTimeoutInvocationTests {
 		assertThat(invocationThreadName).isNotEqualTo(Thread.currentThread().getName());
 	}
 
+	@Test
+	@DisplayName("executes each invocation in a new thread by default")
+	void runsEachInvocationUsingNewThreadByDefault() throws Throwable {
+		var threadLocal = new ThreadLocal<String>();
+
+		var firstThread = aSeparateThreadInvocation(() -> {
+			threadLocal.set("first invocation");
+			return Thread.currentThread();
+		}).proceed();
+		var secondThread = aSeparateThreadInvocation(Thread::currentThread).proceed();
+		var value = aSeparateThreadInvocation(threadLocal::get).proceed();
+
+		assertThat(secondThread).isNotSameAs(firstThread);
+		assertThat(value).isNull();
+	}
+
+	@Test
+	@DisplayName("executes invocation in a daemon thread of a pool")
+	void runsInvocationUsingDaemonThreadOfPool() throws Throwable {
+		var thread = aSeparateThreadInvocation(SeparateThreadExecutorServiceType.THREAD_POOL, Thread::currentThread) //
+				.proceed();
+		assertThat(thread.getName()).startsWith("junit-jupiter-timeout-worker-");
+		assertThat(thread.isDaemon()).isTrue();
+	}
+
+	@Test
+	@DisplayName("executes invocation in a virtual thread")
+	void runsInvocationUsingVirtualThread() throws Throwable {
+		var invocation = aSeparateThreadInvocation(SeparateThreadExecutorServiceType.VIRTUAL_THREADS,
+			() -> Thread.currentThread().isVirtual());
+		assertThat(invocation.proceed()).isTrue();
+	}
+
 	@Test
 	@DisplayName("throws invocation exception")
 	void shouldThrowInvocationException() {
@@ -72,13 +106,18 @@ class SeparateThreadTimeoutInvocationTests {
 
 	private static <T extends @Nullable Object> SeparateThreadTimeoutInvocation<T> aSeparateThreadInvocation(
 			Invocation<T> invocation) {
+		return aSeparateThreadInvocation(SeparateThreadExecutorServiceType.THREAD_PER_INVOCATION, invocation);
+	}
+
+	private static <T extends @Nullable Object> SeparateThreadTimeoutInvocation<T> aSeparateThreadInvocation(
+			SeparateThreadExecutorServiceType executorServiceType, Invocation<T> invocation) {
 		var namespace = ExtensionContext.Namespace.create(SeparateThreadTimeoutInvocationTests.class);
 		var store = new NamespaceAwareStore(new NamespacedHierarchicalStore<>(null),
 			Namespace.create(namespace.getParts()));
 		var parameters = new TimeoutInvocationParameters<>(invocation,
 			new TimeoutDuration(PREEMPTIVE_TIMEOUT_MILLIS, MILLISECONDS), () -> "method()",
 			PreInterruptCallbackInvocation.NOOP, false);
-		return (SeparateThreadTimeoutInvocation<T>) new TimeoutInvocationFactory(store) //
+		return (SeparateThreadTimeoutInvocation<T>) new TimeoutInvocationFactory(store, executorServiceType) //
 				.create(ThreadMode.SEPARATE_THREAD, parameters);
 	}
 }
@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Constants.DEFAULT_TEST_METHOD_TIMEOUT_PROPER
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_TEMPLATE_METHOD_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TIMEOUT_THREAD_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.TIMEOUT_SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Timeout.TIMEOUT_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Timeout.ThreadMode.SEPARATE_THREAD;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +46,7 @@ import java.util.logging.LogRecord;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.SeparateThreadExecutorServiceType;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.platform.commons.logging.LogRecordListener;
@@ -92,6 +94,19 @@ class TimeoutConfigurationTests {
 		assertThat(config.getDefaultTimeoutThreadMode()).isEmpty();
 	}
 
+	@Test
+	void noDefaultTimeoutConfiguredIfNoPropertiesAreSet() {
+		assertThat(config.isDefaultTimeoutConfigured()).isFalse();
+	}
+
+	@Test
+	void defaultTimeoutConfiguredIfAnySpecificTimeoutIsSet() {
+		when(extensionContext.getConfigurationParameter(DEFAULT_AFTER_ALL_METHOD_TIMEOUT_PROPERTY_NAME)).thenReturn(
+			Optional.of("1s"));
+
+		assertThat(config.isDefaultTimeoutConfigured()).isTrue();
+	}
+
 	@Test
 	void defaultTimeoutIsUsedUnlessAMoreSpecificOneIsSet() {
 		when(extensionContext.getConfigurationParameter(DEFAULT_TIMEOUT_PROPERTY_NAME)).thenReturn(Optional.of("42"));
@@ -182,6 +197,22 @@ class TimeoutConfigurationTests {
 					"Invalid timeout thread mode 'INVALID' set via the 'junit.jupiter.execution.timeout.thread.mode.default' configuration parameter.");
 	}
 
+	@Test
+	void threadPerInvocationIsUsedForSeparateThreadByDefault() {
+		assertThat(config.getSeparateThreadExecutorServiceType()) //
+				.isEqualTo(SeparateThreadExecutorServiceType.THREAD_PER_INVOCATION);
+	}
+
+	@Test
+	void specificSeparateThreadExecutorServiceTypeIsUsed() {
+		when(extensionContext.getConfigurationParameter(eq(TIMEOUT_SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME),
+			any())) //
+				.thenAnswer(callConverter("virtual_threads"));
+
+		assertThat(config.getSeparateThreadExecutorServiceType()) //
+				.isEqualTo(SeparateThreadExecutorServiceType.VIRTUAL_THREADS);
+	}
+
 	@SuppressWarnings("unchecked")
 	private static Answer<?> callConverter(String value) {
 		return invocation -> Optional.ofNullable(invocation.getArgument(1, Function.class).apply(value));
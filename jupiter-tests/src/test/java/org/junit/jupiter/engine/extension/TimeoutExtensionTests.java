@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Constants.DEFAULT_TEST_FACTORY_METHOD_TIMEOU
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_TEMPLATE_METHOD_TIMEOUT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.TIMEOUT_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.TIMEOUT_SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.junit.jupiter.api.Timeout.ThreadMode.SAME_THREAD;
 import static org.junit.jupiter.api.Timeout.ThreadMode.SEPARATE_THREAD;
@@ -363,6 +364,24 @@ class TimeoutExtensionTests extends AbstractJupiterTestEngineTests {
 					.hasStackTraceContaining(TimeoutExceedingSeparateThreadTestCase.class.getName() + ".testMethod");
 		}
 
+		@Test
+		@DisplayName("timeout exceeded using virtual threads")
+		void timeoutExceededInSeparateVirtualThread() {
+			EngineExecutionResults results = executeTests(request() //
+					.selectors(selectClass(TimeoutExceedingSeparateThreadTestCase.class)) //
+					.configurationParameter(TIMEOUT_SEPARATE_THREAD_EXECUTOR_SERVICE_PROPERTY_NAME, "virtual_threads") //
+					.build());
+
+			Execution execution = findExecution(results.testEvents(), "testMethod()");
+			Throwable failure = execution.getTerminationInfo().getExecutionResult().getThrowable().orElseThrow();
+			assertThat(failure) //
+					.isInstanceOf(TimeoutException.class) //
+					.hasMessageStartingWith("testMethod() timed out after 100 milliseconds");
+			assertThat(failure.getCause()) //
+					.hasMessageStartingWith("Execution timed out in thread junit-jupiter-timeout-virtual-") //
+					.hasStackTraceContaining(TimeoutExceedingSeparateThreadTestCase.class.getName() + ".testMethod");
+		}
+
 		@Test
 		@DisplayName("non timeout exceeded")
 		void nonTimeoutExceededInSeparateThread() {
@@ -13,6 +13,7 @@ package org.junit.jupiter.engine.extension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +24,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.engine.execution.NamespaceAwareStore;
-import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.SingleThreadExecutorResource;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.SeparateThreadExecutorServiceType;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.ThreadPoolExecutorResource;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.TimerResource;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.VirtualThreadExecutorResource;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.mockito.Mock;
@@ -90,7 +94,7 @@ class TimeoutInvocationFactoryTests {
 	void shouldCreateTimeoutInvocationForSameThreadTimeoutThreadMode() {
 		var invocation = timeoutInvocationFactory.create(ThreadMode.SAME_THREAD, parameters);
 		assertThat(invocation).isInstanceOf(SameThreadTimeoutInvocation.class);
-		verify(store).computeIfAbsent(SingleThreadExecutorResource.class);
+		verify(store).computeIfAbsent(TimerResource.class);
 	}
 
 	@Test
@@ -98,6 +102,27 @@ class TimeoutInvocationFactoryTests {
 	void shouldCreateTimeoutInvocationForSeparateThreadTimeoutThreadMode() {
 		var invocation = timeoutInvocationFactory.create(ThreadMode.SEPARATE_THREAD, parameters);
 		assertThat(invocation).isInstanceOf(SeparateThreadTimeoutInvocation.class);
+		verifyNoInteractions(store);
+	}
+
+	@SuppressWarnings("resource")
+	@Test
+	@DisplayName("creates timeout invocation for SEPARATE_THREAD thread mode using a thread pool")
+	void shouldCreateTimeoutInvocationForSeparateThreadTimeoutThreadModeUsingThreadPool() {
+		var invocation = new TimeoutInvocationFactory(store, SeparateThreadExecutorServiceType.THREAD_POOL) //
+				.create(ThreadMode.SEPARATE_THREAD, parameters);
+		assertThat(invocation).isInstanceOf(SeparateThreadTimeoutInvocation.class);
+		verify(store).computeIfAbsent(ThreadPoolExecutorResource.class);
+	}
+
+	@SuppressWarnings("resource")
+	@Test
+	@DisplayName("creates timeout invocation for SEPARATE_THREAD thread mode using virtual threads")
+	void shouldCreateTimeoutInvocationForSeparateThreadTimeoutThreadModeUsingVirtualThreads() {
+		var invocation = new TimeoutInvocationFactory(store, SeparateThreadExecutorServiceType.VIRTUAL_THREADS) //
+				.create(ThreadMode.SEPARATE_THREAD, parameters);
+		assertThat(invocation).isInstanceOf(SeparateThreadTimeoutInvocation.class);
+		verify(store).computeIfAbsent(VirtualThreadExecutorResource.class);
 	}
 
 }
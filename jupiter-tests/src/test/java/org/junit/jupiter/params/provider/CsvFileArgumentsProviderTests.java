@@ -12,12 +12,15 @@ package org.junit.jupiter.params.provider;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.CsvArgumentsProviderTests.isCsvParseException;
 import static org.junit.jupiter.params.provider.MockCsvAnnotationBuilder.csvFileSource;
 import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
 import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationNotEmptyFor;
 import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationNotNullOrBlankFor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -32,10 +35,13 @@ import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileArgumentsProvider.InputStreamProvider;
+import org.junit.jupiter.params.provider.CsvFileArgumentsProvider.Source;
 import org.junit.jupiter.params.support.ParameterNameAndArgument;
 import org.junit.platform.commons.JUnitException;
 
@@ -225,6 +231,57 @@ class CsvFileArgumentsProviderTests {
 		assertThat(arguments).containsExactly(array("foo"), array("bar"), array("baz"), array("qux"), array(""));
 	}
 
+	@Test
+	@DisabledOnOs(value = WINDOWS, disabledReason = "Memory-mapped files are not used on Windows")
+	void readsFromMemoryMappedFileIfEnabled(@TempDir Path tempDir) throws Exception {
+		var csvFile = writeClasspathResourceToFile("single-column.csv", tempDir.resolve("single-column.csv"));
+		var annotation = csvFileSource()//
+				.encoding("ISO-8859-1")//
+				.files(csvFile.toAbsolutePath().toString())//
+				.build();
+
+		var provider = new CsvFileArgumentsProvider();
+		provider.accept(annotation);
+		var context = mock(ExtensionContext.class);
+		when(context.getConfigurationParameter(eq(CsvFileSource.MEMORY_MAPPED_FILES_PROPERTY_NAME), any())) //
+				.thenReturn(Optional.of(true));
+		var arguments = provider.provideArguments(mock(), context).map(Arguments::get);
+
+		assertThat(arguments).containsExactly(array("foo"), array("bar"), array("baz"), array("qux"), array(""));
+	}
+
+	@Test
+	@EnabledOnOs(WINDOWS)
+	void readsFromInputStreamOnWindowsEvenIfMemoryMappedFilesAreEnabled() {
+		var annotation = csvFileSource()//
+				.files("single-column.csv")//
+				.build();
+
+		var provider = new CsvFileArgumentsProvider(new InputStreamProvider() {
+			@Override
+			public InputStream openClasspathResource(Class<?> baseClass, String path) {
+				throw new AssertionError("unexpected classpath resource: " + path);
+			}
+
+			@Override
+			public InputStream openFile(String path) {
+				return new ByteArrayInputStream("foo\nbar".getBytes(UTF_8));
+			}
+
+			@Override
+			public Source memoryMappedFile(String path) {
+				throw new AssertionError("unexpected memory-mapped file: " + path);
+			}
+		});
+		provider.accept(annotation);
+		var context = mock(ExtensionContext.class);
+		when(context.getConfigurationParameter(eq(CsvFileSource.MEMORY_MAPPED_FILES_PROPERTY_NAME), any())) //
+				.thenReturn(Optional.of(true));
+		var arguments = provider.provideArguments(mock(), context).map(Arguments::get);
+
+		assertThat(arguments).containsExactly(array("foo"), array("bar"));
+	}
+
 	@Test
 	void readsFromClasspathResourcesAndFiles(@TempDir Path tempDir) throws Exception {
 		var csvFile = writeClasspathResourceToFile("single-column.csv", tempDir.resolve("single-column.csv"));
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.condition.OS.WINDOWS;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * @since 6.2
+ */
+@DisabledOnOs(value = WINDOWS, disabledReason = "Mapped files remain locked until garbage collected")
+class MemoryMappedFileReaderTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void readsEmptyFile() throws Exception {
+		var file = Files.writeString(tempDir.resolve("empty.csv"), "");
+
+		assertThat(readFully(file, UTF_8, MemoryMappedFileReader.DEFAULT_WINDOW_SIZE)).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = { 16, 17, 31, 64, MemoryMappedFileReader.DEFAULT_WINDOW_SIZE })
+	void decodesCharactersSpanningWindowBoundaries(long windowSize) throws Exception {
+		var content = "äöü, ß€\n𝄞 foo, bar\n".repeat(100);
+		var file = Files.writeString(tempDir.resolve("test.csv"), content, UTF_8);
+
+		assertThat(readFully(file, UTF_8, windowSize)).isEqualTo(content);
+	}
+
+	@Test
+	void decodesUsingSuppliedCharset() throws Exception {
+		var content = "äöü, ß\n";
+		var file = Files.writeString(tempDir.resolve("test.csv"), content, ISO_8859_1);
+
+		assertThat(readFully(file, ISO_8859_1, MemoryMappedFileReader.DEFAULT_WINDOW_SIZE)).isEqualTo(content);
+	}
+
+	@Test
+	void replacesMalformedInput() throws Exception {
+		var file = Files.write(tempDir.resolve("test.csv"), new byte[] { 'a', (byte) 0xFF, 'b' });
+
+		assertThat(readFully(file, UTF_8, MemoryMappedFileReader.DEFAULT_WINDOW_SIZE)).isEqualTo("a\uFFFDb");
+	}
+
+	@Test
+	void readsAllCharactersWrittenWhenFlushingDecoder() throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), "foo, bar\n", ISO_8859_1);
+		var charset = new TrailerAppendingCharset("baz, qux\n".repeat(2_000));
+
+		assertThat(readFully(file, charset, MemoryMappedFileReader.DEFAULT_WINDOW_SIZE)) //
+				.isEqualTo("foo, bar\n" + "baz, qux\n".repeat(2_000));
+	}
+
+	@Test
+	void supportsReadingSingleCharacters() throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), "a𝄞", UTF_8);
+
+		try (var reader = MemoryMappedFileReader.open(file, UTF_8)) {
+			var result = new StringBuilder();
+			int c;
+			while ((c = reader.read()) != -1) {
+				result.append((char) c);
+			}
+			assertThat(result).hasToString("a𝄞");
+		}
+	}
+
+	@Test
+	void cannotBeReadAfterClosing() throws Exception {
+		var file = Files.writeString(tempDir.resolve("test.csv"), "foo");
+
+		var reader = MemoryMappedFileReader.open(file, UTF_8);
+		reader.close();
+
+		assertThatThrownBy(reader::read).isInstanceOf(IOException.class).hasMessage("Stream closed");
+	}
+
+	@Test
+	void rejectsTooSmallWindowSize() {
+		var file = tempDir.resolve("test.csv");
+
+		assertThatThrownBy(() -> MemoryMappedFileReader.open(file, UTF_8, 15)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("windowSize must be greater than or equal to 16");
+	}
+
+	/**
+	 * Decodes bytes as ISO-8859-1 and writes a trailer when the decoder is
+	 * flushed, which may exceed the capacity of the reader's buffer.
+	 */
+	private static class TrailerAppendingCharset extends Charset {
+
+		private final String trailer;
+
+		TrailerAppendingCharset(String trailer) {
+			super("X-JUNIT-TRAILER-APPENDING", null);
+			this.trailer = trailer;
+		}
+
+		@Override
+		public boolean contains(Charset cs) {
+			return false;
+		}
+
+		@Override
+		public CharsetDecoder newDecoder() {
+			return new CharsetDecoder(this, 1, 1) {
+
+				private int flushed;
+
+				@Override
+				protected CoderResult decodeLoop(ByteBuffer in, CharBuffer out) {
+					while (in.hasRemaining()) {
+						if (!out.hasRemaining()) {
+							return CoderResult.OVERFLOW;
+						}
+						out.put((char) (in.get() & 0xFF));
+					}
+					return CoderResult.UNDERFLOW;
+				}
+
+				@Override
+				protected CoderResult implFlush(CharBuffer out) {
+					int count = Math.min(out.remaining(), trailer.length() - flushed);
+					out.put(trailer, flushed, flushed + count);
+					flushed += count;
+					return flushed < trailer.length() ? CoderResult.OVERFLOW : CoderResult.UNDERFLOW;
+				}
+			};
+		}
+
+		@Override
+		public CharsetEncoder newEncoder() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static String readFully(Path file, Charset charset, long windowSize) throws IOException {
+		try (Reader reader = MemoryMappedFileReader.open(file, charset, windowSize)) {
+			var writer = new StringWriter();
+			reader.transferTo(writer);
+			return writer.toString();
+		}
+	}
+
+}
@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
+import static org.junit.platform.commons.util.AnnotationLookupCache.Lookup.ANNOTATION;
 import static org.junit.platform.commons.util.AnnotationUtils.findAnnotatedFields;
 import static org.junit.platform.commons.util.AnnotationUtils.findAnnotatedMethods;
 import static org.junit.platform.commons.util.AnnotationUtils.findAnnotation;
@@ -45,6 +46,7 @@ import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.test.TestClassLoader;
 import org.junit.platform.commons.util.pkg1.ClassLevelDir;
 import org.junit.platform.commons.util.pkg1.InstanceLevelDir;
 import org.junit.platform.commons.util.pkg1.SuperclassWithStaticPackagePrivateBeforeMethod;
@@ -106,6 +108,29 @@ class AnnotationUtilsTests {
 		assertThat(findAnnotation(Annotation1Class.class, Annotation1.class)).isPresent();
 	}
 
+	@Test
+	void findAnnotationReturnsCachedResultForSubsequentLookups() {
+		var first = findAnnotation(SubInheritedAnnotationClass.class, InheritedAnnotation.class);
+		var second = findAnnotation(SubInheritedAnnotationClass.class, InheritedAnnotation.class);
+
+		assertThat(first).isPresent();
+		assertThat(second).isSameAs(first);
+		assertThat(findAnnotation(SubInheritedAnnotationClass.class, Annotation1.class)).isNotPresent();
+	}
+
+	@Test
+	void findAnnotationDoesNotCacheResultsForAnnotationTypesLoadedByChildClassLoader() throws Exception {
+		try (var testClassLoader = TestClassLoader.forClasses(Annotation1.class)) {
+			var annotationType = testClassLoader.loadClass(Annotation1.class.getName()).asSubclass(Annotation.class);
+
+			assertThat(findAnnotation(Annotation1Class.class, annotationType)).isNotPresent();
+			assertFalse(AnnotationLookupCache.isCached(Annotation1Class.class, annotationType, ANNOTATION));
+		}
+
+		assertThat(findAnnotation(Annotation1Class.class, Annotation1.class)).isPresent();
+		assertTrue(AnnotationLookupCache.isCached(Annotation1Class.class, Annotation1.class, ANNOTATION));
+	}
+
 	@Test
 	void findAnnotationMetaPresentOnClass() {
 		assertThat(findAnnotation(ComposedAnnotationClass.class, Annotation1.class)).isPresent();
@@ -269,6 +294,15 @@ class AnnotationUtilsTests {
 		assertTagsFound(ContainerAfterComposedTaggedClass.class, "fast", "a", "b", "c");
 	}
 
+	@Test
+	void findRepeatableAnnotationsReturnsCachedResultForSubsequentLookups() {
+		var first = findRepeatableAnnotations(MultiTaggedClass.class, Tag.class);
+		var second = findRepeatableAnnotations(MultiTaggedClass.class, Tag.class);
+
+		assertThat(second).isSameAs(first);
+		assertThat(findRepeatableAnnotations(ContainerTaggedClass.class, Tag.class)).isNotSameAs(first);
+	}
+
 	private void assertTagsFound(Class<?> clazz, String... tags) {
 		assertEquals(List.of(tags), findRepeatableAnnotations(clazz, Tag.class).stream().map(Tag::value).toList(),
 			() -> "Tags found for class " + clazz.getName());
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.2
+ */
+class ConcurrentLruCacheTests {
+
+	@Test
+	void computesValueOnlyIfAbsent() {
+		var cache = new ConcurrentLruCache<String, Integer>(8);
+		var invocations = new AtomicInteger();
+
+		assertThat(cache.computeIfAbsent("a", key -> invocations.incrementAndGet())).isEqualTo(1);
+		assertThat(cache.computeIfAbsent("a", key -> invocations.incrementAndGet())).isEqualTo(1);
+
+		assertThat(invocations).hasValue(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntriesWhenMaxSizeIsExceeded() {
+		var cache = new ConcurrentLruCache<Integer, Integer>(8);
+		for (int i = 0; i < 8; i++) {
+			cache.put(i, i);
+		}
+		cache.get(0);
+
+		cache.put(8, 8);
+
+		assertThat(cache.size()).isEqualTo(7);
+		assertThat(cache.getEvictionCount()).isEqualTo(2);
+		assertThat(cache.get(0)).isEqualTo(0);
+		assertThat(cache.get(1)).isNull();
+		assertThat(cache.get(2)).isNull();
+		assertThat(cache.get(8)).isEqualTo(8);
+	}
+
+	@Test
+	void evictsEldestEntryOfSingleEntryCache() {
+		var cache = new ConcurrentLruCache<Integer, Integer>(1);
+
+		cache.put(0, 0);
+		cache.put(1, 1);
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get(0)).isNull();
+		assertThat(cache.get(1)).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsInvalidMaxSize() {
+		assertPreconditionViolationFor(() -> new ConcurrentLruCache<>(0)) //
+				.withMessage("maxSize must be greater than zero");
+	}
+
+	@Test
+	void rejectsNullValuesComputedByMappingFunction() {
+		var cache = new ConcurrentLruCache<String, String>(1);
+
+		assertPreconditionViolationFor(() -> cache.computeIfAbsent("a", key -> null)) //
+				.withMessage("mappingFunction must not return null");
+		assertThat(cache.size()).isZero();
+	}
+
+}
@@ -13,6 +13,7 @@ package org.junit.platform.commons.util;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -32,6 +33,7 @@ import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
@@ -276,6 +278,31 @@ class DefaultClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void scanForResourcesInPackageWithinMultipleRootsInParallelPreservesOrderOfRoots() throws Exception {
+		var jarFile = requireNonNull(getClass().getResource("/jartest.jar"));
+		var shadowedJarFile = requireNonNull(getClass().getResource("/jartest-shadowed.jar"));
+
+		try (var classLoader = new URLClassLoader(new URL[] { jarFile, shadowedJarFile }, null)) {
+			var sequentialScanner = new DefaultClasspathScanner(() -> classLoader, ReflectionUtils::tryToLoadClass,
+				null, null, 1);
+			var parallelScanner = new DefaultClasspathScanner(() -> classLoader, ReflectionUtils::tryToLoadClass,
+				null, null, 4);
+
+			var expectedResources = sequentialScanner.scanForResourcesInPackage(
+				"org.junit.platform.jartest.included", allResources);
+			var resources = parallelScanner.scanForResourcesInPackage("org.junit.platform.jartest.included",
+				allResources);
+			var expectedClasses = sequentialScanner.scanForClassesInPackage("org.junit.platform.jartest.included",
+				allClasses);
+			var classes = parallelScanner.scanForClassesInPackage("org.junit.platform.jartest.included", allClasses);
+
+			assertThat(resources).extracting(Resource::getUri) //
+					.containsExactlyElementsOf(expectedResources.stream().map(Resource::getUri).toList());
+			assertThat(classes).containsExactlyElementsOf(expectedClasses);
+		}
+	}
+
 	private static String jarFileAndEntry(URI uri) {
 		var uriString = uri.toString();
 		int lastJarUriSeparator = uriString.lastIndexOf("!/");
@@ -578,6 +605,160 @@ class DefaultClasspathScannerTests {
 		assertThat(loadedClasses).containsExactly(DefaultClasspathScannerTests.class);
 	}
 
+	@Test
+	void scanForClassesInClasspathRootUsesClasspathIndexForUnchangedDirectory(@TempDir Path tempDir)
+			throws Exception {
+		var root = Files.createDirectories(tempDir.resolve("root"));
+		var packageDir = Files.createDirectories(root.resolve("a/b"));
+		Files.createFile(packageDir.resolve("First.class"));
+		Files.createFile(packageDir.resolve("Second.class"));
+		var scanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader, trackingClassLoader,
+			new ClasspathIndex(tempDir.resolve("index")), null);
+
+		assertThat(scanClassNames(scanner, root.toUri())).containsExactlyInAnyOrder("a.b.First", "a.b.Second");
+		assertThat(tempDir.resolve("index")).isDirectoryContaining("glob:**.idx");
+
+		var lastModified = Files.getLastModifiedTime(packageDir);
+		Files.delete(packageDir.resolve("Second.class"));
+		Files.setLastModifiedTime(packageDir, lastModified);
+
+		assertThat(scanClassNames(scanner, root.toUri())).containsExactlyInAnyOrder("a.b.First", "a.b.Second");
+	}
+
+	@Test
+	void scanForClassesInClasspathRootRescansDirectoryWhenChangedSinceIndexed(@TempDir Path tempDir)
+			throws Exception {
+		var root = Files.createDirectories(tempDir.resolve("root"));
+		var packageDir = Files.createDirectories(root.resolve("a/b"));
+		Files.createFile(packageDir.resolve("First.class"));
+		var scanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader, trackingClassLoader,
+			new ClasspathIndex(tempDir.resolve("index")), null);
+
+		assertThat(scanClassNames(scanner, root.toUri())).containsExactly("a.b.First");
+
+		var lastModified = Files.getLastModifiedTime(packageDir);
+		Files.createFile(Files.createDirectories(packageDir.resolve("c")).resolve("Third.class"));
+		Files.setLastModifiedTime(packageDir, FileTime.fromMillis(lastModified.toMillis() + 1000));
+
+		assertThat(scanClassNames(scanner, root.toUri())).containsExactlyInAnyOrder("a.b.First", "a.b.c.Third");
+	}
+
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileUsesClasspathIndexUntilJarFileChanges(@TempDir Path tempDir)
+			throws Exception {
+		var jarFile = tempDir.resolve("jartest.jar");
+		try (var inputStream = requireNonNull(getClass().getResourceAsStream("/jartest.jar"))) {
+			Files.copy(inputStream, jarFile);
+		}
+		var scanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader, trackingClassLoader,
+			new ClasspathIndex(tempDir.resolve("index")), null);
+
+		var expectedClassNames = List.of("org.junit.platform.jartest.notincluded.NotIncluded",
+			"org.junit.platform.jartest.included.recursive.RecursivelyIncluded",
+			"org.junit.platform.jartest.included.Included");
+		assertThat(scanClassNames(scanner, jarFile.toUri())).containsExactlyInAnyOrderElementsOf(expectedClassNames);
+
+		try (var indexFiles = Files.list(tempDir.resolve("index"))) {
+			var indexFile = indexFiles.findFirst().orElseThrow();
+			var lines = Files.readAllLines(indexFile);
+			lines.removeIf(line -> line.endsWith("NotIncluded.class"));
+			Files.write(indexFile, lines);
+		}
+
+		assertThat(scanClassNames(scanner, jarFile.toUri())).containsExactlyInAnyOrder(
+			"org.junit.platform.jartest.included.recursive.RecursivelyIncluded",
+			"org.junit.platform.jartest.included.Included");
+
+		Files.setLastModifiedTime(jarFile,
+			FileTime.fromMillis(Files.getLastModifiedTime(jarFile).toMillis() + 1000));
+
+		assertThat(scanClassNames(scanner, jarFile.toUri())).containsExactlyInAnyOrderElementsOf(expectedClassNames);
+	}
+
+	@Test
+	void scanForClassesInClasspathRootOnlyLoadsCandidatesAcceptedByClassFilePreFilter() throws Exception {
+		var scanner = new DefaultClasspathScanner(ClassLoaderUtils::getDefaultClassLoader, trackingClassLoader, null,
+			new ClassFilePreFilter(ClassFilePreFilter.DEFAULT_MARKER_TYPES));
+		var classFilter = ClassFilter.of(name -> name.startsWith(DefaultClasspathScannerTests.class.getName()),
+			type -> true);
+
+		var classes = scanner.scanForClassesInClasspathRoot(getTestClasspathRoot(), classFilter);
+
+		assertThat(classes).contains(DefaultClasspathScannerTests.class);
+		assertThat(loadedClasses).doesNotContain(NestedClassToBeFound.class, MemberClassToBeFound.class);
+	}
+
+	@Test
+	void classFilePreFilterConsidersSubclassesAndEnclosingClassesOfTestClassesAsCandidates(@TempDir Path tempDir)
+			throws Exception {
+		var sourceFile = Files.createDirectories(tempDir.resolve("src/example")).resolve("Example.java");
+		Files.writeString(sourceFile, """
+				package example;
+
+				import org.junit.jupiter.api.Nested;
+				import org.junit.jupiter.api.RepeatedTest;
+
+				class Base { @RepeatedTest(2) void test() {} }
+				class Subclass extends Base {}
+				class Enclosing { @Nested class Inner {} static class Helper {} }
+				class Plain { String text = "Lorem ipsum;"; }
+				""");
+		var classesDir = tempDir.resolve("classes");
+		run("javac", "-d", classesDir.toString(), "-cp", System.getProperty("java.class.path"),
+			sourceFile.toString());
+
+		try (var classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() },
+			getClass().getClassLoader())) {
+			var session = new ClassFilePreFilter(ClassFilePreFilter.DEFAULT_MARKER_TYPES).newSession(classLoader);
+
+			assertTrue(session.isCandidate(null, "example.Base"));
+			assertTrue(session.isCandidate(null, "example.Subclass"));
+			assertTrue(session.isCandidate(null, "example.Enclosing"));
+			assertTrue(session.isCandidate(classesDir.resolve("example/Enclosing$Inner.class"),
+				"example.Enclosing$Inner"));
+			assertFalse(session.isCandidate(null, "example.Enclosing$Helper"));
+			assertFalse(session.isCandidate(classesDir.resolve("example/Plain.class"), "example.Plain"));
+		}
+	}
+
+	@Test
+	void classFilePreFilterConsidersSubtypesOfMarkerTypesAsCandidates(@TempDir Path tempDir) throws Exception {
+		var sourceFile = Files.createDirectories(tempDir.resolve("src/example")).resolve("Example.java");
+		Files.writeString(sourceFile, """
+				package example;
+
+				interface Marker {}
+				class TestCase implements Marker {}
+				class Subclass extends TestCase {}
+				class Plain {}
+				""");
+		var classesDir = tempDir.resolve("classes");
+		run("javac", "-d", classesDir.toString(), sourceFile.toString());
+
+		try (var classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() },
+			getClass().getClassLoader())) {
+			var session = new ClassFilePreFilter("example.Marker").newSession(classLoader);
+
+			assertTrue(session.isCandidate(classesDir.resolve("example/TestCase.class"), "example.TestCase"));
+			assertTrue(session.isCandidate(null, "example.Subclass"));
+			assertFalse(session.isCandidate(null, "example.Plain"));
+		}
+	}
+
+	@Test
+	void classFilePreFilterConsidersClassFilesThatCannotBeReadAsCandidates() {
+		var session = new ClassFilePreFilter(ClassFilePreFilter.DEFAULT_MARKER_TYPES).newSession(
+			getClass().getClassLoader());
+
+		assertTrue(session.isCandidate(null, "org.example.DoesNotExist"));
+	}
+
+	private static List<String> scanClassNames(DefaultClasspathScanner scanner, URI root) {
+		var classNames = new ArrayList<String>();
+		scanner.scanForClassesInClasspathRoot(root, ClassFilter.of(name -> !classNames.add(name), type -> true));
+		return classNames;
+	}
+
 	private static URI uriOf(String name) {
 		var resource = DefaultClasspathScannerTests.class.getResource(name);
 		try {
@@ -1580,6 +1580,23 @@ class ReflectionUtilsTests {
 						GrandparentInterface.class.getMethod("method2"), ParentClass.class.getMethod("method3"));
 		}
 
+		@SuppressWarnings("deprecation")
+		@Test
+		void findMethodsReturnsCopiesOfMethodsOfHierarchyForSubsequentSearches() throws Exception {
+			var topDown = findMethods(ChildClass.class, method -> true, TOP_DOWN);
+			topDown.forEach(method -> method.setAccessible(true));
+
+			var methods = findMethods(ChildClass.class, method -> true, TOP_DOWN);
+
+			assertThat(methods).containsExactlyElementsOf(topDown).noneMatch(Method::isAccessible);
+			assertThat(findMethods(ChildClass.class, method -> true, BOTTOM_UP))//
+					.containsExactlyInAnyOrderElementsOf(topDown)//
+					.noneMatch(Method::isAccessible);
+			assertThat(findMethod(ChildClass.class, "method4")).get()//
+					.isEqualTo(ChildClass.class.getMethod("method4"))//
+					.matches(method -> !method.isAccessible());
+		}
+
 		@Test
 		void findMethodsWithShadowingUsingHierarchyUpMode() throws Exception {
 			assertThat(findMethods(MethodShadowingChild.class, methodContains1, BOTTOM_UP))//
@@ -1938,6 +1955,17 @@ class ReflectionUtilsTests {
 			assertThat(fields).containsExactly(nonStaticField);
 		}
 
+		@SuppressWarnings("deprecation")
+		@Test
+		void findFieldsReturnsCopiesOfFieldsOfHierarchyForSubsequentSearches() {
+			var fields = findFields(ClassWithFields.class, f -> true, TOP_DOWN);
+			fields.forEach(field -> field.setAccessible(true));
+
+			assertThat(findFields(ClassWithFields.class, f -> true, TOP_DOWN))//
+					.containsExactlyElementsOf(fields)//
+					.noneMatch(Field::isAccessible);
+		}
+
 		@SuppressWarnings("DataFlowIssue")
 		@Test
 		void readFieldValuesPreconditions() {
@@ -236,6 +236,23 @@ class UniqueIdTests {
 			assertNotEquals(id2, id1);
 			assertNotEquals(id1, id2);
 		}
+
+		@Test
+		void appendedAndParsedUniqueIdsAreEqual() {
+			var id1 = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+			var id2 = UniqueId.parse(id1.toString());
+
+			assertEquals(id2, id1);
+			assertEquals(id1, id2);
+			assertEquals(id1.hashCode(), id2.hashCode());
+		}
+
+		@Test
+		void hashCodeMatchesHashCodeOfSegments() {
+			var id = UniqueId.forEngine(ENGINE_ID).append("t1", "v1").append("t2", "v2");
+
+			assertEquals(id.getSegments().hashCode(), id.hashCode());
+		}
 	}
 
 	@Nested
@@ -279,6 +296,18 @@ class UniqueIdTests {
 			assertFalse(id2.hasPrefix(id1));
 		}
 
+		@Test
+		void uniqueIdsThatDifferOnlyInLastSegmentAreNotPrefixesForEachOther() {
+			var parent = UniqueId.forEngine(ENGINE_ID).append("t1", "v1");
+			var id1 = parent.append("t2", "v2").append("t3", "v3");
+			var id2 = parent.append("t2", "other").append("t3", "v3");
+
+			assertFalse(id1.hasPrefix(id2));
+			assertFalse(id2.hasPrefix(id1));
+			assertFalse(id1.hasPrefix(parent.append("t2", "other")));
+			assertTrue(id1.hasPrefix(UniqueId.parse(parent.toString())));
+		}
+
 	}
 
 	@Nested
@@ -302,6 +331,17 @@ class UniqueIdTests {
 			assertEquals(uniqueId, newUniqueId);
 		}
 
+		@Test
+		void appendingSharesSegmentsOfParent() {
+			var parent = UniqueId.forEngine("foo").append("type", "bar");
+			var child = parent.append("type", "baz");
+
+			assertSame(parent, child.removeLastSegment());
+			assertSame(parent.getSegments().get(0), child.getSegments().get(0));
+			assertSame(parent.getLastSegment(), child.getSegments().get(1));
+			assertThat(child.getSegments()).extracting(Segment::getValue).containsExactly("foo", "bar", "baz");
+		}
+
 	}
 
 	@Nested
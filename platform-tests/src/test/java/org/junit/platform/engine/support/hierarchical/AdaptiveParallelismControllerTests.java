@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.support.hierarchical.AdaptiveParallelismController.Sample;
+
+/**
+ * @since 6.2
+ */
+class AdaptiveParallelismControllerTests {
+
+	final List<Integer> adjustments = new ArrayList<>();
+
+	@AutoClose
+	final AdaptiveParallelismController controller = new AdaptiveParallelismController(2, 16, 4,
+		() -> new Sample(4, 1, 3, 10), adjustments::add);
+
+	@Test
+	void increasesParallelismWhenWorkersAreBlockedAndTasksAreQueued() {
+		assertThat(controller.computeParallelism(new Sample(4, 1, 3, 10))).isEqualTo(7);
+		assertThat(controller.computeParallelism(new Sample(4, 1, 3, 2))).isEqualTo(6);
+	}
+
+	@Test
+	void keepsParallelismWhenProcessorsAreBusy() {
+		assertThat(controller.computeParallelism(new Sample(8, 4, 4, 10))).isEqualTo(8);
+	}
+
+	@Test
+	void keepsParallelismWhenNoTasksAreQueued() {
+		assertThat(controller.computeParallelism(new Sample(8, 1, 7, 0))).isEqualTo(8);
+	}
+
+	@Test
+	void decreasesParallelismTowardAvailableProcessorsWhenNoWorkersAreBlocked() {
+		assertThat(controller.computeParallelism(new Sample(12, 4, 0, 10))).isEqualTo(8);
+		assertThat(controller.computeParallelism(new Sample(5, 4, 0, 10))).isEqualTo(4);
+		assertThat(controller.computeParallelism(new Sample(4, 4, 0, 10))).isEqualTo(4);
+	}
+
+	@Test
+	void limitsParallelismToConfiguredBounds() {
+		assertThat(controller.computeParallelism(new Sample(15, 0, 15, 100))).isEqualTo(16);
+		assertThat(controller.computeParallelism(new Sample(1, 0, 0, 0))).isEqualTo(2);
+	}
+
+	@Test
+	void adjustsParallelismOnlyIfItChanged() {
+		controller.adjust();
+		assertThat(adjustments).containsExactly(7);
+
+		try (var unchanged = new AdaptiveParallelismController(1, 16, 4, () -> new Sample(4, 4, 0, 0),
+			adjustments::add)) {
+			unchanged.adjust();
+		}
+		assertThat(adjustments).containsExactly(7);
+	}
+
+}
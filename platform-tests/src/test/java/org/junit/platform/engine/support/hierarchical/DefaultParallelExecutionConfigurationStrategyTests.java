@@ -103,6 +103,45 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getSaturatePredicate().test(null)).isFalse();
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("1"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("1000"));
+		when(configParams.get("adaptive.sampling-interval")).thenReturn(Optional.of("100"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		var availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration).isInstanceOf(AdaptiveParallelExecutionConfiguration.class);
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors);
+		assertThat(configuration.getCorePoolSize()).isEqualTo(availableProcessors);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + 1000);
+		var adaptiveConfiguration = (AdaptiveParallelExecutionConfiguration) configuration;
+		assertThat(adaptiveConfiguration.getMinParallelism()).isEqualTo(1);
+		assertThat(adaptiveConfiguration.getMaxParallelism()).isEqualTo(1000);
+		assertThat(adaptiveConfiguration.getSamplingIntervalMillis()).isEqualTo(100);
+	}
+
+	@Test
+	void adaptiveStrategyLimitsInitialParallelismToMaxParallelism() {
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("1"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		var configuration = strategy.createConfiguration(configParams);
+
+		assertThat(configuration.getParallelism()).isEqualTo(1);
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaxParallelismIsLessThanMinParallelism() {
+		when(configParams.get("adaptive.min-parallelism")).thenReturn(Optional.of("4"));
+		when(configParams.get("adaptive.max-parallelism")).thenReturn(Optional.of("2"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
 	@Test
 	void customStrategyCreatesValidConfiguration() {
 		when(configParams.get("custom.class")).thenReturn(
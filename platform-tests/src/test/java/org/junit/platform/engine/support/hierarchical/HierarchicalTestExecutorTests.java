@@ -33,6 +33,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullMarked;
@@ -43,6 +44,7 @@ import org.junit.jupiter.api.function.ThrowingConsumer;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -91,6 +93,7 @@ class HierarchicalTestExecutorTests {
 		when(request.getRootTestDescriptor()).thenReturn(root);
 		when(request.getEngineExecutionListener()).thenReturn(listener);
 		when(request.getCancellationToken()).thenReturn(cancellationToken);
+		when(request.getConfigurationParameters()).thenReturn(mock(ConfigurationParameters.class));
 		return new HierarchicalTestExecutor<>(request, rootContext, executorService,
 			OpenTest4JAwareThrowableCollector::new);
 	}
@@ -560,6 +563,31 @@ class HierarchicalTestExecutorTests {
 		inOrder.verify(anotherListener).executionFinished(dynamicTestDescriptor, successful());
 	}
 
+	@Test
+	void submittedDynamicTestDescriptorsNotifyListenerOfEnclosingNode() {
+
+		var leafUniqueId = UniqueId.root("leaf", "child leaf");
+		var child = spy(new MyLeaf(leafUniqueId));
+		var dynamicTestDescriptor = spy(new MyLeaf(leafUniqueId.append("dynamic", "child")));
+		root.addChild(child);
+
+		var futureDone = new AtomicBoolean();
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			var future = executor.submit(dynamicTestDescriptor);
+			future.get();
+			futureDone.set(future.isDone());
+		}));
+
+		executor.execute();
+
+		var inOrder = inOrder(listener, dynamicTestDescriptor);
+		inOrder.verify(listener).dynamicTestRegistered(dynamicTestDescriptor);
+		inOrder.verify(listener).executionStarted(dynamicTestDescriptor);
+		inOrder.verify(dynamicTestDescriptor).execute(eq(rootContext), any());
+		inOrder.verify(listener).executionFinished(dynamicTestDescriptor, successful());
+		assertTrue(futureDone.get(), "future is done");
+	}
+
 	@ParameterizedTest
 	@EnumSource(ParallelExecutorServiceType.class)
 	@MockitoSettings(strictness = LENIENT)
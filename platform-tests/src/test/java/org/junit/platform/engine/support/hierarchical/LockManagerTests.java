@@ -11,13 +11,17 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_KEY;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
@@ -129,6 +133,127 @@ class LockManagerTests {
 				.isSameAs(lockManager.getLockForResource(ExclusiveResource.GLOBAL_READ_WRITE));
 	}
 
+	@Test
+	void reusesSameResourceLockForSameExclusiveResources() {
+		var lock1 = lockManager.getLockForResources(
+			Set.of(new ExclusiveResource("a", READ), new ExclusiveResource("b", READ_WRITE)));
+		var lock2 = lockManager.getLockForResources(
+			List.of(new ExclusiveResource("b", READ_WRITE), new ExclusiveResource("a", READ),
+				new ExclusiveResource("b", READ)));
+
+		assertThat(lock1).isInstanceOf(CompositeLock.class).isSameAs(lock2);
+		assertThat(lockManager.getLockForResource(new ExclusiveResource("a", READ))) //
+				.isSameAs(lockManager.getLockForResources(Set.of(new ExclusiveResource("a", READ))));
+	}
+
+	@Test
+	void countsContentionPerResourceKey() throws Exception {
+		var writeLock = lockManager.getLockForResource(new ExclusiveResource("a", READ_WRITE));
+		var compositeLock = lockManager.getLockForResources(
+			List.of(new ExclusiveResource("a", READ), new ExclusiveResource("b", READ)));
+		var readLock = lockManager.getLockForResource(new ExclusiveResource("b", READ));
+
+		assertThat(readLock.tryAcquire()).isTrue();
+		readLock.release();
+		assertThat(lockManager.getContentionCounts()).isEmpty();
+
+		var holder = new Thread(() -> {
+			assertThat(writeLock.tryAcquire()).isTrue();
+		});
+		holder.start();
+		holder.join();
+
+		assertThat(compositeLock.tryAcquire()).isFalse();
+		assertThat(writeLock.tryAcquire()).isFalse();
+		assertThat(lockManager.getContentionCounts()).containsExactly(entry("a", 2L));
+	}
+
+	@Test
+	void recordsStatisticsPerResourceKeyIfEnabled() throws Exception {
+		var lockManager = new LockManager(true);
+		var writeLock = lockManager.getLockForResource(new ExclusiveResource("a", READ_WRITE));
+		var compositeLock = lockManager.getLockForResources(
+			List.of(new ExclusiveResource("a", READ), new ExclusiveResource("b", READ)));
+
+		try (var ignored = writeLock.acquire()) {
+			Thread.sleep(10);
+		}
+		try (var ignored = compositeLock.acquire()) {
+			assertThat(writeLock.tryAcquire()).isFalse();
+		}
+
+		var statistics = lockManager.getStatistics();
+		assertThat(statistics).extracting(ResourceLockStatistics::getKey).containsExactly("a", "b");
+		assertThat(statistics.get(0).getAcquisitions()).isEqualTo(2);
+		assertThat(statistics.get(0).getContentions()).isEqualTo(1);
+		assertThat(statistics.get(0).getHoldTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+		assertThat(statistics.get(0).getWaitTime()).isZero();
+		assertThat(statistics.get(1).getAcquisitions()).isEqualTo(1);
+		assertThat(statistics.get(1).getContentions()).isZero();
+	}
+
+	@Test
+	void recordsWaitTimeAndQueueLengthIfEnabled() throws Exception {
+		var lockManager = new LockManager(true);
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", READ_WRITE));
+
+		var thread = new Thread(() -> {
+			try (var ignored = lock.acquire()) {
+				// nothing to do
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		try (var ignored = lock.acquire()) {
+			thread.start();
+			while (thread.getState() != Thread.State.WAITING) {
+				Thread.onSpinWait();
+			}
+			Thread.sleep(10);
+		}
+		thread.join();
+
+		var statistics = getOnlyElement(lockManager.getStatistics());
+		assertThat(statistics.getAcquisitions()).isEqualTo(2);
+		assertThat(statistics.getContentions()).isEqualTo(1);
+		assertThat(statistics.getMaxQueueLength()).isEqualTo(1);
+		assertThat(statistics.getWaitTime()).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+	}
+
+	@Test
+	void tracksPendingWaitTimeOfCurrentThreadIfEnabled() throws Exception {
+		var lockManager = new LockManager(true);
+		var lock = lockManager.getLockForResource(new ExclusiveResource("a", READ_WRITE));
+		var acquired = new CountDownLatch(1);
+
+		var holder = new Thread(() -> {
+			try (var ignored = lock.acquire()) {
+				acquired.countDown();
+				Thread.sleep(10);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		holder.start();
+		acquired.await();
+		try (var ignored = lock.acquire()) {
+			assertThat(lockManager.consumePendingWaitNanos()).isPositive();
+			assertThat(lockManager.consumePendingWaitNanos()).isZero();
+		}
+		holder.join();
+	}
+
+	@Test
+	void doesNotRecordTimingStatisticsByDefault() throws Exception {
+		try (var ignored = lockManager.getLockForResource(new ExclusiveResource("a", READ)).acquire()) {
+			// nothing to do
+		}
+
+		assertThat(lockManager.getStatistics()).isEmpty();
+	}
+
 	private Lock getSingleLock(String key, LockMode lockMode) {
 		return getLocks(Set.of(new ExclusiveResource(key, lockMode)), SingleLock.class).getFirst();
 	}
@@ -16,9 +16,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_EXECUTION_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
@@ -44,6 +46,7 @@ import java.net.URLClassLoader;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
@@ -126,6 +129,34 @@ record ParallelExecutionIntegrationTests(ParallelExecutorServiceType executorSer
 		assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
 	}
 
+	@Test
+	void publishesResourceLockStatisticsForEngineIfEnabled() {
+		var configParams = Map.of( //
+			DEFAULT_EXECUTION_MODE_PROPERTY_NAME, "concurrent", //
+			ResourceLockStatistics.ENABLED_PROPERTY_NAME, "true" //
+		);
+		var events = executeWithFixedParallelism(3, configParams, SuccessfulWithMethodLockTestCase.class) //
+				.allEvents() //
+				.assertStatistics(it -> it.failed(0));
+
+		var statistics = events.reportingEntryPublished() //
+				.filter(event -> event.getTestDescriptor().getParent().isEmpty()) //
+				.map(event -> event.getRequiredPayload(ReportEntry.class)) //
+				.map(ResourceLockStatistics::fromReportEntry) //
+				.flatMap(Optional::stream) //
+				.toList();
+
+		assertThat(statistics).extracting(ResourceLockStatistics::getKey) //
+				.containsExactly(GLOBAL_KEY, "sharedResource");
+		assertThat(statistics.get(1).getAcquisitions()).isEqualTo(3);
+		assertThat(events.reportingEntryPublished() //
+				.map(event -> event.getRequiredPayload(ReportEntry.class)) //
+				.map(ResourceLockStatistics::waitTimeFromReportEntry) //
+				.flatMap(Optional::stream)) //
+						.describedAs("wait times are only published per node if enabled separately") //
+						.isEmpty();
+	}
+
 	@Test
 	void successfulTestWithClassLock() {
 		var events = executeConcurrentlySuccessfully(3, SuccessfulWithClassLockTestCase.class).list();
@@ -243,6 +274,40 @@ record ParallelExecutionIntegrationTests(ParallelExecutorServiceType executorSer
 		assertThat(ThreadReporter.getThreadNames(getEventsOfChildren(results, testClassC))).hasSize(3);
 	}
 
+	@Test
+	void executesInvocationsInParallelIfEnabledViaConfigurationParameter() {
+		ParallelInvocationsTestCase.BARRIER.reset();
+
+		var configParams = Map.of(DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME, "concurrent");
+		var results = executeWithFixedParallelism(3, configParams, ParallelInvocationsTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(3));
+		assertThat(ThreadReporter.getThreadNames(results.testEvents().list())).hasSize(3);
+	}
+
+	@Test
+	void limitsNumberOfConcurrentInvocationsIfConfigured() {
+		LimitedParallelInvocationsTestCase.current.set(0);
+		LimitedParallelInvocationsTestCase.max.set(0);
+
+		var configParams = Map.of( //
+			DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME, "concurrent", //
+			PARALLEL_CONFIG_MAX_CONCURRENT_INVOCATIONS_PROPERTY_NAME, "2");
+		var results = executeWithFixedParallelism(4, configParams, LimitedParallelInvocationsTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(8));
+		assertThat(LimitedParallelInvocationsTestCase.max.get()).isBetween(1, 2);
+	}
+
+	@Test
+	void executesInvocationsOfTemplatesWithResourceLocksInSameThreadEvenIfEnabledViaConfigurationParameter() {
+		var configParams = Map.of(DEFAULT_INVOCATIONS_EXECUTION_MODE_PROPERTY_NAME, "concurrent");
+		var results = executeWithFixedParallelism(2, configParams, ConcurrentTemplateTestCase.class);
+
+		results.testEvents().assertStatistics(stats -> stats.succeeded(10));
+		assertThat(ThreadReporter.getThreadNames(results.testEvents().list())).hasSize(1);
+	}
+
 	@Test
 	void canRunTestsIsolatedFromEachOther() {
 		executeConcurrentlySuccessfully(2, IsolatedTestCase.class);
@@ -914,6 +979,34 @@ record ParallelExecutionIntegrationTests(ParallelExecutorServiceType executorSer
 		}
 	}
 
+	@ExtendWith(ThreadReporter.class)
+	static class ParallelInvocationsTestCase {
+
+		static final CyclicBarrier BARRIER = new CyclicBarrier(3);
+
+		@RepeatedTest(3)
+		void repeatedTest() throws Exception {
+			BARRIER.await();
+		}
+	}
+
+	static class LimitedParallelInvocationsTestCase {
+
+		static final AtomicInteger current = new AtomicInteger();
+		static final AtomicInteger max = new AtomicInteger();
+
+		@RepeatedTest(8)
+		void repeatedTest() throws Exception {
+			max.accumulateAndGet(current.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(50);
+			}
+			finally {
+				current.decrementAndGet();
+			}
+		}
+	}
+
 	@ExtendWith(ThreadReporter.class)
 	static abstract class BarrierTestCase {
 
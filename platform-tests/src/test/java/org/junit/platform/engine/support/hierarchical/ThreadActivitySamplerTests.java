@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.engine.support.hierarchical.ThreadActivitySampler.Activity.BLOCKED;
+import static org.junit.platform.engine.support.hierarchical.ThreadActivitySampler.Activity.RUNNING;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.SocketException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * @since 6.2
+ */
+@Timeout(10)
+class ThreadActivitySamplerTests {
+
+	final ThreadActivitySampler sampler = new ThreadActivitySampler();
+
+	@Test
+	void reportsRunnableThreadBlockedInNativeIoAsBlocked() throws Exception {
+		assumeTrue(sampler.isCpuTimeMeasurementSupported(), "CPU time measurement not supported");
+
+		try (var serverSocket = new ServerSocket(0)) {
+			var thread = new Thread(() -> {
+				try {
+					serverSocket.accept().close();
+				}
+				catch (SocketException expected) {
+					// socket closed
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			thread.start();
+			try {
+				awaitStackTraceContaining(thread, "accept");
+
+				sampler.sample(thread);
+				Thread.sleep(200);
+
+				assertThat(thread.getState()).isEqualTo(Thread.State.RUNNABLE);
+				assertThat(sampler.sample(thread)).isEqualTo(BLOCKED);
+			}
+			finally {
+				serverSocket.close();
+				thread.join();
+			}
+		}
+	}
+
+	@Test
+	void reportsThreadConsumingCpuAsRunning() throws Exception {
+		var started = new CountDownLatch(1);
+		var thread = new Thread(() -> {
+			started.countDown();
+			while (!Thread.currentThread().isInterrupted()) {
+				Thread.onSpinWait();
+			}
+		});
+		thread.start();
+		try {
+			started.await();
+
+			sampler.sample(thread);
+			Thread.sleep(200);
+
+			assertThat(sampler.sample(thread)).isEqualTo(RUNNING);
+		}
+		finally {
+			thread.interrupt();
+			thread.join();
+		}
+	}
+
+	@Test
+	void reportsWaitingThreadAsBlocked() throws Exception {
+		var release = new CountDownLatch(1);
+		var thread = new Thread(() -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException ignored) {
+			}
+		});
+		thread.start();
+		try {
+			while (thread.getState() != Thread.State.WAITING) {
+				Thread.sleep(10);
+			}
+
+			assertThat(sampler.sample(thread)).isEqualTo(BLOCKED);
+		}
+		finally {
+			release.countDown();
+			thread.join();
+		}
+	}
+
+	private static void awaitStackTraceContaining(Thread thread, String methodName) throws InterruptedException {
+		while (true) {
+			for (var element : thread.getStackTrace()) {
+				if (element.getMethodName().contains(methodName)) {
+					return;
+				}
+			}
+			Thread.sleep(10);
+		}
+	}
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.Future.State.SUCCESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
+import static org.junit.platform.commons.util.ExceptionUtils.throwAsUncheckedException;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory.ParallelExecutorServiceType;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * @since 6.2
+ */
+@SuppressWarnings("resource")
+@Timeout(5)
+class VirtualThreadHierarchicalTestExecutorServiceTests {
+
+	@AutoClose
+	@Nullable
+	VirtualThreadHierarchicalTestExecutorService service;
+
+	@ParameterizedTest
+	@EnumSource(ExecutionMode.class)
+	void executesSingleTaskOnVirtualThread(ExecutionMode executionMode) throws Exception {
+
+		var task = new TestTaskStub(executionMode);
+
+		var customClassLoader = new URLClassLoader(new URL[0], this.getClass().getClassLoader());
+		try (customClassLoader) {
+			service = new VirtualThreadHierarchicalTestExecutorService(configuration(1), customClassLoader);
+			service.submit(task).get();
+		}
+
+		task.assertExecutedSuccessfully();
+
+		var executionThread = task.executionThread();
+		assertThat(executionThread).isNotNull().isNotSameAs(Thread.currentThread());
+		assertThat(executionThread.isVirtual()).isTrue();
+		assertThat(executionThread.getName()).matches("junit-\\d+-virtual-1");
+		assertThat(executionThread.getContextClassLoader()).isSameAs(customClassLoader);
+	}
+
+	@Test
+	void invokeAllMustBeExecutedFromWithinExecutor() {
+		var tasks = List.of(new TestTaskStub(ExecutionMode.CONCURRENT));
+		service = new VirtualThreadHierarchicalTestExecutorService(configuration(1));
+
+		assertPreconditionViolationFor(() -> requiredService().invokeAll(tasks)) //
+				.withMessage("invokeAll() must be called from a virtual thread that belongs to this executor");
+	}
+
+	@Test
+	void executesSameThreadChildrenInThreadOfParent() throws Exception {
+		service = new VirtualThreadHierarchicalTestExecutorService(configuration(1));
+
+		var children = List.of(new TestTaskStub(ExecutionMode.SAME_THREAD),
+			new TestTaskStub(ExecutionMode.SAME_THREAD));
+		var root = new TestTaskStub(ExecutionMode.CONCURRENT, () -> requiredService().invokeAll(children));
+
+		service.submit(root).get();
+
+		root.assertExecutedSuccessfully();
+		assertThat(children).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+		assertThat(children).extracting(TestTaskStub::executionThread).containsOnly(root.executionThread());
+	}
+
+	@Test
+	void executesManyBlockingChildrenConcurrently() throws Exception {
+		var childCount = 500;
+		service = new VirtualThreadHierarchicalTestExecutorService(configuration(childCount));
+
+		var latch = new CountDownLatch(childCount);
+		Executable behavior = () -> {
+			latch.countDown();
+			latch.await();
+		};
+		var children = IntStream.range(0, childCount) //
+				.mapToObj(__ -> new TestTaskStub(ExecutionMode.CONCURRENT, behavior)) //
+				.toList();
+		var root = new TestTaskStub(ExecutionMode.CONCURRENT, () -> requiredService().invokeAll(children));
+
+		service.submit(root).get();
+
+		root.assertExecutedSuccessfully();
+		assertThat(children).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+		assertThat(children).extracting(TestTaskStub::executionThread).allMatch(Thread::isVirtual);
+	}
+
+	@Test
+	void executesMoreBlockingTasksConcurrentlyThanParallelismAndAvailableProcessors() throws Exception {
+		service = new VirtualThreadHierarchicalTestExecutorService(configuration(1));
+
+		var childCount = 2 * Runtime.getRuntime().availableProcessors() + 2;
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+		var allStarted = new CountDownLatch(childCount);
+		Executable behavior = () -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			allStarted.countDown();
+			// blocks without occupying a carrier thread
+			allStarted.await();
+			Thread.sleep(10);
+			running.decrementAndGet();
+		};
+		var children = IntStream.range(0, childCount) //
+				.mapToObj(__ -> new TestTaskStub(ExecutionMode.CONCURRENT, behavior)) //
+				.toList();
+		var root = new TestTaskStub(ExecutionMode.CONCURRENT, () -> requiredService().invokeAll(children));
+
+		service.submit(root).get();
+
+		root.assertExecutedSuccessfully();
+		assertThat(children).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+		assertThat(maxRunning).hasValue(childCount);
+	}
+
+	@Test
+	void executesChildrenWhileParentWaitsForThem() throws Exception {
+		service = new VirtualThreadHierarchicalTestExecutorService(configuration(1));
+
+		var leaves = List.of(new TestTaskStub(ExecutionMode.CONCURRENT), new TestTaskStub(ExecutionMode.CONCURRENT));
+		var container = new TestTaskStub(ExecutionMode.CONCURRENT, () -> requiredService().invokeAll(leaves));
+		var dynamicChild = new TestTaskStub(ExecutionMode.CONCURRENT);
+		var root = new TestTaskStub(ExecutionMode.CONCURRENT, () -> {
+			requiredService().invokeAll(List.of(container, new TestTaskStub(ExecutionMode.CONCURRENT)));
+			requiredService().submit(dynamicChild).get();
+		});
+
+		service.submit(root).get();
+
+		root.assertExecutedSuccessfully();
+		container.assertExecutedSuccessfully();
+		dynamicChild.assertExecutedSuccessfully();
+		assertThat(leaves).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+	}
+
+	@Test
+	void executesOtherTasksWhileBlockedOnResourceLock() throws Exception {
+		service = new VirtualThreadHierarchicalTestExecutorService(configuration(2));
+
+		var lock = new ReentrantLock();
+		var lockedChildCanFinish = new CountDownLatch(1);
+		var lockedChild1 = new TestTaskStub(ExecutionMode.CONCURRENT, lockedChildCanFinish::await) //
+				.withResourceLock(new SingleLock(exclusiveResource(), lock));
+		var lockedChild2 = new TestTaskStub(ExecutionMode.CONCURRENT, lockedChildCanFinish::await) //
+				.withResourceLock(new SingleLock(exclusiveResource(), lock));
+		var unlockedChild = new TestTaskStub(ExecutionMode.CONCURRENT, lockedChildCanFinish::countDown);
+		var children = List.of(lockedChild1, lockedChild2, unlockedChild);
+		var root = new TestTaskStub(ExecutionMode.CONCURRENT, () -> requiredService().invokeAll(children));
+
+		service.submit(root).get();
+
+		root.assertExecutedSuccessfully();
+		assertThat(children).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+	}
+
+	@Test
+	void isCreatedByFactory() {
+		var executorService = ParallelHierarchicalTestExecutorServiceFactory.create(
+			ParallelExecutorServiceType.VIRTUAL_THREADS, configuration(1));
+
+		try (executorService) {
+			assertThat(executorService).isInstanceOf(VirtualThreadHierarchicalTestExecutorService.class);
+		}
+	}
+
+	private static ExclusiveResource exclusiveResource() {
+		return new ExclusiveResource("key", LockMode.READ_WRITE);
+	}
+
+	private VirtualThreadHierarchicalTestExecutorService requiredService() {
+		return requireNonNull(service);
+	}
+
+	private static ParallelExecutionConfiguration configuration(int parallelism) {
+		return new DefaultParallelExecutionConfiguration(parallelism, parallelism, 256 + parallelism, parallelism, 0,
+			__ -> true);
+	}
+
+	@NullMarked
+	private static final class TestTaskStub implements TestTask {
+
+		private final ExecutionMode executionMode;
+		private final Executable behavior;
+
+		private ResourceLock resourceLock = NopLock.INSTANCE;
+
+		private final CompletableFuture<@Nullable Void> result = new CompletableFuture<>();
+		private volatile @Nullable Thread executionThread;
+
+		TestTaskStub(ExecutionMode executionMode) {
+			this(executionMode, () -> {
+			});
+		}
+
+		TestTaskStub(ExecutionMode executionMode, Executable behavior) {
+			this.executionMode = executionMode;
+			this.behavior = behavior;
+		}
+
+		TestTaskStub withResourceLock(ResourceLock resourceLock) {
+			this.resourceLock = resourceLock;
+			return this;
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return executionMode;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return resourceLock;
+		}
+
+		@Override
+		public TestDescriptor getTestDescriptor() {
+			return new TestDescriptorStub(UniqueId.root("root", "task"), "task");
+		}
+
+		@Override
+		public void execute() {
+			Preconditions.condition(!result.isDone(), "task was already executed");
+
+			executionThread = Thread.currentThread();
+			try {
+				behavior.execute();
+				result.complete(null);
+			}
+			catch (Throwable t) {
+				result.completeExceptionally(t);
+				throw throwAsUncheckedException(t);
+			}
+		}
+
+		void assertExecutedSuccessfully() {
+			if (result.isCompletedExceptionally()) {
+				throw new AssertionFailedError("Failure during execution", result.exceptionNow());
+			}
+			assertThat(result.state()).isEqualTo(SUCCESS);
+		}
+
+		@Nullable
+		Thread executionThread() {
+			return executionThread;
+		}
+	}
+
+}
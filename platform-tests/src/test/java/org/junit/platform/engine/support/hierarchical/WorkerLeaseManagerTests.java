@@ -51,4 +51,42 @@ class WorkerLeaseManagerTests {
 		lease.release();
 		assertThat(released.get()).isEqualTo(2);
 	}
+
+	@Test
+	void parallelismCanBeIncreased() {
+		var compensations = new AtomicInteger();
+		var manager = new WorkerLeaseManager(1, __ -> compensations.incrementAndGet());
+
+		assertThat(manager.tryAcquire()).isNotNull();
+		assertThat(manager.tryAcquire()).isNull();
+
+		manager.setParallelism(3);
+
+		assertThat(manager.parallelism()).isEqualTo(3);
+		assertThat(compensations.get()).isEqualTo(2);
+		assertThat(manager.tryAcquire()).isNotNull();
+		assertThat(manager.tryAcquire()).isNotNull();
+		assertThat(manager.tryAcquire()).isNull();
+	}
+
+	@Test
+	void decreasingParallelismTakesEffectOnceLeasesAreReleased() {
+		var manager = new WorkerLeaseManager(2, __ -> {
+		});
+
+		var lease1 = manager.tryAcquire();
+		var lease2 = manager.tryAcquire();
+		assertThat(lease1).isNotNull();
+		assertThat(lease2).isNotNull();
+
+		manager.setParallelism(1);
+		assertThat(manager.parallelism()).isEqualTo(1);
+
+		lease1.release();
+		assertThat(manager.tryAcquire()).isNull();
+
+		lease2.release();
+		assertThat(manager.tryAcquire()).isNotNull();
+		assertThat(manager.tryAcquire()).isNull();
+	}
 }
@@ -29,9 +29,11 @@ import static org.mockito.Mockito.when;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
@@ -54,6 +56,7 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.engine.support.hierarchical.WorkerThreadPoolHierarchicalTestExecutorService.WorkQueueType;
 import org.junit.platform.fakes.TestDescriptorStub;
 import org.opentest4j.AssertionFailedError;
 
@@ -755,6 +758,94 @@ class WorkerThreadPoolHierarchicalTestExecutorServiceTests {
 		assertThat(child1.executionThread).isEqualTo(leaf2a.executionThread);
 	}
 
+	@Test
+	void executesChildrenConcurrentlyUsingPerWorkerQueues() throws Exception {
+		service = new WorkerThreadPoolHierarchicalTestExecutorService(configuration(2), WorkQueueType.PER_WORKER);
+
+		var latch = new CountDownLatch(2);
+		Executable behavior = () -> {
+			latch.countDown();
+			latch.await();
+		};
+
+		var children = List.of(new TestTaskStub(ExecutionMode.CONCURRENT, behavior).withName("child1"),
+			new TestTaskStub(ExecutionMode.CONCURRENT, behavior).withName("child2"));
+		var root = new TestTaskStub(ExecutionMode.CONCURRENT, () -> requiredService().invokeAll(children)) //
+				.withName("root");
+
+		service.submit(root).get();
+
+		root.assertExecutedSuccessfully();
+		assertThat(children).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+		assertThat(children).extracting(TestTaskStub::executionThread).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void executesNestedChildrenWithConflictingLocksUsingPerWorkerQueues() throws Exception {
+		service = new WorkerThreadPoolHierarchicalTestExecutorService(configuration(4, 4), WorkQueueType.PER_WORKER);
+
+		var resourceLock = new SingleLock(exclusiveResource(LockMode.READ_WRITE), new ReentrantLock());
+		var leaves = new ArrayList<TestTaskStub>();
+		var containers = new ArrayList<TestTaskStub>();
+		for (int i = 0; i < 8; i++) {
+			var containerLeaves = new ArrayList<TestTaskStub>();
+			for (int j = 0; j < 16; j++) {
+				var leaf = new TestTaskStub(ExecutionMode.CONCURRENT).withName("leaf" + i + "-" + j).withLevel(3);
+				if (j % 4 == 0) {
+					leaf = leaf.withResourceLock(resourceLock);
+				}
+				containerLeaves.add(leaf);
+			}
+			leaves.addAll(containerLeaves);
+			containers.add(new TestTaskStub(ExecutionMode.CONCURRENT,
+				() -> requiredService().invokeAll(containerLeaves)) //
+						.withName("container" + i).withType(CONTAINER).withLevel(2));
+		}
+		var root = new TestTaskStub(ExecutionMode.SAME_THREAD, () -> requiredService().invokeAll(containers)) //
+				.withName("root");
+
+		service.submit(root).get();
+
+		root.assertExecutedSuccessfully();
+		assertThat(containers).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+		assertThat(leaves).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+	}
+
+	@Test
+	void executesChildrenWithLongestRecordedDurationFirst() throws Exception {
+		var executionOrder = Collections.synchronizedList(new ArrayList<String>());
+		var children = Stream.of("short", "unknown", "long", "medium") //
+				.map(name -> new TestTaskStub(ExecutionMode.CONCURRENT, () -> executionOrder.add(name)) //
+						.withName(name).withLevel(2)) //
+				.toList();
+		var durationHistory = new TestDurationHistory(Map.of( //
+			uniqueId(children.get(0)), 10L, //
+			uniqueId(children.get(2)), 1_000L, //
+			uniqueId(children.get(3)), 100L));
+		service = new WorkerThreadPoolHierarchicalTestExecutorService(configuration(1, 1),
+			getClass().getClassLoader(), WorkQueueType.SHARED, durationHistory);
+
+		var root = new TestTaskStub(ExecutionMode.SAME_THREAD, () -> requiredService().invokeAll(children)) //
+				.withName("root").withLevel(1);
+
+		service.submit(root).get();
+
+		root.assertExecutedSuccessfully();
+		assertThat(children).allSatisfy(TestTaskStub::assertExecutedSuccessfully);
+		assertThat(executionOrder).containsExactly("long", "medium", "short", "unknown");
+	}
+
+	private static String uniqueId(TestTask task) {
+		return task.getTestDescriptor().getUniqueId().toString();
+	}
+
+	@Test
+	void parsesWorkQueueType() {
+		assertThat(WorkQueueType.parse("shared")).isEqualTo(WorkQueueType.SHARED);
+		assertThat(WorkQueueType.parse("per-worker")).isEqualTo(WorkQueueType.PER_WORKER);
+		assertThat(WorkQueueType.parse("PER_WORKER")).isEqualTo(WorkQueueType.PER_WORKER);
+	}
+
 	private static ExclusiveResource exclusiveResource(LockMode lockMode) {
 		return new ExclusiveResource("key", lockMode);
 	}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
+import static org.junit.platform.launcher.LauncherConstants.COMPACT_TEST_PLAN_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.OutputDirectoryCreators.dummyOutputDirectoryCreator;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.fakes.TestDescriptorStub;
+
+/**
+ * @since 6.2
+ */
+class CompactTestPlanTests {
+
+	private final ConfigurationParameters configParams = mock();
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("foo"), "Foo");
+
+	@BeforeEach
+	void enableCompactTestPlan() {
+		when(configParams.getBoolean(COMPACT_TEST_PLAN_ENABLED_PROPERTY_NAME)).thenReturn(Optional.of(true));
+	}
+
+	@Test
+	void isUsedWhenEnabled() {
+		assertThat(createTestPlan()).isInstanceOf(CompactTestPlan.class);
+	}
+
+	@Test
+	void providesSameTreeAsDefaultTestPlan() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		engineDescriptor.addChild(container);
+		for (int i = 0; i < 500; i++) {
+			container.addChild(new TestDescriptorStub(container.getUniqueId().append("test", "t" + i), "Test " + i));
+		}
+		var otherEngineDescriptor = new EngineDescriptor(UniqueId.forEngine("baz"), "Baz");
+
+		var testPlan = createTestPlan(otherEngineDescriptor);
+		var defaultTestPlan = TestPlan.from(true, List.of(engineDescriptor, otherEngineDescriptor), mock(),
+			dummyOutputDirectoryCreator());
+
+		assertThat(testPlan.getRoots()).containsExactlyElementsOf(defaultTestPlan.getRoots());
+		var containerIdentifier = testPlan.getTestIdentifier(container.getUniqueId());
+		assertThat(testPlan.getChildren(containerIdentifier)) //
+				.containsExactlyElementsOf(defaultTestPlan.getChildren(containerIdentifier)) //
+				.hasSize(500);
+		assertThat(testPlan.getDescendants(TestIdentifier.from(engineDescriptor))) //
+				.containsExactlyElementsOf(defaultTestPlan.getDescendants(TestIdentifier.from(engineDescriptor)));
+		assertThat(testPlan.getParent(containerIdentifier)).contains(TestIdentifier.from(engineDescriptor));
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(500);
+		assertThat(((CompactTestPlan) testPlan).size()).isEqualTo(503);
+	}
+
+	@Test
+	void createsIdentifiersWithAllAttributes() {
+		var source = MethodSource.from("com.example.FooTests", "test");
+		var tags = Set.of(TestTag.create("fast"));
+		var test = new TaggedTestDescriptor(engineDescriptor.getUniqueId().append("test", "bar"), source, tags);
+		engineDescriptor.addChild(test);
+
+		var testPlan = createTestPlan();
+
+		var testIdentifier = testPlan.getTestIdentifier(test.getUniqueId());
+		assertThat(testIdentifier.getUniqueIdObject()).isEqualTo(test.getUniqueId());
+		assertThat(testIdentifier.getParentIdObject()).contains(engineDescriptor.getUniqueId());
+		assertThat(testIdentifier.getDisplayName()).isEqualTo("Bar");
+		assertThat(testIdentifier.getLegacyReportingName()).isEqualTo("legacy");
+		assertThat(testIdentifier.getSource()).contains(source);
+		assertThat(testIdentifier.getTags()).containsExactlyElementsOf(tags);
+		assertThat(testIdentifier.getType()).isEqualTo(TestDescriptor.Type.TEST);
+
+		var engineIdentifier = testPlan.getTestIdentifier(engineDescriptor.getUniqueId());
+		assertThat(engineIdentifier.getLegacyReportingName()).isEqualTo("Foo");
+		assertThat(engineIdentifier.getSource()).isEmpty();
+		assertThat(engineIdentifier.getTags()).isEmpty();
+	}
+
+	@Test
+	void treatsIdentifiersWithoutParentInTestPlanAsRoots() {
+		var testPlan = createTestPlan();
+		var detached = TestIdentifier.from(
+			new TestDescriptorStub(UniqueId.forEngine("suite").append("test", "bar"), "Bar") {
+				@Override
+				public Optional<TestDescriptor> getParent() {
+					return Optional.of(new EngineDescriptor(UniqueId.forEngine("suite"), "Suite"));
+				}
+			});
+
+		testPlan.addInternal(detached);
+
+		assertThat(testPlan.getRoots()).containsExactly(TestIdentifier.from(engineDescriptor), detached);
+		assertThat(testPlan.getTestIdentifier(detached.getUniqueIdObject()).getParentIdObject()) //
+				.contains(UniqueId.forEngine("suite"));
+	}
+
+	@Test
+	void removesSubtreesAndReusesTheirStorage() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		var test = new TestDescriptorStub(container.getUniqueId().append("test", "bar"), "Bar");
+		container.addChild(test);
+		engineDescriptor.addChild(container);
+		var sibling = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "baz"), "Baz");
+		engineDescriptor.addChild(sibling);
+		var testPlan = createTestPlan();
+
+		testPlan.removeInternal(container.getUniqueId());
+
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId())).containsExactly(TestIdentifier.from(sibling));
+		assertThat(testPlan.getChildren(container.getUniqueId())).isEmpty();
+		assertPreconditionViolationFor(() -> testPlan.getTestIdentifier(test.getUniqueId()));
+		assertThat(((CompactTestPlan) testPlan).size()).isEqualTo(2);
+
+		var dynamicTest = new TestDescriptorStub(engineDescriptor.getUniqueId().append("dynamic", "qux"), "Qux");
+		engineDescriptor.addChild(dynamicTest);
+		testPlan.addInternal(TestIdentifier.from(dynamicTest));
+
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId())) //
+				.containsExactly(TestIdentifier.from(sibling), TestIdentifier.from(dynamicTest));
+		assertThat(testPlan.getTestIdentifier(dynamicTest.getUniqueId()).getDisplayName()).isEqualTo("Qux");
+		assertThat(((CompactTestPlan) testPlan).size()).isEqualTo(3);
+	}
+
+	@Test
+	void keepsOrderOfRemainingSiblingsWhenRemovingFirstMiddleAndLastOnes() {
+		var tests = new ArrayList<TestDescriptor>();
+		for (int i = 0; i < 5; i++) {
+			var test = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "t" + i), "Test " + i);
+			engineDescriptor.addChild(test);
+			tests.add(test);
+		}
+		var otherEngineDescriptor = new EngineDescriptor(UniqueId.forEngine("baz"), "Baz");
+		var testPlan = createTestPlan(otherEngineDescriptor);
+
+		testPlan.removeInternal(tests.get(2).getUniqueId());
+		testPlan.removeInternal(tests.get(0).getUniqueId());
+		testPlan.removeInternal(tests.get(4).getUniqueId());
+
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId())) //
+				.containsExactly(TestIdentifier.from(tests.get(1)), TestIdentifier.from(tests.get(3)));
+
+		var appended = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "t5"), "Test 5");
+		engineDescriptor.addChild(appended);
+		testPlan.addInternal(TestIdentifier.from(appended));
+		testPlan.removeInternal(tests.get(1).getUniqueId());
+
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId())) //
+				.containsExactly(TestIdentifier.from(tests.get(3)), TestIdentifier.from(appended));
+
+		testPlan.removeInternal(engineDescriptor.getUniqueId());
+
+		assertThat(testPlan.getRoots()).containsExactly(TestIdentifier.from(otherEngineDescriptor));
+		assertThat(((CompactTestPlan) testPlan).size()).isEqualTo(1);
+	}
+
+	@Test
+	void ignoresIdentifiersThatHaveAlreadyBeenAdded() {
+		var test = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "bar"), "Bar");
+		engineDescriptor.addChild(test);
+		var testPlan = createTestPlan();
+
+		testPlan.addInternal(TestIdentifier.from(test));
+
+		assertThat(testPlan.getChildren(engineDescriptor.getUniqueId())).containsExactly(TestIdentifier.from(test));
+	}
+
+	private TestPlan createTestPlan(TestDescriptor... additionalEngineDescriptors) {
+		var engineDescriptors = new ArrayList<TestDescriptor>(List.of(engineDescriptor));
+		engineDescriptors.addAll(List.of(additionalEngineDescriptors));
+		return TestPlan.from(true, engineDescriptors, configParams, dummyOutputDirectoryCreator());
+	}
+
+	private static class TaggedTestDescriptor extends AbstractTestDescriptor {
+
+		private final Set<TestTag> tags;
+
+		TaggedTestDescriptor(UniqueId uniqueId, TestSource source, Set<TestTag> tags) {
+			super(uniqueId, "Bar", source);
+			this.tags = tags;
+		}
+
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+
+		@Override
+		public Set<TestTag> getTags() {
+			return this.tags;
+		}
+
+		@Override
+		public String getLegacyReportingName() {
+			return "legacy";
+		}
+	}
+
+}
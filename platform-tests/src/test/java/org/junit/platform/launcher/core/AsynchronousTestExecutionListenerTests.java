@@ -0,0 +1,297 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.MEMORY_CLEANUP_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener;
+
+/**
+ * @since 6.2
+ */
+class AsynchronousTestExecutionListenerTests {
+
+	@Test
+	void deliversEventsInPublicationOrderOnDispatcherThread() {
+		var listener = new RecordingListener();
+		var asyncListener = new AsynchronousTestExecutionListener(listener, 4);
+
+		var identifiers = IntStream.range(0, 100).mapToObj(AsynchronousTestExecutionListenerTests::identifier).toList();
+		for (var identifier : identifiers) {
+			asyncListener.executionStarted(identifier);
+			asyncListener.executionFinished(identifier, successful());
+		}
+		asyncListener.close();
+
+		var expected = new ArrayList<String>();
+		for (var identifier : identifiers) {
+			expected.add("started:" + identifier.getDisplayName());
+			expected.add("finished:" + identifier.getDisplayName());
+		}
+		assertThat(listener.events).containsExactlyElementsOf(expected);
+		assertThat(listener.threads).doesNotContain(Thread.currentThread()).hasSize(1);
+	}
+
+	@Test
+	void preservesOrderOfEventsPublishedByEachThread() throws Exception {
+		var listener = new RecordingListener();
+		var asyncListener = new AsynchronousTestExecutionListener(listener, 16);
+
+		int threadCount = 4;
+		int eventsPerThread = 1_000;
+		var startLatch = new CountDownLatch(1);
+		var threads = new ArrayList<Thread>();
+		for (int t = 0; t < threadCount; t++) {
+			var identifier = identifier(t);
+			var thread = new Thread(() -> {
+				try {
+					startLatch.await();
+				}
+				catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+				for (int i = 0; i < eventsPerThread; i++) {
+					asyncListener.reportingEntryPublished(identifier,
+						ReportEntry.from("index", String.valueOf(i)));
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		startLatch.countDown();
+		for (var thread : threads) {
+			thread.join(TimeUnit.SECONDS.toMillis(30));
+		}
+		asyncListener.close();
+
+		assertThat(listener.events).hasSize(threadCount * eventsPerThread);
+		for (int t = 0; t < threadCount; t++) {
+			var prefix = "entry:" + identifier(t).getDisplayName() + ":";
+			var indices = listener.events.stream() //
+					.filter(event -> event.startsWith(prefix)) //
+					.map(event -> Integer.valueOf(event.substring(prefix.length()))) //
+					.toList();
+			assertThat(indices).isSorted().hasSize(eventsPerThread);
+		}
+	}
+
+	@Test
+	void closeRethrowsUnrecoverableFailureAfterDeliveringRemainingEvents() {
+		var listener = new RecordingListener() {
+			@Override
+			public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+				throw new OutOfMemoryError(reason);
+			}
+		};
+		var asyncListener = new AsynchronousTestExecutionListener(listener, 8);
+		var identifier = identifier(0);
+
+		asyncListener.executionSkipped(identifier, "boom");
+		asyncListener.executionStarted(identifier);
+
+		assertThatThrownBy(asyncListener::close).isInstanceOf(OutOfMemoryError.class).hasMessage("boom");
+		assertThat(listener.events).containsExactly("started:" + identifier.getDisplayName());
+	}
+
+	@Test
+	void rejectsNonPositiveBufferSize() {
+		assertThatThrownBy(() -> new AsynchronousTestExecutionListener(new RecordingListener(), 0)) //
+				.isInstanceOf(PreconditionViolationException.class);
+	}
+
+	@Test
+	void ringBufferRoundsCapacityUpToPowerOfTwo() {
+		assertThat(new AsynchronousTestExecutionListener.RingBuffer<String>(1).capacity()).isEqualTo(2);
+		assertThat(new AsynchronousTestExecutionListener.RingBuffer<String>(5).capacity()).isEqualTo(8);
+		assertThat(new AsynchronousTestExecutionListener.RingBuffer<String>(8).capacity()).isEqualTo(8);
+	}
+
+	@Test
+	void ringBufferRejectsElementsWhenFullAndWrapsAround() {
+		var buffer = new AsynchronousTestExecutionListener.RingBuffer<String>(2);
+
+		assertThat(buffer.isEmpty()).isTrue();
+		assertThat(buffer.offer("a")).isTrue();
+		assertThat(buffer.offer("b")).isTrue();
+		assertThat(buffer.offer("c")).isFalse();
+
+		assertThat(buffer.poll()).isEqualTo("a");
+		assertThat(buffer.offer("c")).isTrue();
+		assertThat(buffer.poll()).isEqualTo("b");
+		assertThat(buffer.poll()).isEqualTo("c");
+		assertThat(buffer.poll()).isNull();
+		assertThat(buffer.isEmpty()).isTrue();
+	}
+
+	@Test
+	void launcherDeliversAllEventsBeforeReturningWhenEnabled() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		engine.addTest("test1", () -> {
+		});
+		engine.addTest("test2", () -> {
+		});
+		var listener = new RecordingListener();
+
+		var request = request() //
+				.selectors(selectUniqueId(engine.getEngineDescriptor().getUniqueId())) //
+				.configurationParameter(ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.listeners(listener) //
+				.build();
+		createLauncher(engine).execute(request);
+
+		assertThat(listener.events).startsWith("planStarted").endsWith("planFinished");
+		assertThat(listener.events).contains("finished:test1", "finished:test2");
+		assertThat(listener.threads).doesNotContain(Thread.currentThread());
+	}
+
+	@Test
+	void launcherNotifiesListenersRequiringSynchronousDispatchOnExecutingThread() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		engine.addTest("test", () -> {
+		});
+		var asynchronousListener = new RecordingListener();
+		var synchronousListener = new RecordingListener() {
+			@Override
+			public boolean requiresSynchronousDispatch() {
+				return true;
+			}
+		};
+
+		var request = request() //
+				.selectors(selectUniqueId(engine.getEngineDescriptor().getUniqueId())) //
+				.configurationParameter(ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.listeners(asynchronousListener, synchronousListener) //
+				.build();
+		createLauncher(engine).execute(request);
+
+		assertThat(synchronousListener.events).isEqualTo(asynchronousListener.events);
+		assertThat(synchronousListener.threads).containsExactly(Thread.currentThread());
+		assertThat(asynchronousListener.threads).doesNotContain(Thread.currentThread());
+	}
+
+	@Test
+	void reportingListenersAccessRemovedNodesOnlyAfterDeliveryWhenMemoryCleanupIsEnabled(@TempDir Path reportsDir)
+			throws Exception {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		int testCount = 50;
+		for (int i = 0; i < testCount; i++) {
+			engine.addTest("test" + i, () -> {
+			});
+		}
+		var slowListener = new TestExecutionListener() {
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				try {
+					Thread.sleep(5);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		var summaryListener = new SummaryGeneratingListener();
+		var out = new StringWriter();
+		var xmlListener = new LegacyXmlReportGeneratingListener(reportsDir, new PrintWriter(out));
+
+		var request = request() //
+				.selectors(selectUniqueId(engine.getEngineDescriptor().getUniqueId())) //
+				.configurationParameter(ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(MEMORY_CLEANUP_ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.listeners(slowListener, summaryListener, xmlListener) //
+				.build();
+		createLauncher(engine).execute(request);
+
+		var summary = summaryListener.getSummary();
+		assertThat(summary.getFailures()).isEmpty();
+		assertThat(summary.getTestsSucceededCount()).isEqualTo(testCount);
+		assertThat(out.toString()).isEmpty();
+		assertThat(Files.readString(reportsDir.resolve("TEST-engine.xml"))) //
+				.contains("tests=\"" + testCount + "\"", "name=\"test0\"", "name=\"test" + (testCount - 1) + "\"");
+	}
+
+	private static TestIdentifier identifier(int index) {
+		var uniqueId = UniqueId.root("test", String.valueOf(index));
+		return TestIdentifier.from(new TestDescriptorStub(uniqueId, "test" + index));
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = Collections.synchronizedList(new ArrayList<>());
+		final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			record("planStarted");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			record("planFinished");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			record("started:" + testIdentifier.getDisplayName());
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			record("finished:" + testIdentifier.getDisplayName());
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			record("entry:" + testIdentifier.getDisplayName() + ":" + entry.getKeyValuePairs().get("index"));
+		}
+
+		private void record(String event) {
+			events.add(event);
+			Thread currentThread = Thread.currentThread();
+			if (!threads.contains(currentThread)) {
+				threads.add(currentThread);
+			}
+		}
+	}
+
+}
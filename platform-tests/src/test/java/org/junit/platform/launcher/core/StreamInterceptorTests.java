@@ -119,4 +119,60 @@ class StreamInterceptorTests {
 
 		assertEquals("from non-test thread", streamInterceptor.consume().strip());
 	}
+
+	@Test
+	void spillsCapturedOutputExceedingThresholdToDisk() {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100,
+			4);
+		assertNotNull(streamInterceptor);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("before inner - ");
+		streamInterceptor.capture();
+		streamInterceptor.print("inner");
+		var inner = streamInterceptor.consume();
+		streamInterceptor.print("after inner");
+		var outer = streamInterceptor.consume();
+
+		assertAll(//
+			() -> assertEquals("inner", inner), //
+			() -> assertEquals("before inner - after inner", outer) //
+		);
+	}
+
+	@Test
+	void spillingRespectsMaximumNumberOfBytes() {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 10,
+			3);
+		assertNotNull(streamInterceptor);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("0123456789abcdef");
+
+		assertEquals("0123456789", streamInterceptor.consume());
+	}
+
+	@Test
+	void spillingRewindableOutputStreamRewindsAcrossBufferAndFile() {
+		var out = new StreamInterceptor.SpillingRewindableOutputStream(2);
+		try {
+			out.mark();
+			out.write("abc".getBytes(), 0, 3);
+			out.mark();
+			out.write('d');
+			out.write("efg".getBytes(), 0, 3);
+			out.mark();
+
+			assertAll(//
+				() -> assertEquals("", out.rewind()), //
+				() -> assertEquals("defg", out.rewind()), //
+				() -> assertEquals(3, out.size()), //
+				() -> assertEquals("abc", out.rewind()), //
+				() -> assertEquals(0, out.size()) //
+			);
+		}
+		finally {
+			out.close();
+		}
+	}
 }
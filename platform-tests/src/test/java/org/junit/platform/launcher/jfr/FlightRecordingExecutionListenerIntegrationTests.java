@@ -10,6 +10,8 @@
 
 package org.junit.platform.launcher.jfr;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.OutputDirectoryCreators.hierarchicalOutputDirectoryCreator;
@@ -26,7 +28,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestReporter;
 import org.junit.jupiter.api.extension.DisabledOnOpenJ9;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ResourceLockStatistics;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly;
 import org.moditect.jfrunit.EnableEvent;
 import org.moditect.jfrunit.JfrEventTest;
@@ -78,6 +84,48 @@ public class FlightRecordingExecutionListenerIntegrationTests {
 						.with("reason", "for demonstration purposes"));
 	}
 
+	@Test
+	@EnableEvent("org.junit.TestExecution")
+	void recordsEventsOnExecutingThreadWhenAsynchronousDispatchIsEnabled() {
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+		var request = request() //
+				.selectors(selectClass(TestCase.class)) //
+				.configurationParameter(LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.build();
+
+		launcher.execute(request);
+		jfrEvents.awaitEvents();
+
+		var threadNames = jfrEvents.events() //
+				.filter(event -> event.getEventType().getName().equals("org.junit.TestExecution")) //
+				.map(event -> event.getThread().getJavaName()) //
+				.distinct() //
+				.toList();
+		assertThat(threadNames).containsExactly(Thread.currentThread().getName());
+	}
+
+	@Test
+	@EnableEvent("org.junit.ResourceLockStatistics")
+	void reportsResourceLockStatistics() {
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+		var request = request() //
+				.selectors(selectClass(ResourceLockTestCase.class)) //
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(ResourceLockStatistics.ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.build();
+
+		launcher.execute(request);
+		jfrEvents.awaitEvents();
+
+		assertThat(jfrEvents) //
+				.contains(event("org.junit.ResourceLockStatistics") //
+						.with("key", "jfr")) //
+				.contains(event("org.junit.ResourceLockStatistics") //
+						.with("key", ExclusiveResource.GLOBAL_KEY));
+	}
+
 	static class TestCase {
 		@Test
 		void test(TestReporter reporter) {
@@ -90,4 +138,11 @@ public class FlightRecordingExecutionListenerIntegrationTests {
 		void skipped() {
 		}
 	}
+
+	static class ResourceLockTestCase {
+		@Test
+		@ResourceLock("jfr")
+		void test() {
+		}
+	}
 }
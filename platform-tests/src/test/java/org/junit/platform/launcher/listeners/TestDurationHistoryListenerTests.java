@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+import static org.junit.platform.launcher.listeners.TestDurationHistoryListener.HISTORY_FILE_PROPERTY_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.TestDurationHistory;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * @since 6.2
+ */
+class TestDurationHistoryListenerTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writesDurationsOfExecutedTestsAndContainers() throws Exception {
+		var historyFile = tempDir.resolve("history.txt");
+		var engine = new DemoHierarchicalTestEngine("engine");
+		var test = engine.addTest("test", () -> sleep(20));
+
+		execute(engine, test, historyFile);
+
+		var history = readHistory(historyFile);
+		assertThat(history).containsOnlyKeys(engine.getEngineDescriptor().getUniqueId().toString(),
+			test.getUniqueId().toString());
+		assertThat(history.get(test.getUniqueId().toString())).isGreaterThanOrEqualTo(20);
+	}
+
+	@Test
+	void measuresDurationsOnExecutingThreadWhenAsynchronousDispatchIsEnabled() throws Exception {
+		var historyFile = tempDir.resolve("history.txt");
+		var engine = new DemoHierarchicalTestEngine("engine");
+		var test = engine.addTest("test", () -> sleep(100));
+		// Delays delivery of all subsequent events on the dispatcher thread so
+		// that durations measured there would be close to zero
+		var delayingListener = new TestExecutionListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				if (testIdentifier.isTest()) {
+					sleep(500);
+				}
+			}
+		};
+		var listener = new TestDurationHistoryListener();
+
+		createLauncher(engine).execute(request() //
+				.selectors(selectUniqueId(test.getUniqueId())) //
+				.configurationParameter(HISTORY_FILE_PROPERTY_NAME, historyFile.toString()) //
+				.configurationParameter(ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.listeners(delayingListener, listener) //
+				.build());
+
+		assertThat(readHistory(historyFile).get(test.getUniqueId().toString())) //
+				.isGreaterThanOrEqualTo(100) //
+				.isLessThan(500);
+	}
+
+	@Test
+	void retainsDurationsOfTestsThatWereNotExecuted() throws Exception {
+		var historyFile = tempDir.resolve("history.txt");
+		Files.write(historyFile, List.of("1234\t[engine:other]/[test:other]", "not a duration"), UTF_8);
+		var engine = new DemoHierarchicalTestEngine("engine");
+		var test = engine.addTest("test", () -> {
+		});
+
+		execute(engine, test, historyFile);
+
+		var history = readHistory(historyFile);
+		assertThat(history).containsEntry("[engine:other]/[test:other]", 1234L);
+		assertThat(history).containsKey(test.getUniqueId().toString());
+	}
+
+	@Test
+	void doesNotWriteHistoryUnlessConfigured() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		var test = engine.addTest("test", () -> {
+		});
+
+		var listener = new TestDurationHistoryListener();
+		createLauncher(engine).execute(request().selectors(selectUniqueId(test.getUniqueId())).forExecution() //
+				.listeners(listener).build());
+
+		assertThat(tempDir).isEmptyDirectory();
+	}
+
+	private static void execute(DemoHierarchicalTestEngine engine, TestDescriptor test, Path historyFile) {
+		var request = request() //
+				.selectors(selectUniqueId(test.getUniqueId())) //
+				.configurationParameter(HISTORY_FILE_PROPERTY_NAME, historyFile.toString()) //
+				.forExecution() //
+				.listeners(new TestDurationHistoryListener()) //
+				.build();
+		createLauncher(engine).execute(request);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Map<String, Long> readHistory(Path historyFile) throws Exception {
+		return TestDurationHistory.readDurations(historyFile);
+	}
+
+}
@@ -423,17 +423,68 @@ class LegacyXmlReportGeneratingListenerTests {
 					"Report Entry #2 (timestamp: " + Year.now(), "- bar: baz\n", "- qux: foo\n");
 	}
 
+	@Test
+	void writesSeparateFileForEachTopLevelContainerInStreamingMode() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		var container1 = engine.addContainer("com.example.First", "First", null);
+		container1.addChild(new DemoHierarchicalTestDescriptor(container1.getUniqueId().append("test", "test1"),
+			"test1", (_, _) -> {
+			}));
+		var container2 = engine.addContainer("com.example.Second", "Second", null);
+		container2.addChild(new DemoHierarchicalTestDescriptor(container2.getUniqueId().append("test", "test2"),
+			"test2", (_, _) -> fail("expected")));
+		engine.addTest("topLevelTest", () -> {
+		});
+
+		executeTests(engine, Clock.systemDefaultZone(), true);
+
+		var first = readValidXmlFile(tempDirectory.resolve("TEST-dummy-com.example.First.xml"));
+		assertThat(first.attr("name")).isEqualTo("First");
+		assertThat(first.attr("tests", int.class)).isEqualTo(1);
+		assertThat(first.child("testcase").attr("name")).isEqualTo("test1");
+
+		var second = readValidXmlFile(tempDirectory.resolve("TEST-dummy-com.example.Second.xml"));
+		assertThat(second.attr("tests", int.class)).isEqualTo(1);
+		assertThat(second.attr("failures", int.class)).isEqualTo(1);
+		assertThat(second.child("testcase").attr("name")).isEqualTo("test2");
+
+		var root = readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml"));
+		assertThat(root.attr("tests", int.class)).isEqualTo(1);
+		assertThat(root.child("testcase").attr("name")).isEqualTo("topLevelTest");
+	}
+
+	@Test
+	void doesNotWriteRootFileInStreamingModeIfAllTestsWereReportedSeparately() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		var container = engine.addContainer("some/container", "container", null);
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "test"), "test",
+			(_, _) -> {
+			}));
+
+		executeTests(engine, Clock.systemDefaultZone(), true);
+
+		var testsuite = readValidXmlFile(tempDirectory.resolve("TEST-dummy-some_container.xml"));
+		assertThat(testsuite.attr("tests", int.class)).isEqualTo(1);
+		assertThat(tempDirectory.resolve("TEST-dummy.xml")).doesNotExist();
+	}
+
 	private void executeTests(TestEngine engine) {
 		executeTests(engine, Clock.systemDefaultZone());
 	}
 
 	private void executeTests(TestEngine engine, Clock clock) {
+		executeTests(engine, clock, false);
+	}
+
+	private void executeTests(TestEngine engine, Clock clock, boolean streaming) {
 		var out = new PrintWriter(new StringWriter());
 		var reportListener = new LegacyXmlReportGeneratingListener(tempDirectory.toString(), out, clock);
 		var launcher = createLauncher(engine);
 		launcher.registerTestExecutionListeners(reportListener);
 		var request = request() //
 				.configurationParameter(LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME, "false") //
+				.configurationParameter(LegacyXmlReportGeneratingListener.STREAMING_ENABLED_PROPERTY_NAME,
+					String.valueOf(streaming)) //
 				.selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))) //
 				.forExecution() //
 				.build();
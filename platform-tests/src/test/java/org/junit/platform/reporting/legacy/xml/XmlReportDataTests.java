@@ -22,6 +22,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.launcher.TestPlan;
@@ -77,4 +78,26 @@ class XmlReportDataTests {
 		assertThat(results).containsExactly(successful());
 	}
 
+	@Test
+	void evictedTestIdentifierHasNoRecordedData() {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var childUniqueId = UniqueId.root("child", "test");
+		engineDescriptor.addChild(new TestDescriptorStub(childUniqueId, "test"));
+		var testPlan = TestPlan.from(true, Set.of(engineDescriptor), configParams, dummyOutputDirectoryCreator());
+
+		var reportData = new XmlReportData(testPlan, Clock.systemDefaultZone());
+		var testIdentifier = testPlan.getTestIdentifier(childUniqueId);
+		reportData.markStarted(testIdentifier);
+		reportData.addReportEntry(testIdentifier, ReportEntry.from("key", "value"));
+		reportData.markSkipped(testIdentifier, "reason");
+		reportData.markFinished(testIdentifier, successful());
+
+		reportData.evict(testIdentifier);
+
+		assertThat(reportData.getResults(testIdentifier)).isEmpty();
+		assertThat(reportData.getReportEntries(testIdentifier)).isEmpty();
+		assertThat(reportData.wasSkipped(testIdentifier)).isFalse();
+		assertThat(reportData.getDurationInSeconds(testIdentifier)).isZero();
+	}
+
 }
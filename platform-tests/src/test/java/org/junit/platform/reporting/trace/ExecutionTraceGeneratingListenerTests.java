@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.trace;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+import static org.junit.platform.reporting.trace.ExecutionTraceGeneratingListener.ENABLED_PROPERTY_NAME;
+import static org.junit.platform.reporting.trace.ExecutionTraceGeneratingListener.FILE_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+
+/**
+ * Tests for {@link ExecutionTraceGeneratingListener}.
+ *
+ * @since 6.2
+ */
+class ExecutionTraceGeneratingListenerTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writesCompleteEventsForTestsAndContainers() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("succeedingTest", "display \"quoted\" name", () -> {
+		});
+		engine.addTest("skippedTest", () -> {
+		}).markSkipped("for demonstration purposes");
+
+		executeTests(engine, Map.of(ENABLED_PROPERTY_NAME, "true"));
+
+		var lines = Files.readAllLines(tempDir.resolve(FILE_NAME), UTF_8);
+		assertThat(lines.getFirst()).isEqualTo("[");
+		assertThat(lines.getLast()).isEqualTo("]");
+		assertThat(lines) //
+				.anySatisfy(line -> assertThat(line) //
+						.contains("\"name\":\"process_name\"")) //
+				.anySatisfy(line -> assertThat(line) //
+						.contains("\"name\":\"thread_name\"") //
+						.contains("\"name\":\"" + Thread.currentThread().getName() + "\"")) //
+				.anySatisfy(line -> assertThat(line) //
+						.startsWith("{\"name\":\"display \\\"quoted\\\" name\",\"cat\":\"test\",\"ph\":\"X\"") //
+						.contains("\"result\":\"SUCCESSFUL\"")) //
+				.anySatisfy(line -> assertThat(line) //
+						.startsWith("{\"name\":\"dummy\",\"cat\":\"container\",\"ph\":\"X\"") //
+						.contains("\"uniqueId\":\"[engine:dummy]\"")) //
+				.anySatisfy(line -> assertThat(line) //
+						.startsWith("{\"name\":\"skippedTest\",\"cat\":\"skipped\",\"ph\":\"i\"") //
+						.contains("\"reason\":\"for demonstration purposes\""));
+		assertThat(lines.subList(1, lines.size() - 2)).allMatch(line -> line.endsWith("},"));
+		assertThat(lines.get(lines.size() - 2)).endsWith("}");
+	}
+
+	@Test
+	void attributesEventsToExecutingThreadWhenAsynchronousDispatchIsEnabled() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("succeedingTest", () -> {
+		});
+
+		executeTests(engine,
+			Map.of(ENABLED_PROPERTY_NAME, "true", ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME, "true"));
+
+		var threadNames = Files.readAllLines(tempDir.resolve(FILE_NAME), UTF_8).stream() //
+				.filter(line -> line.contains("\"name\":\"thread_name\"")) //
+				.toList();
+		assertThat(threadNames).singleElement().asString() //
+				.contains("\"name\":\"" + Thread.currentThread().getName() + "\"");
+	}
+
+	@Test
+	void writesEventForTimeSpentWaitingForResourceLocks() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("waitingTest", "waitingTest",
+			(context, descriptor) -> context.request().getEngineExecutionListener().reportingEntryPublished(
+				descriptor, ReportEntry.from("junit.resourceLock.nodeWaitTime", "PT0.25S")));
+
+		executeTests(engine, Map.of(ENABLED_PROPERTY_NAME, "true"));
+
+		var lines = Files.readAllLines(tempDir.resolve(FILE_NAME), UTF_8);
+		assertThat(lines) //
+				.anySatisfy(line -> assertThat(line) //
+						.startsWith("{\"name\":\"Waiting for resource locks\",\"cat\":\"lock\",\"ph\":\"X\"") //
+						.contains("\"dur\":250000,") //
+						.contains("\"uniqueId\":\"[engine:dummy]/[test:waitingTest]\""));
+	}
+
+	@Test
+	void doesNotWriteTraceUnlessEnabled() {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("succeedingTest", () -> {
+		});
+
+		executeTests(engine, Map.of());
+
+		assertThat(tempDir.resolve(FILE_NAME)).doesNotExist();
+	}
+
+	private void executeTests(TestEngine engine, Map<String, String> configurationParameters) {
+		var request = request() //
+				.selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))) //
+				.enableImplicitConfigurationParameters(false) //
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, tempDir.toString()) //
+				.configurationParameters(configurationParameters) //
+				.forExecution() //
+				.listeners(new ExecutionTraceGeneratingListener()) //
+				.build();
+		createLauncher(engine).execute(request);
+	}
+
+}